@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -54,6 +54,8 @@ public class CUCorrectionProposalCore extends ChangeCorrectionProposalCore imple
 
 	private ICompilationUnit fCompilationUnit;
 	private ICUCorrectionProposal fCUProposal;
+	/** The preview, computed once from the shared text change. */
+	private String fPreview;
 
 	/**
 	 * Constructs a correction proposal working on a compilation unit with a given text change.
@@ -127,6 +129,8 @@ public class CUCorrectionProposalCore extends ChangeCorrectionProposalCore imple
 
 	@Override
 	public Object getAdditionalProposalInfo(IProgressMonitor monitor) {
+		if (fPreview != null)
+			return fPreview;
 		StringBuffer buf= new StringBuffer();
 		try {
 			TextChange change= fCUProposal.getTextChange();
@@ -138,8 +142,10 @@ public class CUCorrectionProposalCore extends ChangeCorrectionProposalCore imple
 			ea.unchangedUntil(previewDocument.getLength()); // Final pre-existing region
 		} catch (CoreException e) {
 			JavaManipulationPlugin.log(e);
+			return buf.toString();
 		}
-		return buf.toString();
+		fPreview= buf.toString();
+		return fPreview;
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2018 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,8 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite;
 
+import org.eclipse.jdt.internal.core.manipulation.dom.CorrectionContextCache;
+
 /**
  * Gives access to the import rewrite configured with the settings as specified in the user interface.
  * These settings are kept in JDT UI for compatibility reasons.
@@ -96,37 +98,53 @@ public class CodeStyleConfiguration {
 	 * @see ImportRewrite#create(CompilationUnit, boolean)
 	 */
 	public static ImportRewrite createImportRewrite(CompilationUnit astRoot, boolean restoreExistingImports) {
-		return configureImportRewrite(ImportRewrite.create(astRoot, restoreExistingImports));
+		ImportRewrite rewrite= ImportRewrite.create(astRoot, restoreExistingImports);
+		// all proposals of a quick fix invocation share the settings read for their AST
+		ImportRewriteSettings settings= CorrectionContextCache.get(astRoot, "importRewriteSettings", rewrite.getCompilationUnit().getJavaProject(), ImportRewriteSettings::new); //$NON-NLS-1$
+		return settings.configure(rewrite);
 	}
 
 	private static ImportRewrite configureImportRewrite(ImportRewrite rewrite) {
-		IJavaProject project= rewrite.getCompilationUnit().getJavaProject();
-		String order= JavaManipulation.getPreference(ORGIMPORTS_IMPORTORDER, project);
-		if (order.endsWith(";")) { //$NON-NLS-1$
-			order= order.substring(0, order.length() - 1);
+		return new ImportRewriteSettings(rewrite.getCompilationUnit().getJavaProject()).configure(rewrite);
+	}
+
+	/**
+	 * The import rewrite settings of a project.
+	 */
+	private static final class ImportRewriteSettings {
+		private final String[] fImportOrder;
+		private final int fOnDemandThreshold;
+		private final int fStaticOnDemandThreshold;
+
+		ImportRewriteSettings(IJavaProject project) {
+			String order= JavaManipulation.getPreference(ORGIMPORTS_IMPORTORDER, project);
+			if (order.endsWith(";")) { //$NON-NLS-1$
+				order= order.substring(0, order.length() - 1);
+			}
+			fImportOrder= SEMICOLON_PATTERN.split(order, -1);
+			fOnDemandThreshold= getThreshold(JavaManipulation.getPreference(ORGIMPORTS_ONDEMANDTHRESHOLD, project));
+			fStaticOnDemandThreshold= getThreshold(JavaManipulation.getPreference(ORGIMPORTS_STATIC_ONDEMANDTHRESHOLD, project));
 		}
-		String[] split= SEMICOLON_PATTERN.split(order, -1);
-		rewrite.setImportOrder(split);
-
-		String thres= JavaManipulation.getPreference(ORGIMPORTS_ONDEMANDTHRESHOLD, project);
-		try {
-			int num= Integer.parseInt(thres);
-			if (num == 0)
-				num= 1;
-			rewrite.setOnDemandImportThreshold(num);
-		} catch (NumberFormatException e) {
-			// ignore
+
+		private static int getThreshold(String thres) {
+			try {
+				int num= Integer.parseInt(thres);
+				if (num == 0)
+					num= 1;
+				return num;
+			} catch (NumberFormatException e) {
+				return -1; // ignore
+			}
 		}
-		String thresStatic= JavaManipulation.getPreference(ORGIMPORTS_STATIC_ONDEMANDTHRESHOLD, project);
-		try {
-			int num= Integer.parseInt(thresStatic);
-			if (num == 0)
-				num= 1;
-			rewrite.setStaticOnDemandImportThreshold(num);
-		} catch (NumberFormatException e) {
-			// ignore
+
+		ImportRewrite configure(ImportRewrite rewrite) {
+			rewrite.setImportOrder(fImportOrder.clone());
+			if (fOnDemandThreshold != -1)
+				rewrite.setOnDemandImportThreshold(fOnDemandThreshold);
+			if (fStaticOnDemandThreshold != -1)
+				rewrite.setStaticOnDemandImportThreshold(fStaticOnDemandThreshold);
+			return rewrite;
 		}
-		return rewrite;
 	}
 
 }
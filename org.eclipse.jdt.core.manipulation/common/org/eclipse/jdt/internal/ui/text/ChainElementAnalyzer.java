@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2011, 2019 Stefan Henss and others.
+ * Copyright (c) 2011, 2026 Stefan Henss and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,11 +12,11 @@ package org.eclipse.jdt.internal.ui.text;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.eclipse.jdt.core.CompletionContext;
@@ -34,7 +34,7 @@ import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
 public final class ChainElementAnalyzer {
 
-	private static final Map<String, IType> typeCache= new HashMap<>();
+	private static final Map<String, IType> typeCache= new ConcurrentHashMap<>();
 
 	private static final Predicate<IField> NON_STATIC_FIELDS_ONLY_FILTER = t -> {
 		try {
@@ -81,23 +81,61 @@ public final class ChainElementAnalyzer {
 
     public static Collection<IJavaElement> findVisibleInstanceFieldsAndRelevantInstanceMethods(final ChainType type,
             final ChainType receiverType) {
-        return findFieldsAndMethods(type, receiverType, NON_STATIC_FIELDS_ONLY_FILTER,
+        return findFieldsAndMethods(findAllSupertypesIncludingArgument(type), receiverType, NON_STATIC_FIELDS_ONLY_FILTER,
                 RELEVANT_NON_STATIC_METHODS_ONLY_FILTER);
     }
 
     public static Collection<IJavaElement> findAllPublicStaticFieldsAndNonVoidNonPrimitiveStaticMethods(
             final ChainType type, final ChainType receiverType) {
-        return findFieldsAndMethods(type, receiverType, STATIC_FIELDS_ONLY_FILTER,
+        return findFieldsAndMethods(findAllSupertypesIncludingArgument(type), receiverType, STATIC_FIELDS_ONLY_FILTER,
                 STATIC_NON_VOID_NON_PRIMITIVE_METHODS_ONLY_FILTER);
     }
 
-    private static Collection<IJavaElement> findFieldsAndMethods(final ChainType type, final ChainType receiverType,
+    /**
+     * Returns the fields and methods of the given type and its supertypes that can be chain
+     * elements, regardless of their visibility.
+     *
+     * @param type the type
+     * @param staticOnly whether to return the static or the instance members
+     * @return the fields and methods, see {@link #isVisible(IJavaElement, IType)}
+     */
+    public static Collection<IJavaElement> findFieldsAndMethods(final ChainType type, final boolean staticOnly) {
+        return findFieldsAndMethods(findAllSupertypesIncludingArgument(type), staticOnly);
+    }
+
+    /**
+     * Returns the fields and methods of the given types that can be chain elements, regardless
+     * of their visibility.
+     *
+     * @param supertypes a type and its supertypes, see {@link #findAllSupertypesIncludingArgument(ChainType)}
+     * @param staticOnly whether to return the static or the instance members
+     * @return the fields and methods
+     */
+    static Collection<IJavaElement> findFieldsAndMethods(final List<IType> supertypes, final boolean staticOnly) {
+        return staticOnly
+                ? findFieldsAndMethods(supertypes, null, STATIC_FIELDS_ONLY_FILTER, STATIC_NON_VOID_NON_PRIMITIVE_METHODS_ONLY_FILTER)
+                : findFieldsAndMethods(supertypes, null, NON_STATIC_FIELDS_ONLY_FILTER, RELEVANT_NON_STATIC_METHODS_ONLY_FILTER);
+    }
+
+    /**
+     * @param member a field or method
+     * @param invocationType the type in which the member is accessed
+     * @return whether the member can be seen by the invocation type
+     */
+    public static boolean isVisible(final IJavaElement member, final IType invocationType) {
+        if (member instanceof IMethod) {
+            return methodCanBeSeenBy((IMethod) member, invocationType);
+        }
+        return fieldCanBeSeenBy((IField) member, invocationType);
+    }
+
+    private static Collection<IJavaElement> findFieldsAndMethods(final List<IType> supertypes, final ChainType receiverType,
             final Predicate<IField> fieldFilter, final Predicate<IMethod> methodFilter) {
         final Map<String, IJavaElement> tmp = new LinkedHashMap<>();
-        for (final IType cur : findAllSupertypesIncludingArgument(type)) {
+        for (final IType cur : supertypes) {
             try {
 				for (final IMethod method : cur.getMethods()) {
-				    if (!methodFilter.test(method) || !methodCanBeSeenBy(method, receiverType.getType())) {
+				    if (!methodFilter.test(method) || receiverType != null && !methodCanBeSeenBy(method, receiverType.getType())) {
 				        continue;
 				    }
 				    final String key = method.getKey();
@@ -110,7 +148,7 @@ public final class ChainElementAnalyzer {
 			}
             try {
 				for (final IField field : cur.getFields()) {
-				    if (!fieldFilter.test(field) || !fieldCanBeSeenBy(field, receiverType.getType())) {
+				    if (!fieldFilter.test(field) || receiverType != null && !fieldCanBeSeenBy(field, receiverType.getType())) {
 				        continue;
 				    }
 				    final String key = field.getKey();
@@ -125,7 +163,11 @@ public final class ChainElementAnalyzer {
         return tmp.values();
     }
 
-    private static List<IType> findAllSupertypesIncludingArgument(final ChainType type) {
+    /**
+     * @param type the type
+     * @return the type and all its supertypes, empty for a primitive type
+     */
+    static List<IType> findAllSupertypesIncludingArgument(final ChainType type) {
         if ((type.getPrimitiveType() != null)) {
             return Collections.emptyList();
         }
@@ -293,7 +335,7 @@ public final class ChainElementAnalyzer {
 			if (resType != null) {
 				String fqExpectedType= JavaModelUtil.concatenateName(resType[0][0], resType[0][1]);
 				res= proj.findType(fqExpectedType);
-				if (isResolved) {
+				if (isResolved && res != null) {
 					typeCache.put(typeSig, res);
 				}
 				return res;
@@ -408,6 +450,13 @@ public final class ChainElementAnalyzer {
 		return false;
 	}
 
+	/**
+	 * Clears the cache of resolved type signatures.
+	 */
+	static void clearTypeCache() {
+		typeCache.clear();
+	}
+
 	public static boolean isPrimitive (String typeSig) {
 		String elementType= Signature.getElementType(typeSig);
 		int kind= Signature.getTypeSignatureKind(elementType);
@@ -11,11 +11,19 @@
  */
 package org.eclipse.jdt.internal.ui.text;
 
-import java.util.Collection;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IType;
@@ -24,19 +32,30 @@ import org.eclipse.jdt.internal.ui.text.ChainElement.ElementType;
 
 public class ChainFinder {
 
+	private static final int MAX_QUEUE_SIZE= 50000;
+
+	private static final int MAX_THREADS= 4;
+
+	private static ExecutorService fgExecutor;
+
 	private final List<ChainType> expectedTypes;
 
 	private final List<String> excludedTypes;
 
 	private final IType receiverType;
 
-	private final List<Chain> chains= new LinkedList<>();
+	/**
+	 * The chains found from each entry point, in the order of the expected types and entry points.
+	 */
+	private final List<Bucket> buckets= new ArrayList<>();
+
+	private int maxChains= Integer.MAX_VALUE;
 
-	private final Map<IJavaElement, ChainElement> edgeCache= new HashMap<>();
+	private final ChainMemberGraph graph= ChainMemberGraph.getDefault();
 
-	private final Map<String, List<IJavaElement>> fieldsAndMethodsCache= new HashMap<>();
+	private final Map<String, List<IJavaElement>> visibleMembersCache= new ConcurrentHashMap<>();
 
-	private final Map<String, Boolean> assignableCache= new HashMap<>();
+	private final Map<String, List<IJavaElement>> visibleStaticMembersCache= new ConcurrentHashMap<>();
 
 	private volatile boolean isCanceled;
 
@@ -49,6 +68,8 @@ public class ChainFinder {
 
 	public void startChainSearch(final List<ChainElement> entrypoints, final int maxChains, final int minDepth,
 			final int maxDepth) {
+		this.maxChains= maxChains;
+		int group= 0;
 		for (final ChainType expected : expectedTypes) {
 			if (expected != null && !ChainFinder.isFromExcludedType(excludedTypes, expected)) {
 				ChainType expectedType= expected;
@@ -56,7 +77,7 @@ public class ChainFinder {
 				if (expectedType.getDimension() > 0) {
 					expectedDimension= expectedType.getDimension();
 				}
-				searchChainsForExpectedType(expectedType, expectedDimension, entrypoints, maxChains, minDepth,
+				searchChainsForExpectedType(group++, expectedType, expectedDimension, entrypoints, maxChains, minDepth,
 						maxDepth);
 			}
 		}
@@ -66,8 +87,41 @@ public class ChainFinder {
 		isCanceled= true;
 	}
 
-	private void searchChainsForExpectedType(final ChainType expectedType, final int expectedDimensions,
+	/**
+	 * Searches the chains starting at each entry point concurrently. The search from each entry
+	 * point is breadth-first, and {@link #getChains()} orders the chains by length, so the result
+	 * is the same as for a single breadth-first search from all entry points.
+	 */
+	private void searchChainsForExpectedType(final int group, final ChainType expectedType, final int expectedDimensions,
 			final List<ChainElement> entrypoints, final int maxChains, final int minDepth, final int maxDepth) {
+		if (entrypoints.size() <= 1) {
+			searchChains(expectedType, expectedDimensions, entrypoints, maxChains, minDepth, maxDepth, MAX_QUEUE_SIZE, newBucket(group));
+			return;
+		}
+
+		final int maxQueueSize= Math.max(1000, MAX_QUEUE_SIZE / entrypoints.size());
+		final List<Future<?>> futures= new ArrayList<>(entrypoints.size());
+		for (final ChainElement entrypoint : entrypoints) {
+			final Bucket bucket= newBucket(group);
+			futures.add(getExecutor().submit(() -> searchChains(expectedType, expectedDimensions,
+					Collections.singletonList(entrypoint), maxChains, minDepth, maxDepth, maxQueueSize, bucket)));
+		}
+		for (final Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				cancel();
+				Thread.currentThread().interrupt();
+				return;
+			} catch (ExecutionException e) {
+				// the other entry points may still find chains
+			}
+		}
+	}
+
+	private void searchChains(final ChainType expectedType, final int expectedDimensions,
+			final List<ChainElement> entrypoints, final int maxChains, final int minDepth, final int maxDepth,
+			final int maxQueueSize, final Bucket bucket) {
 		final LinkedList<LinkedList<ChainElement>> incompleteChains= prepareQueue(entrypoints);
 
 		while (!incompleteChains.isEmpty() && !isCanceled) {
@@ -75,27 +129,97 @@ public class ChainFinder {
 			final ChainElement edge= chain.getLast();
 			if (isValidEndOfChain(edge, expectedType, expectedDimensions)) {
 				if (chain.size() >= minDepth) {
-					chains.add(new Chain(chain, expectedDimensions));
-					if (chains.size() == maxChains) {
+					if (!bucket.add(new Chain(chain, expectedDimensions), maxChains)) {
 						break;
 					}
 				}
 				continue;
 			}
-			if (chain.size() < maxDepth && incompleteChains.size() <= 50000) {
+			if (chain.size() < maxDepth && incompleteChains.size() <= maxQueueSize) {
 				searchDeeper(chain, incompleteChains, edge.getReturnType());
 			}
 		}
 	}
 
+	private Bucket newBucket(final int group) {
+		final Bucket bucket= new Bucket(group);
+		synchronized (buckets) {
+			buckets.add(bucket);
+		}
+		return bucket;
+	}
+
 	/**
 	 * Returns the potentially incomplete list of call chains that could be found before a time out
-	 * happened. The contents of this list are mutable and may change as the search makes progress.
+	 * happened. The search may still find more chains after this method returned.
 	 *
-	 * @return The list of call chains
+	 * @return A copy of the list of call chains, shortest chains first for each expected type
 	 */
 	public List<Chain> getChains() {
-		return chains;
+		final List<Chain> result= new ArrayList<>();
+		final List<Chain> group= new ArrayList<>();
+		int groupIndex= -1;
+		synchronized (buckets) {
+			for (final Bucket bucket : buckets) {
+				if (bucket.group != groupIndex) {
+					addShortestFirst(group, result);
+					groupIndex= bucket.group;
+				}
+				bucket.copyTo(group);
+			}
+		}
+		addShortestFirst(group, result);
+		return result.size() > maxChains ? new ArrayList<>(result.subList(0, maxChains)) : result;
+	}
+
+	private static void addShortestFirst(final List<Chain> group, final List<Chain> result) {
+		group.sort(Comparator.comparingInt(chain -> chain.getElements().size()));
+		result.addAll(group);
+		group.clear();
+	}
+
+	/**
+	 * The chains found from one entry point for one expected type.
+	 */
+	private static final class Bucket {
+		final int group;
+
+		private final List<Chain> chains= new ArrayList<>();
+
+		Bucket(final int group) {
+			this.group= group;
+		}
+
+		/**
+		 * Adds a chain unless the maximum number of chains has been found.
+		 *
+		 * @return <code>true</code> if more chains can be added
+		 */
+		synchronized boolean add(final Chain chain, final int maxChains) {
+			if (chains.size() >= maxChains) {
+				return false;
+			}
+			chains.add(chain);
+			return chains.size() < maxChains;
+		}
+
+		synchronized void copyTo(final List<Chain> list) {
+			list.addAll(chains);
+		}
+	}
+
+	private static synchronized ExecutorService getExecutor() {
+		if (fgExecutor == null) {
+			int threads= Math.max(2, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+			ThreadPoolExecutor executor= new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread= new Thread(runnable, "Chain Completion Search"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			executor.allowCoreThreadTimeOut(true);
+			fgExecutor= executor;
+		}
+		return fgExecutor;
 	}
 
 	private static LinkedList<LinkedList<ChainElement>> prepareQueue(final List<ChainElement> entrypoints) {
@@ -134,12 +258,7 @@ public class ChainFinder {
 		if (expectedType.getPrimitiveType() != null) {
 			return expectedType.getPrimitiveType().equals(edge.getReturnType().getPrimitiveType());
 		}
-		Boolean isAssignable= assignableCache.get(edge.toString() + expectedType.toString());
-		if (isAssignable == null) {
-			isAssignable= ChainElementAnalyzer.isAssignable(edge, expectedType.getType(), expectedDimension);
-			assignableCache.put(edge.toString() + expectedType.toString(), isAssignable);
-		}
-		return isAssignable.booleanValue();
+		return graph.isAssignable(edge, expectedType.getType(), expectedDimension);
 	}
 
 	private void searchDeeper(final LinkedList<ChainElement> chain,
@@ -158,29 +277,22 @@ public class ChainFinder {
 	}
 
 	private List<IJavaElement> findAllFieldsAndMethods(final ChainType chainElementType, boolean staticOnly) {
-		List<IJavaElement> cached= fieldsAndMethodsCache.get(chainElementType.toString() + Boolean.toString(staticOnly));
+		Map<String, List<IJavaElement>> cache= staticOnly ? visibleStaticMembersCache : visibleMembersCache;
+		List<IJavaElement> cached= cache.get(chainElementType.toString());
 		if (cached == null) {
-			cached= new LinkedList<>();
-			Collection<IJavaElement> candidates= staticOnly
-					? ChainElementAnalyzer.findAllPublicStaticFieldsAndNonVoidNonPrimitiveStaticMethods(chainElementType, new ChainType(receiverType))
-					: ChainElementAnalyzer.findVisibleInstanceFieldsAndRelevantInstanceMethods(chainElementType, new ChainType(receiverType));
-			for (final IJavaElement e : candidates) {
-				if (!ChainFinder.isFromExcludedType(excludedTypes, e)) {
+			cached= new ArrayList<>();
+			for (final IJavaElement e : graph.getMembers(chainElementType, staticOnly)) {
+				if (ChainElementAnalyzer.isVisible(e, receiverType) && !ChainFinder.isFromExcludedType(excludedTypes, e)) {
 					cached.add(e);
 				}
 			}
-			fieldsAndMethodsCache.put(chainElementType.toString() + Boolean.toString(staticOnly), cached);
+			cache.put(chainElementType.toString(), cached);
 		}
 		return cached;
 	}
 
 	private ChainElement createEdge(final IJavaElement member) {
-		ChainElement cached= edgeCache.get(member);
-		if (cached == null) {
-			cached= new ChainElement(member, false);
-			edgeCache.put(member, cached);
-		}
-		return cached;
+		return graph.getEdge(member);
 	}
 
 	private static LinkedList<ChainElement> cloneChainAndAppendEdge(final LinkedList<ChainElement> chain,
@@ -0,0 +1,331 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * The graph explored by chain completion: for each type, the fields and methods that can
+ * extend a chain, the chain element of each member with its resolved result type, and the
+ * assignability of result types to expected types.
+ * <p>
+ * The graph is shared by all chain completion invocations of the session and can be used
+ * from several threads. The members and chain elements computed from a type are dropped when
+ * the type changes, also in a reconciled working copy. The assignability of types is dropped
+ * when the supertypes of a type may have changed.
+ * </p>
+ */
+public final class ChainMemberGraph {
+
+	private static ChainMemberGraph fgDefault;
+
+	/**
+	 * Returns the shared graph.
+	 *
+	 * @return the shared graph
+	 */
+	public static synchronized ChainMemberGraph getDefault() {
+		if (fgDefault == null) {
+			fgDefault= new ChainMemberGraph();
+			JavaCore.addElementChangedListener(fgDefault.fListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Releases the shared graph, if it has been created.
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			JavaCore.removeElementChangedListener(fgDefault.fListener);
+			fgDefault= null;
+		}
+	}
+
+	private static final class MembersKey {
+		private final String fType;
+		private final boolean fStaticOnly;
+
+		MembersKey(ChainType type, boolean staticOnly) {
+			fType= type.getType() != null ? type.getType().getHandleIdentifier() : type.getPrimitiveType();
+			fStaticOnly= staticOnly;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(fType) * 31 + (fStaticOnly ? 1 : 0);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof MembersKey))
+				return false;
+			MembersKey other= (MembersKey) obj;
+			return fStaticOnly == other.fStaticOnly && Objects.equals(fType, other.fType);
+		}
+	}
+
+	private static final class AssignabilityKey {
+		private final IType fType;
+		private final int fDimension;
+		private final IType fExpectedType;
+		private final int fExpectedDimension;
+
+		AssignabilityKey(IType type, int dimension, IType expectedType, int expectedDimension) {
+			fType= type;
+			fDimension= dimension;
+			fExpectedType= expectedType;
+			fExpectedDimension= expectedDimension;
+		}
+
+		@Override
+		public int hashCode() {
+			return ((fType.hashCode() * 31 + fDimension) * 31 + fExpectedType.hashCode()) * 31 + fExpectedDimension;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof AssignabilityKey))
+				return false;
+			AssignabilityKey other= (AssignabilityKey) obj;
+			return fDimension == other.fDimension && fExpectedDimension == other.fExpectedDimension
+					&& fType.equals(other.fType) && fExpectedType.equals(other.fExpectedType);
+		}
+	}
+
+	private final Map<MembersKey, List<IJavaElement>> fMembers= new ConcurrentHashMap<>();
+
+	private final Map<IJavaElement, ChainElement> fEdges= new ConcurrentHashMap<>();
+
+	private final Map<AssignabilityKey, Boolean> fAssignable= new ConcurrentHashMap<>();
+
+	/**
+	 * The keys of the member lists and the members whose chain elements have been computed
+	 * from each type.
+	 */
+	private final Map<IType, Set<Object>> fDependents= new ConcurrentHashMap<>();
+
+	/** Incremented whenever values are dropped, so that values computed meanwhile are not added. */
+	private final AtomicLong fGeneration= new AtomicLong();
+
+	private final IElementChangedListener fListener= event -> invalidate(event.getDelta());
+
+	private ChainMemberGraph() {
+	}
+
+	/**
+	 * Returns the fields and methods of the given type and its supertypes that can extend a
+	 * chain, regardless of their visibility.
+	 *
+	 * @param type the type
+	 * @param staticOnly whether to return the static or the instance members
+	 * @return the members, must not be modified
+	 */
+	public List<IJavaElement> getMembers(ChainType type, boolean staticOnly) {
+		MembersKey key= new MembersKey(type, staticOnly);
+		List<IJavaElement> members= fMembers.get(key);
+		if (members == null) {
+			long generation= fGeneration.get();
+			List<IType> supertypes= ChainElementAnalyzer.findAllSupertypesIncludingArgument(type);
+			members= Collections.unmodifiableList(new ArrayList<>(ChainElementAnalyzer.findFieldsAndMethods(supertypes, staticOnly)));
+			for (IType supertype : supertypes)
+				addDependent(supertype, key);
+			fMembers.put(key, members);
+			if (generation != fGeneration.get())
+				fMembers.remove(key); // computed while a type changed
+		}
+		return members;
+	}
+
+	/**
+	 * Returns the chain element for the given member.
+	 *
+	 * @param member a field or method
+	 * @return the chain element
+	 */
+	public ChainElement getEdge(IJavaElement member) {
+		ChainElement edge= fEdges.get(member);
+		if (edge == null) {
+			long generation= fGeneration.get();
+			edge= new ChainElement(member, false);
+			IType declaringType= member instanceof IMember ? ((IMember) member).getDeclaringType() : null;
+			if (declaringType != null) {
+				addDependent(declaringType, member);
+				fEdges.put(member, edge);
+				if (generation != fGeneration.get())
+					fEdges.remove(member); // computed while a type changed
+			}
+		}
+		return edge;
+	}
+
+	/**
+	 * Returns whether the result of the given chain element can be assigned to the expected
+	 * type. See {@link ChainElementAnalyzer#isAssignable(ChainElement, IType, int)}.
+	 *
+	 * @param edge the chain element, its return type must not be primitive
+	 * @param expectedType the expected type
+	 * @param expectedDimension the expected array dimension
+	 * @return whether the result of the element is assignable to the expected type
+	 */
+	public boolean isAssignable(ChainElement edge, IType expectedType, int expectedDimension) {
+		IType type= edge.getReturnType().getType();
+		if (type == null || expectedType == null)
+			return ChainElementAnalyzer.isAssignable(edge, expectedType, expectedDimension);
+
+		AssignabilityKey key= new AssignabilityKey(type, edge.getReturnTypeDimension(), expectedType, expectedDimension);
+		Boolean isAssignable= fAssignable.get(key);
+		if (isAssignable == null) {
+			isAssignable= Boolean.valueOf(ChainElementAnalyzer.isAssignable(edge, expectedType, expectedDimension));
+			fAssignable.put(key, isAssignable);
+		}
+		return isAssignable.booleanValue();
+	}
+
+	private void addDependent(IType type, Object dependent) {
+		fDependents.computeIfAbsent(type, t -> ConcurrentHashMap.newKeySet()).add(dependent);
+	}
+
+	/**
+	 * Clears the graph.
+	 */
+	public void clear() {
+		fGeneration.incrementAndGet();
+		fMembers.clear();
+		fEdges.clear();
+		fAssignable.clear();
+		fDependents.clear();
+		ChainElementAnalyzer.clearTypeCache();
+	}
+
+	/**
+	 * Drops the values computed from the types described by the given delta.
+	 *
+	 * @param delta the delta
+	 */
+	private void invalidate(IJavaElementDelta delta) {
+		Set<IType> changedTypes= new HashSet<>();
+		Set<IJavaElement> changedContainers= new HashSet<>();
+		boolean hierarchyChanged= collectChanged(delta, changedTypes, changedContainers);
+		if (changedTypes.isEmpty() && changedContainers.isEmpty())
+			return;
+
+		fGeneration.incrementAndGet();
+		for (IType type : changedTypes)
+			removeDependents(fDependents.remove(type));
+		if (!changedContainers.isEmpty()) {
+			for (Iterator<Map.Entry<IType, Set<Object>>> iter= fDependents.entrySet().iterator(); iter.hasNext();) {
+				Map.Entry<IType, Set<Object>> entry= iter.next();
+				if (isInside(entry.getKey(), changedContainers)) {
+					iter.remove();
+					removeDependents(entry.getValue());
+				}
+			}
+		}
+		if (hierarchyChanged) {
+			fAssignable.clear();
+			ChainElementAnalyzer.clearTypeCache();
+		}
+	}
+
+	private void removeDependents(Set<Object> dependents) {
+		if (dependents == null)
+			return;
+		for (Object dependent : dependents) {
+			if (dependent instanceof MembersKey)
+				fMembers.remove(dependent);
+			else
+				fEdges.remove(dependent);
+		}
+	}
+
+	private static boolean isInside(IJavaElement element, Set<IJavaElement> containers) {
+		for (IJavaElement ancestor= element; ancestor != null; ancestor= ancestor.getParent()) {
+			if (containers.contains(ancestor))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Collects the changed elements of the given delta. Types that have changed themselves or
+	 * whose members have changed are looked up directly. Elements whose changes are not
+	 * described by their children, e.g. removed types or compilation units changed on disk,
+	 * are containers: all types inside of them have changed.
+	 *
+	 * @param delta the delta
+	 * @param changedTypes the changed types
+	 * @param changedContainers the elements all of whose types have changed
+	 * @return whether the supertypes of a type or the resolution of type names may have changed
+	 */
+	private static boolean collectChanged(IJavaElementDelta delta, Set<IType> changedTypes, Set<IJavaElement> changedContainers) {
+		IJavaElement element= delta.getElement();
+		int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.TYPE:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					changedContainers.add(element);
+					return true;
+				}
+				changedTypes.add((IType) element);
+				boolean superTypesChanged= (flags & IJavaElementDelta.F_SUPER_TYPES) != 0;
+				return collectChangedChildren(delta, changedTypes, changedContainers) || superTypesChanged;
+			case IJavaElement.FIELD:
+			case IJavaElement.METHOD:
+			case IJavaElement.INITIALIZER:
+				// described by the delta of the declaring type, but may contain local and anonymous types
+				return collectChangedChildren(delta, changedTypes, changedContainers);
+			case IJavaElement.PACKAGE_DECLARATION:
+			case IJavaElement.IMPORT_CONTAINER:
+			case IJavaElement.IMPORT_DECLARATION:
+				// changes how the type names of the compilation unit are resolved
+				IJavaElement unit= element.getAncestor(IJavaElement.COMPILATION_UNIT);
+				changedContainers.add(unit != null ? unit : element.getParent());
+				return true;
+			default:
+				int ownFlags= flags & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_FINE_GRAINED | IJavaElementDelta.F_AST_AFFECTED);
+				if ((flags & IJavaElementDelta.F_FINE_GRAINED) != 0)
+					ownFlags&= ~IJavaElementDelta.F_CONTENT;
+				if (delta.getKind() != IJavaElementDelta.CHANGED || ownFlags != 0) {
+					changedContainers.add(element);
+					return true;
+				}
+				return collectChangedChildren(delta, changedTypes, changedContainers);
+		}
+	}
+
+	private static boolean collectChangedChildren(IJavaElementDelta delta, Set<IType> changedTypes, Set<IJavaElement> changedContainers) {
+		boolean hierarchyChanged= false;
+		for (IJavaElementDelta child : delta.getAffectedChildren())
+			hierarchyChanged|= collectChanged(child, changedTypes, changedContainers);
+		return hierarchyChanged;
+	}
+}
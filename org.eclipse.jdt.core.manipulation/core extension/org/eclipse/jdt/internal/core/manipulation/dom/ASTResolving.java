@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -109,7 +109,7 @@ public class ASTResolving {
 		if ((((i))).equals(((("a"))))) {
 			return Bindings.normalizeTypeBinding(null);
 		}
-		return Bindings.normalizeTypeBinding(getPossibleReferenceBinding(node));
+		return CorrectionContextCache.get(node, "guessBindingForReference", node, n -> Bindings.normalizeTypeBinding(getPossibleReferenceBinding(n))); //$NON-NLS-1$
 	}
 
 	private static ITypeBinding getPossibleReferenceBinding(ASTNode node) {
@@ -906,9 +906,12 @@ public class ASTResolving {
 	}
 
 	public static String[] getUsedVariableNames(ASTNode node) {
-		CompilationUnit root= (CompilationUnit) node.getRoot();
-		Collection<String> res= (new ScopeAnalyzer(root)).getUsedVariableNames(node.getStartPosition(), node.getLength());
-		return res.toArray(new String[res.size()]);
+		String[] names= CorrectionContextCache.get(node, "getUsedVariableNames", node, n -> { //$NON-NLS-1$
+			CompilationUnit root= (CompilationUnit) n.getRoot();
+			Collection<String> res= (new ScopeAnalyzer(root)).getUsedVariableNames(n.getStartPosition(), n.getLength());
+			return res.toArray(new String[res.size()]);
+		});
+		return names.clone();
 	}
 
 	private static boolean isVariableDefinedInContext(IBinding binding, ITypeBinding typeVariable) {
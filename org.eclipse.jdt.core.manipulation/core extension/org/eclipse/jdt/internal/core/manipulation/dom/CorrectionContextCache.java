@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation.dom;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+
+/**
+ * Values computed from an AST that are shared by all quick fix and quick assist proposals
+ * created in one invocation, e.g. the bindings guessed for a node or the import rewrite settings.
+ * <p>
+ * An invocation is started with {@link #begin()} and ended with {@link #end()} on the thread
+ * collecting the proposals. The values are only cached in between, and only for that thread.
+ * The ASTs must not be modified during an invocation, which holds for proposals since they
+ * describe their changes with an <code>ASTRewrite</code>. Outside of an invocation, the values
+ * are computed on every call.
+ * </p>
+ */
+public final class CorrectionContextCache {
+
+	private static final ThreadLocal<CorrectionContextCache> fgCurrent= new ThreadLocal<>();
+
+	private static final Object NULL= new Object();
+
+	/** The values by AST root and computation */
+	private final Map<ASTNode, Map<String, Map<Object, Object>>> fValues= new IdentityHashMap<>();
+
+	private int fDepth;
+
+	private CorrectionContextCache() {
+	}
+
+	/**
+	 * Starts an invocation on the current thread. Invocations can be nested, the values are kept
+	 * until the outermost invocation ends. Each call must be followed by a call to {@link #end()}.
+	 */
+	public static void begin() {
+		CorrectionContextCache cache= fgCurrent.get();
+		if (cache == null) {
+			cache= new CorrectionContextCache();
+			fgCurrent.set(cache);
+		}
+		cache.fDepth++;
+	}
+
+	/**
+	 * Ends an invocation started with {@link #begin()} on the current thread.
+	 */
+	public static void end() {
+		CorrectionContextCache cache= fgCurrent.get();
+		if (cache != null && --cache.fDepth == 0)
+			fgCurrent.remove();
+	}
+
+	/**
+	 * Returns the cached value for the given key, computing it if needed.
+	 *
+	 * @param node a node of the AST the value is computed from
+	 * @param cacheName the name of the computation
+	 * @param key the key, nodes are compared by identity
+	 * @param function the computation, must not modify the AST
+	 * @return the value, can be <code>null</code>
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> V get(ASTNode node, String cacheName, K key, Function<K, V> function) {
+		CorrectionContextCache cache= fgCurrent.get();
+		if (cache == null)
+			return function.apply(key);
+
+		Map<String, Map<Object, Object>> rootValues= cache.fValues.computeIfAbsent(node.getRoot(), root -> new HashMap<>());
+		Map<Object, Object> values= rootValues.computeIfAbsent(cacheName, name -> new HashMap<>());
+		Object value= values.get(key);
+		if (value != null)
+			return value == NULL ? null : (V) value;
+
+		V computed= function.apply(key);
+		values.put(key, computed == null ? NULL : computed);
+		return computed;
+	}
+}
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.internal.core.manipulation.search;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -68,6 +69,8 @@ public class OccurrencesFinder extends ASTVisitor implements IOccurrencesFinder
 
 	private boolean fTargetIsStaticMethodImport;
 
+	private OccurrencesIndex fIndex;
+
 	private String fReadDescription;
 	private String fWriteDescription;
 
@@ -75,6 +78,17 @@ public class OccurrencesFinder extends ASTVisitor implements IOccurrencesFinder
 		super(true);
 	}
 
+	/**
+	 * Creates a finder that answers queries from the given index if it was built for the AST
+	 * the finder is initialized with.
+	 *
+	 * @param index the occurrences index, can be <code>null</code>
+	 */
+	public OccurrencesFinder(OccurrencesIndex index) {
+		this();
+		fIndex= index;
+	}
+
 	@Override
 	public String initialize(CompilationUnit root, int offset, int length) {
 		return initialize(root, NodeFinder.perform(root, offset, length));
@@ -99,12 +113,28 @@ public class OccurrencesFinder extends ASTVisitor implements IOccurrencesFinder
 
 	private void performSearch() {
 		if (fResult == null) {
+			if (canUseIndex()) {
+				OccurrenceLocation[] locations= fIndex.getOccurrences(fTarget, fReadDescription, fWriteDescription);
+				fResult= locations != null ? Arrays.asList(locations) : new ArrayList<>();
+				return;
+			}
 			fResult= new ArrayList<>();
 			fWriteUsages= new HashSet<>();
 			fRoot.accept(this);
 		}
 	}
 
+	/**
+	 * Static methods are also matched by name in static imports, which the index doesn't record.
+	 *
+	 * @return <code>true</code> if the occurrences can be taken from the index
+	 */
+	private boolean canUseIndex() {
+		if (fIndex == null || fIndex.getASTRoot() != fRoot || fTarget.getKey() == null || fTargetIsStaticMethodImport)
+			return false;
+		return !(fTarget instanceof IMethodBinding && Modifier.isStatic(fTarget.getModifiers()));
+	}
+
 	@Override
 	public OccurrenceLocation[] getOccurrences() {
 		performSearch();
@@ -300,7 +330,7 @@ public class OccurrencesFinder extends ASTVisitor implements IOccurrencesFinder
 		return null;
 	}
 
-	private IBinding getBindingDeclaration(IBinding binding) {
+	static IBinding getBindingDeclaration(IBinding binding) {
 		switch (binding.getKind()) {
 			case IBinding.TYPE :
 				return ((ITypeBinding)binding).getTypeDeclaration();
@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Assignment;
+import org.eclipse.jdt.core.dom.ClassInstanceCreation;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.FieldAccess;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.NameQualifiedType;
+import org.eclipse.jdt.core.dom.ParameterizedType;
+import org.eclipse.jdt.core.dom.PostfixExpression;
+import org.eclipse.jdt.core.dom.PrefixExpression;
+import org.eclipse.jdt.core.dom.PrefixExpression.Operator;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SimpleType;
+import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+
+/**
+ * The name occurrences of all bindings in a compilation unit, keyed by the binding key of the
+ * binding's declaration.
+ * <p>
+ * The index is built with one pass over the AST and records the same occurrences as the
+ * {@link OccurrencesFinder} would for each binding, so that the finder can answer a query by
+ * a lookup instead of visiting the whole AST again. Occurrences that the finder only matches
+ * by name (static method imports) are not indexed, the finder visits the AST for those.
+ * </p>
+ * <p>
+ * The index is immutable once built and can be shared between threads.
+ * </p>
+ */
+public final class OccurrencesIndex {
+
+	/**
+	 * Offset, length and write flag of each occurrence of a binding.
+	 */
+	private static final class Occurrences {
+		int[] fData= new int[6];
+		int fSize;
+
+		void add(int offset, int length, boolean isWrite) {
+			if (fSize + 3 > fData.length)
+				fData= Arrays.copyOf(fData, fData.length * 2);
+			fData[fSize++]= offset;
+			fData[fSize++]= length;
+			fData[fSize++]= isWrite ? 1 : 0;
+		}
+	}
+
+	private final CompilationUnit fRoot;
+	private final Map<String, Occurrences> fOccurrences;
+
+	private OccurrencesIndex(CompilationUnit root, Map<String, Occurrences> occurrences) {
+		fRoot= root;
+		fOccurrences= occurrences;
+	}
+
+	/**
+	 * Builds the index for the given AST.
+	 *
+	 * @param root the AST, must have bindings
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @return the index
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	public static OccurrencesIndex build(CompilationUnit root, IProgressMonitor monitor) {
+		Builder builder= new Builder(monitor);
+		root.accept(builder);
+		return new OccurrencesIndex(root, builder.fOccurrences);
+	}
+
+	/**
+	 * @return the AST this index was built from
+	 */
+	public CompilationUnit getASTRoot() {
+		return fRoot;
+	}
+
+	/**
+	 * Returns the occurrences of the given binding declaration.
+	 *
+	 * @param target the binding declaration
+	 * @param readDescription the description of read occurrences
+	 * @param writeDescription the description of write occurrences
+	 * @return the occurrences, or <code>null</code> if there are none
+	 */
+	OccurrenceLocation[] getOccurrences(IBinding target, String readDescription, String writeDescription) {
+		Occurrences occurrences= fOccurrences.get(target.getKey());
+		if (occurrences == null)
+			return null;
+		boolean isVariable= target instanceof IVariableBinding;
+		int[] data= occurrences.fData;
+		OccurrenceLocation[] result= new OccurrenceLocation[occurrences.fSize / 3];
+		for (int i= 0; i < result.length; i++) {
+			int flags= 0;
+			String description= readDescription;
+			if (isVariable) {
+				boolean isWrite= data[i * 3 + 2] != 0;
+				flags= isWrite ? IOccurrencesFinder.F_WRITE_OCCURRENCE : IOccurrencesFinder.F_READ_OCCURRENCE;
+				if (isWrite)
+					description= writeDescription;
+			}
+			result[i]= new OccurrenceLocation(data[i * 3], data[i * 3 + 1], flags, description);
+		}
+		return result;
+	}
+
+	/**
+	 * Collects the occurrences of all bindings. Mirrors the visitor of {@link OccurrencesFinder}:
+	 * where the finder stops descending into a qualified name once it matched the target, the
+	 * builder records the qualified name and suppresses the same binding in its children.
+	 */
+	private static class Builder extends ASTVisitor {
+
+		private final IProgressMonitor fMonitor;
+		private final Map<String, Occurrences> fOccurrences= new HashMap<>();
+		private final Set<Name> fWriteUsages= new HashSet<>();
+		private final List<String> fSuppressedKeys= new ArrayList<>();
+		private int fCount;
+
+		Builder(IProgressMonitor monitor) {
+			super(true);
+			fMonitor= monitor;
+		}
+
+		@Override
+		public boolean visit(QualifiedName node) {
+			IBinding binding= node.resolveBinding();
+			if (binding instanceof IVariableBinding && ((IVariableBinding) binding).isField()) {
+				SimpleName name= node.getName();
+				visitQualifier(node, addUsage(name, name.resolveBinding()));
+				return false;
+			}
+			if (binding instanceof IMethodBinding && isStaticImport(node))
+				return true;
+			String key= addUsage(node, binding);
+			if (key == null)
+				return true;
+			fSuppressedKeys.add(key);
+			try {
+				node.getQualifier().accept(this);
+				node.getName().accept(this);
+			} finally {
+				fSuppressedKeys.remove(fSuppressedKeys.size() - 1);
+			}
+			return false;
+		}
+
+		private void visitQualifier(QualifiedName node, String suppressedKey) {
+			if (suppressedKey == null) {
+				node.getQualifier().accept(this);
+				return;
+			}
+			fSuppressedKeys.add(suppressedKey);
+			try {
+				node.getQualifier().accept(this);
+			} finally {
+				fSuppressedKeys.remove(fSuppressedKeys.size() - 1);
+			}
+		}
+
+		private static boolean isStaticImport(QualifiedName node) {
+			ASTNode parent= node.getParent();
+			return parent instanceof ImportDeclaration && ((ImportDeclaration) parent).isStatic();
+		}
+
+		@Override
+		public boolean visit(SimpleName node) {
+			addUsage(node, node.resolveBinding());
+			return true;
+		}
+
+		@Override
+		public boolean visit(ClassInstanceCreation node) {
+			Type type= node.getType();
+			if (type instanceof ParameterizedType) {
+				type= ((ParameterizedType) type).getType();
+			}
+			if (type instanceof SimpleType) {
+				Name name= ((SimpleType) type).getName();
+				if (name instanceof QualifiedName)
+					name= ((QualifiedName) name).getName();
+				addUsage(name, node.resolveConstructorBinding());
+			} else if (type instanceof NameQualifiedType) {
+				Name name= ((NameQualifiedType) type).getName();
+				addUsage(name, node.resolveConstructorBinding());
+			}
+			return true;
+		}
+
+		@Override
+		public boolean visit(Assignment node) {
+			addWrite(getSimpleName(node.getLeftHandSide()));
+			return true;
+		}
+
+		@Override
+		public boolean visit(SingleVariableDeclaration node) {
+			fWriteUsages.add(node.getName());
+			return true;
+		}
+
+		@Override
+		public boolean visit(VariableDeclarationFragment node) {
+			if (node.getParent() instanceof FieldDeclaration || node.getInitializer() != null)
+				fWriteUsages.add(node.getName());
+			return true;
+		}
+
+		@Override
+		public boolean visit(PrefixExpression node) {
+			PrefixExpression.Operator operator= node.getOperator();
+			if (operator == Operator.INCREMENT || operator == Operator.DECREMENT)
+				addWrite(getSimpleName(node.getOperand()));
+			return true;
+		}
+
+		@Override
+		public boolean visit(PostfixExpression node) {
+			addWrite(getSimpleName(node.getOperand()));
+			return true;
+		}
+
+		private void addWrite(SimpleName name) {
+			if (name != null)
+				fWriteUsages.add(name);
+		}
+
+		/**
+		 * Records an occurrence of the given binding.
+		 *
+		 * @param node the name node
+		 * @param binding the binding, can be <code>null</code>
+		 * @return the key the occurrence was recorded under, or <code>null</code> if it was not recorded
+		 */
+		private String addUsage(Name node, IBinding binding) {
+			if (binding == null)
+				return null;
+			String key= OccurrencesFinder.getBindingDeclaration(binding).getKey();
+			if (key == null || fSuppressedKeys.contains(key))
+				return null;
+			Occurrences occurrences= fOccurrences.get(key);
+			if (occurrences == null) {
+				occurrences= new Occurrences();
+				fOccurrences.put(key, occurrences);
+			}
+			occurrences.add(node.getStartPosition(), node.getLength(), fWriteUsages.remove(node));
+
+			if (fMonitor != null && (++fCount & 0xFF) == 0 && fMonitor.isCanceled())
+				throw new OperationCanceledException();
+			return key;
+		}
+
+		private static SimpleName getSimpleName(Expression expression) {
+			if (expression instanceof SimpleName)
+				return ((SimpleName) expression);
+			else if (expression instanceof QualifiedName)
+				return (((QualifiedName) expression).getName());
+			else if (expression instanceof FieldAccess)
+				return ((FieldAccess) expression).getName();
+			return null;
+		}
+	}
+}
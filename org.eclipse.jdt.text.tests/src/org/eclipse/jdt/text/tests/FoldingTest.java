@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.source.Annotation;
+import org.eclipse.jface.text.source.SourceViewer;
+import org.eclipse.jface.text.source.projection.ProjectionAnnotation;
+import org.eclipse.jface.text.source.projection.ProjectionAnnotationModel;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+
+import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+
+/**
+ * Tests the folding structure of the Java editor after edits.
+ *
+ * @since 3.21
+ */
+public class FoldingTest {
+
+	private static final String CU_CONTENTS= "package p;\n" +
+			"public class A {\n" +
+			"	void a() {\n" +
+			"		int x= 1;\n" +
+			"	}\n" +
+			"	void b() {\n" +
+			"		int y= 2;\n" +
+			"	}\n" +
+			"}\n";
+
+	private IJavaProject fProject;
+	private JavaEditor fEditor;
+	private IDocument fDocument;
+	private ProjectionAnnotationModel fModel;
+	private boolean fWasFoldingEnabled;
+
+	@Before
+	public void setUp() throws Exception {
+		fWasFoldingEnabled= EditorTestHelper.enableFolding(true);
+		fProject= JavaProjectHelper.createJavaProject(getClass().getName(), "bin");
+		JavaProjectHelper.addRTJar(fProject);
+		IPackageFragment pack= JavaProjectHelper.addSourceContainer(fProject, "src").createPackageFragment("p", false, null);
+		ICompilationUnit cu= pack.createCompilationUnit("A.java", CU_CONTENTS, true, new NullProgressMonitor());
+
+		fEditor= (JavaEditor) EditorUtility.openInEditor(cu);
+		assertNotNull(fEditor);
+		fDocument= fEditor.getDocumentProvider().getDocument(fEditor.getEditorInput());
+		fModel= fEditor.getAdapter(ProjectionAnnotationModel.class);
+		assertNotNull(fModel);
+		joinReconciler();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		EditorTestHelper.closeAllEditors();
+		fEditor= null;
+		if (fProject != null) {
+			JavaProjectHelper.delete(fProject);
+			fProject= null;
+		}
+		EditorTestHelper.enableFolding(fWasFoldingEnabled);
+	}
+
+	private void joinReconciler() {
+		SourceViewer viewer= EditorTestHelper.getSourceViewer(fEditor);
+		EditorTestHelper.forceReconcile(viewer);
+		assertTrue(EditorTestHelper.joinReconciler(viewer, 0, 10000, 100));
+	}
+
+	/**
+	 * @return the folding annotations by the line on which they start
+	 * @throws BadLocationException if a position is outside of the document
+	 */
+	private Map<Integer, ProjectionAnnotation> getFoldingAnnotations() throws BadLocationException {
+		Map<Integer, ProjectionAnnotation> result= new TreeMap<>();
+		Iterator<Annotation> iter= fModel.getAnnotationIterator();
+		while (iter.hasNext()) {
+			Annotation annotation= iter.next();
+			if (annotation instanceof ProjectionAnnotation) {
+				Position position= fModel.getPosition(annotation);
+				result.put(Integer.valueOf(fDocument.getLineOfOffset(position.getOffset())), (ProjectionAnnotation) annotation);
+			}
+		}
+		return result;
+	}
+
+	private void assertFoldedLines(Integer... lines) throws BadLocationException {
+		assertEquals(Arrays.asList(lines).toString(), getFoldingAnnotations().keySet().toString());
+	}
+
+	private void replace(String text, String replacement) throws BadLocationException {
+		int offset= fDocument.get().indexOf(text);
+		assertTrue(offset != -1);
+		fDocument.replace(offset, text.length(), replacement);
+		joinReconciler();
+	}
+
+	@Test
+	public void testInitialStructure() throws Exception {
+		assertFoldedLines(2, 5);
+	}
+
+	@Test
+	public void testEditInsideMember() throws Exception {
+		replace("		int x= 1;\n", "		int x= 1;\n		x++;\n		x++;\n");
+
+		assertFoldedLines(2, 7);
+	}
+
+	@Test
+	public void testAddMember() throws Exception {
+		replace("	void b() {\n", "	void c() {\n		int z= 3;\n	}\n	void b() {\n");
+
+		assertFoldedLines(2, 5, 8);
+	}
+
+	@Test
+	public void testRemoveMember() throws Exception {
+		replace("	void b() {\n		int y= 2;\n	}\n", "");
+
+		assertFoldedLines(2);
+	}
+
+	@Test
+	public void testCollapsedStateAfterEditInsideMember() throws Exception {
+		ProjectionAnnotation b= getFoldingAnnotations().get(Integer.valueOf(5));
+		fModel.collapse(b);
+
+		replace("		int x= 1;\n", "		int x= 1;\n		x++;\n");
+
+		Map<Integer, ProjectionAnnotation> annotations= getFoldingAnnotations();
+		assertEquals(2, annotations.size());
+		assertFalse(annotations.get(Integer.valueOf(2)).isCollapsed());
+		assertTrue(annotations.get(Integer.valueOf(6)).isCollapsed());
+	}
+
+	@Test
+	public void testCollapsedStateAfterAddMember() throws Exception {
+		ProjectionAnnotation b= getFoldingAnnotations().get(Integer.valueOf(5));
+		fModel.collapse(b);
+
+		replace("	void a() {\n", "	void c() {\n		int z= 3;\n	}\n	void a() {\n");
+
+		Map<Integer, ProjectionAnnotation> annotations= getFoldingAnnotations();
+		assertEquals(3, annotations.size());
+		assertFalse(annotations.get(Integer.valueOf(2)).isCollapsed());
+		assertFalse(annotations.get(Integer.valueOf(5)).isCollapsed());
+		assertTrue(annotations.get(Integer.valueOf(8)).isCollapsed());
+	}
+
+	@Test
+	public void testCollapsedStateAfterRemoveMember() throws Exception {
+		ProjectionAnnotation b= getFoldingAnnotations().get(Integer.valueOf(5));
+		fModel.collapse(b);
+
+		replace("	void a() {\n		int x= 1;\n	}\n", "");
+
+		Map<Integer, ProjectionAnnotation> annotations= getFoldingAnnotations();
+		assertEquals(1, annotations.size());
+		assertTrue(annotations.get(Integer.valueOf(2)).isCollapsed());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2020 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -220,6 +220,28 @@ public class JavaAutoIndentStrategyTest implements ILogListener {
 		assertEquals(result, fDocumentCommand.text);
 	}
 
+	@Test
+	public void testPasteManyLines() {
+		fDocument.set("public class Test2 {\n}");
+
+		StringBuilder text= new StringBuilder();
+		StringBuilder result= new StringBuilder();
+		text.append("void m() {\n");
+		result.append("\tvoid m() {\n");
+		for (int i= 0; i < 1000; i++) {
+			text.append("\tString s" + i + "= \"{\"; /* } */\n");
+			result.append("\t\tString s" + i + "= \"{\"; /* } */\n");
+		}
+		text.append("}\n");
+		result.append("\t}\n");
+
+		fDocumentCommand.doit= true;
+		fDocumentCommand.offset= 21;
+		fDocumentCommand.text= text.toString();
+		performPaste();
+		assertEquals(result.toString(), fDocumentCommand.text);
+	}
+
 	private void performSmartIndentAfterNewLine() {
 		fAccessor.invoke("clearCachedValues", null, null);
 		fAccessor.invoke("smartIndentAfterNewLine", new Class[] { IDocument.class, DocumentCommand.class }, new Object[] { fDocument, fDocumentCommand });
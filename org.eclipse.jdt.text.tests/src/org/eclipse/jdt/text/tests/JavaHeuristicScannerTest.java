@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,7 @@ import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
 import org.eclipse.jdt.ui.text.IJavaPartitions;
 
 import org.eclipse.jdt.internal.ui.text.FastJavaPartitionScanner;
+import org.eclipse.jdt.internal.ui.text.JavaBracketIndex;
 import org.eclipse.jdt.internal.ui.text.JavaHeuristicScanner;
 import org.eclipse.jdt.internal.ui.text.JavaIndenter;
 
@@ -1233,4 +1234,40 @@ public class JavaHeuristicScannerTest {
 		String indent= fScanner.computeIndentation(offset).toString();
 		assertEquals("\t", indent);
 	}
+
+	@Test
+	public void testBracketIndex() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("class A {\n");
+		buf.append("	int[] a= { 1, (2) };\n");
+		buf.append("	void m(String s) {\n");
+		buf.append("		// } ) ]\n");
+		buf.append("		s= \"{(\" + ')';\n");
+		buf.append("		if (a[0] == 1) { /* ] */ }\n");
+		buf.append("	}\n");
+		buf.append("}\n");
+		buf.append("}\n");
+		fDocument.set(buf.toString());
+
+		JavaBracketIndex index= JavaBracketIndex.create(fDocument);
+		String peers= "}])";
+		String openingPeers= "{[(";
+		for (int offset= 0; offset < fDocument.getLength(); offset++) {
+			int peer= peers.indexOf(fDocument.getChar(offset));
+			if (peer == -1 || !fHeuristicScanner.isDefaultPartition(offset))
+				continue;
+			int expected= fHeuristicScanner.findOpeningPeer(offset - 1, openingPeers.charAt(peer), peers.charAt(peer));
+			int actual= index.findOpeningPeer(offset);
+			assertEquals("peer at " + offset, expected == JavaHeuristicScanner.NOT_FOUND ? JavaBracketIndex.NO_PEER : expected, actual);
+		}
+
+		// changing the indentation keeps the index valid
+		fDocument.replace(buf.indexOf("\t\tif"), 2, "    ");
+		int closing= fDocument.get().lastIndexOf("}\n\t}");
+		assertEquals(fDocument.get().indexOf("{ /*"), index.findOpeningPeer(closing));
+
+		// other changes are detected
+		fDocument.replace(0, 0, "\n");
+		assertEquals(JavaBracketIndex.UNKNOWN, index.findOpeningPeer(closing + 1));
+	}
 }
@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.jface.viewers.TreeViewer;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.source.SourceViewer;
+
+import org.eclipse.ui.IPageLayout;
+import org.eclipse.ui.IViewPart;
+import org.eclipse.ui.part.PageBookView;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+
+import org.eclipse.jdt.ui.JavaElementComparator;
+
+import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaOutlinePage;
+import org.eclipse.jdt.internal.ui.viewsupport.MemberFilter;
+
+/**
+ * Tests the items of the Java outline after edits in the Java editor.
+ *
+ * @since 3.21
+ */
+public class JavaOutlinePageTest {
+
+	private static final String CU_CONTENTS= "package p;\n" +
+			"public class A {\n" +
+			"	int f;\n" +
+			"	void a() {\n" +
+			"		int x= 1;\n" +
+			"	}\n" +
+			"	void b() {\n" +
+			"	}\n" +
+			"}\n";
+
+	private IJavaProject fProject;
+	private JavaEditor fEditor;
+	private IDocument fDocument;
+	private JavaOutlinePage fPage;
+	private Tree fTree;
+	private boolean fWasOutlineShown;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject(getClass().getName(), "bin");
+		JavaProjectHelper.addRTJar(fProject);
+		IPackageFragment pack= JavaProjectHelper.addSourceContainer(fProject, "src").createPackageFragment("p", false, null);
+		ICompilationUnit cu= pack.createCompilationUnit("A.java", CU_CONTENTS, true, new NullProgressMonitor());
+
+		fEditor= (JavaEditor) EditorUtility.openInEditor(cu);
+		assertNotNull(fEditor);
+		fDocument= fEditor.getDocumentProvider().getDocument(fEditor.getEditorInput());
+
+		fWasOutlineShown= EditorTestHelper.showView(IPageLayout.ID_OUTLINE, true);
+		IViewPart outline= EditorTestHelper.getActivePage().findView(IPageLayout.ID_OUTLINE);
+		EditorTestHelper.getActivePage().activate(fEditor);
+		EditorTestHelper.runEventQueue(fEditor);
+		assertTrue(outline instanceof PageBookView);
+		Object page= ((PageBookView) outline).getCurrentPage();
+		assertTrue(page instanceof JavaOutlinePage);
+		fPage= (JavaOutlinePage) page;
+		fTree= (Tree) fPage.getControl();
+		joinReconciler();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		EditorTestHelper.closeAllEditors();
+		EditorTestHelper.showView(IPageLayout.ID_OUTLINE, fWasOutlineShown);
+		fEditor= null;
+		fPage= null;
+		fTree= null;
+		if (fProject != null) {
+			JavaProjectHelper.delete(fProject);
+			fProject= null;
+		}
+	}
+
+	private void joinReconciler() {
+		SourceViewer viewer= EditorTestHelper.getSourceViewer(fEditor);
+		EditorTestHelper.forceReconcile(viewer);
+		assertTrue(EditorTestHelper.joinReconciler(viewer, 0, 10000, 100));
+		EditorTestHelper.runEventQueue(fEditor);
+	}
+
+	private TreeViewer getOutlineViewer() {
+		return (TreeViewer) new Accessor(fPage, JavaOutlinePage.class).invoke("getOutlineViewer", new Object[0]);
+	}
+
+	private void replace(String text, String replacement) throws BadLocationException {
+		int offset= fDocument.get().indexOf(text);
+		assertTrue(offset != -1);
+		fDocument.replace(offset, text.length(), replacement);
+		joinReconciler();
+	}
+
+	/**
+	 * @return the names of the elements shown in the outline, one per line and indented by
+	 *         their depth
+	 */
+	private String getOutline() {
+		StringBuilder buf= new StringBuilder();
+		append(buf, fTree.getItems(), "");
+		return buf.toString();
+	}
+
+	private static void append(StringBuilder buf, TreeItem[] items, String indent) {
+		for (TreeItem item : items) {
+			buf.append(indent).append(((IJavaElement) item.getData()).getElementName()).append('\n');
+			append(buf, item.getItems(), indent + "  ");
+		}
+	}
+
+	private TreeItem getMemberItem(int index) {
+		return fTree.getItem(1).getItem(index);
+	}
+
+	@Test
+	public void testInitialItems() throws Exception {
+		assertEquals("p\nA\n  f\n  a\n  b\n", getOutline());
+	}
+
+	@Test
+	public void testEditInsideMember() throws Exception {
+		TreeItem a= getMemberItem(1);
+
+		replace("		int x= 1;\n", "		int x= 1;\n		x++;\n");
+
+		assertEquals("p\nA\n  f\n  a\n  b\n", getOutline());
+		assertSame(a, getMemberItem(1));
+	}
+
+	@Test
+	public void testAddMember() throws Exception {
+		replace("	void b() {\n", "	void c() {\n	}\n	void b() {\n");
+
+		assertEquals("p\nA\n  f\n  a\n  c\n  b\n", getOutline());
+	}
+
+	@Test
+	public void testRemoveMember() throws Exception {
+		replace("	int f;\n", "");
+
+		assertEquals("p\nA\n  a\n  b\n", getOutline());
+	}
+
+	@Test
+	public void testRenameMember() throws Exception {
+		replace("void a()", "void d()");
+
+		assertEquals("p\nA\n  f\n  d\n  b\n", getOutline());
+	}
+
+	@Test
+	public void testReorderMembers() throws Exception {
+		replace("	void b() {\n	}\n", "");
+		replace("	int f;\n", "	void b() {\n	}\n	int f;\n");
+
+		assertEquals("p\nA\n  b\n  f\n  a\n", getOutline());
+	}
+
+	@Test
+	public void testHideMemberMadeStatic() throws Exception {
+		MemberFilter filter= new MemberFilter();
+		filter.addFilter(MemberFilter.FILTER_STATIC);
+		getOutlineViewer().addFilter(filter);
+		assertEquals("p\nA\n  f\n  a\n  b\n", getOutline());
+
+		replace("	void a() {\n", "	static void a() {\n");
+
+		assertEquals("p\nA\n  f\n  b\n", getOutline());
+
+		replace("	static void a() {\n", "	void a() {\n");
+
+		assertEquals("p\nA\n  f\n  a\n  b\n", getOutline());
+	}
+
+	@Test
+	public void testSortMemberMadeStatic() throws Exception {
+		getOutlineViewer().setComparator(new JavaElementComparator());
+		assertEquals("p\nA\n  f\n  a\n  b\n", getOutline());
+
+		// static methods are sorted before fields
+		replace("	void b() {\n", "	static void b() {\n");
+
+		assertEquals("p\nA\n  b\n  f\n  a\n", getOutline());
+	}
+}
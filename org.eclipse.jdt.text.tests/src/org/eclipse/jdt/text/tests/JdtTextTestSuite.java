@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import org.eclipse.jdt.text.tests.codemining.CodeMiningTriggerTest;
 import org.eclipse.jdt.text.tests.codemining.ParameterNamesCodeMiningTest;
 import org.eclipse.jdt.text.tests.contentassist.ContentAssistTestSuite;
 import org.eclipse.jdt.text.tests.spelling.SpellCheckEngineTestCase;
+import org.eclipse.jdt.text.tests.spelling.SpellCheckResultCacheTest;
 import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 
 
@@ -58,6 +59,7 @@ import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 //			});
 	BracketInserterTest.class,
 	SpellCheckEngineTestCase.class,
+	SpellCheckResultCacheTest.class,
 	SemanticHighlightingTest.class,
 	AutoboxingSemanticHighlightingTest.class,
 	NewForLoopJavaContextTest.class,
@@ -71,6 +73,8 @@ import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 	JavaElementPrefixPatternMatcherTest.class,
 	CodeMiningTriggerTest.class,
 	ParameterNamesCodeMiningTest.class,
+	FoldingTest.class,
+	JavaOutlinePageTest.class,
 })
 public class JdtTextTestSuite {
 }
\ No newline at end of file
@@ -16,7 +16,9 @@ package org.eclipse.jdt.text.tests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.After;
 import org.junit.Before;
@@ -31,10 +33,14 @@ import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.SimpleName;
 
 import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder.OccurrenceLocation;
+import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesFinder;
+import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesIndex;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 
 import org.eclipse.jdt.ui.PreferenceConstants;
@@ -528,4 +534,59 @@ public class MarkOccurrenceTest1d7 {
 		OccurrenceLocation[] ranges= { find(s, "Exception", 2), find(s, "URL", 3) };
 		checkSelection(s, offset, length, ranges);
 	}
+
+	@Test
+	public void testOccurrencesIndex() throws Exception {
+		StringBuffer s= new StringBuffer();
+		s.append("package test1;\n");
+		s.append("import java.util.ArrayList;\n");
+		s.append("class E {\n");
+		s.append("   E next;\n");
+		s.append("   int count= 0;\n");
+		s.append("   static int total;\n");
+		s.append("   E(int count) {\n");
+		s.append("      this.count= count;\n");
+		s.append("      next.next.count++;\n");
+		s.append("      E.total += count;\n");
+		s.append("   }\n");
+		s.append("   void foo(java.util.List<String> list) {\n");
+		s.append("      ArrayList<String> copy= new java.util.ArrayList<>(list);\n");
+		s.append("      for (String str : copy)\n");
+		s.append("         count= str.length() + new E(count).count;\n");
+		s.append("      --next.count;\n");
+		s.append("   }\n");
+		s.append("}\n");
+		CompilationUnit root= createCompilationUnit(s);
+		OccurrencesIndex index= OccurrencesIndex.build(root, null);
+
+		List<SimpleName> names= new ArrayList<>();
+		root.accept(new ASTVisitor() {
+			@Override
+			public boolean visit(SimpleName node) {
+				names.add(node);
+				return true;
+			}
+		});
+		for (SimpleName name : names) {
+			OccurrencesFinder visitorFinder= new OccurrencesFinder();
+			OccurrencesFinder indexFinder= new OccurrencesFinder(index);
+			String error= visitorFinder.initialize(root, name);
+			assertEquals(error, indexFinder.initialize(root, name));
+			if (error != null)
+				continue;
+			OccurrenceLocation[] expected= visitorFinder.getOccurrences();
+			OccurrenceLocation[] actual= indexFinder.getOccurrences();
+			assertEquals(name.getIdentifier(), expected == null, actual == null);
+			if (expected == null)
+				continue;
+			assertEquals(name.getIdentifier(), expected.length, actual.length);
+			sortByStartIndex(expected);
+			sortByStartIndex(actual);
+			for (int i= 0; i < expected.length; i++) {
+				assertEquals(name.getIdentifier(), expected[i].getOffset(), actual[i].getOffset());
+				assertEquals(name.getIdentifier(), expected[i].getLength(), actual[i].getLength());
+				assertEquals(name.getIdentifier(), expected[i].getFlags(), actual[i].getFlags());
+			}
+		}
+	}
 }
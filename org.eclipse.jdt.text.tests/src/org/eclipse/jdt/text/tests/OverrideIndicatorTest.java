@@ -20,6 +20,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 
 import org.junit.After;
@@ -40,6 +41,7 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.text.tests.Accessor;
 
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.source.Annotation;
 import org.eclipse.jface.text.source.IAnnotationModel;
 
@@ -143,6 +145,28 @@ public class OverrideIndicatorTest {
 		}
 	}
 
+	@Test
+	public void overrideIndicatorsReusedAfterBodyEdit() throws Exception {
+		countOverrideIndicators();
+		Annotation[] before= fOverrideAnnotations;
+
+		int offset= fDocument.get().indexOf("countTestCases() {") + "countTestCases() {".length();
+		assertTrue(offset > 0);
+		fDocument.replace(offset, 0, " int unused= 0;");
+		EditorTestHelper.joinReconciler(EditorTestHelper.getSourceViewer(fEditor), 0, 10000, 100);
+		EditorTestHelper.runEventQueue(fEditor);
+
+		computeOverrideIndicators();
+		assertEquals(before.length, fOverrideAnnotations.length);
+		for (Annotation annotation : before)
+			assertTrue(Arrays.asList(fOverrideAnnotations).contains(annotation));
+		for (Annotation annotation : fOverrideAnnotations) {
+			Position position= fAnnotationModel.getPosition(annotation);
+			String name= fDocument.get(position.getOffset(), position.getLength());
+			assertTrue(name, annotation.getText().endsWith("." + name));
+		}
+	}
+
 	private void computeOverrideIndicators() {
 		ArrayList<Annotation> annotations= new ArrayList<>();
 		Iterator<Annotation> iter= fAnnotationModel.getAnnotationIterator();
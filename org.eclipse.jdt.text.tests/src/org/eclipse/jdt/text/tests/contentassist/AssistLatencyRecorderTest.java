@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.contentassist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.ui.text.AssistLatencyRecorder;
+import org.eclipse.jdt.internal.ui.text.AssistLatencyRecorder.Kind;
+import org.eclipse.jdt.internal.ui.text.AssistLatencyRecorder.Statistics;
+
+public class AssistLatencyRecorderTest {
+
+	private AssistLatencyRecorder fRecorder;
+
+	@Before
+	public void setUp() {
+		fRecorder= AssistLatencyRecorder.getDefault();
+		fRecorder.reset();
+	}
+
+	@After
+	public void tearDown() {
+		fRecorder.reset();
+	}
+
+	private static long millisAgo(long millis) {
+		return System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(millis);
+	}
+
+	@Test
+	public void testStatistics() {
+		for (int i= 0; i < 9; i++)
+			fRecorder.record(Kind.COMPLETION_COMPUTER, "a.b.computer", "Computer", "a.b", millisAgo(3), 2, false);
+		fRecorder.record(Kind.COMPLETION_COMPUTER, "a.b.computer", "Computer", "a.b", millisAgo(700), 0, true);
+		fRecorder.record(Kind.QUICK_FIX_PROCESSOR, "a.b.processor", "Processor", "a.b", millisAgo(0), 1, false);
+
+		List<Statistics> statistics= fRecorder.getStatistics();
+		assertEquals(2, statistics.size());
+		Statistics computer= statistics.get(0);
+		assertEquals(Kind.COMPLETION_COMPUTER, computer.getKind());
+		assertEquals(10, computer.getCount());
+		assertEquals(1, computer.getTimeouts());
+		assertEquals(18, computer.getProposals());
+		assertEquals(5, computer.getPercentileMillis(50), 0);
+		assertEquals(5, computer.getPercentileMillis(90), 0);
+		assertTrue(computer.getPercentileMillis(99) >= 700);
+		assertTrue(computer.getMaxMillis() >= 700);
+		assertEquals(9, computer.getHistogram()[2]);
+		assertEquals(Kind.QUICK_FIX_PROCESSOR, statistics.get(1).getKind());
+
+		fRecorder.reset();
+		assertTrue(fRecorder.getStatistics().isEmpty());
+	}
+
+	@Test
+	public void testExport() {
+		fRecorder.record(Kind.COMPLETION_COMPUTER, "a.b.computer", "Computer, \"quoted\"", null, millisAgo(1), 3, false);
+
+		String csv= fRecorder.toCSV();
+		String[] lines= csv.split("\n");
+		assertEquals(2, lines.length);
+		assertTrue(lines[0].startsWith("kind,id,name,contributor,count,timeouts,proposals,"));
+		assertTrue(lines[1], lines[1].startsWith("COMPLETION_COMPUTER,a.b.computer,\"Computer, \"\"quoted\"\"\",,1,0,3,"));
+
+		String json= fRecorder.toJSON();
+		assertTrue(json, json.contains("\"name\": \"Computer, \\\"quoted\\\"\""));
+		assertTrue(json, json.contains("\"contributor\": null"));
+		assertTrue(json, json.contains("\"count\": 1, \"timeouts\": 0, \"proposals\": 3"));
+	}
+}
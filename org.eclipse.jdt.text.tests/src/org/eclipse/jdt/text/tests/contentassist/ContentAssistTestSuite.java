@@ -41,7 +41,9 @@ import org.junit.runners.Suite;
 			CodeCompletionTest1d8.class,
 			ContinuousTypingCompletionTest.class,
 			ChainCompletionTest.class,
-			PostFixCompletionTest.class
+			PostFixCompletionTest.class,
+			AssistLatencyRecorderTest.class,
+			HippieWordIndexTest.class
 			//$JUnit-END$
 })
 public class ContentAssistTestSuite {
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.contentassist;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.jdt.internal.ui.text.java.HippieWordIndex;
+
+public class HippieWordIndexTest {
+
+	private final HippieWordIndex fIndex= HippieWordIndex.getDefault();
+
+	@After
+	public void tearDown() {
+		fIndex.connect(Collections.<IDocument> emptyList());
+	}
+
+	private List<String> complete(String prefix, IDocument... documents) {
+		List<IDocument> list= Arrays.asList(documents);
+		fIndex.connect(list);
+		return fIndex.getCompletions(list, prefix);
+	}
+
+	@Test
+	public void testCompletions() {
+		IDocument current= new Document("fooBar fooBaz; fooBaz(foo) fo");
+		IDocument other= new Document("fooQux, fooBar");
+		assertEquals(Arrays.asList("fooBaz", "foo", "fooBar"), complete("fo", current));
+		assertEquals(Arrays.asList("fooBaz", "fooBar"), complete("fooB", current, other));
+		assertEquals(Arrays.asList("fooBaz", "foo", "fooBar", "fooQux"), complete("fo", current, other));
+		assertEquals(Collections.emptyList(), complete("bar", current, other));
+	}
+
+	@Test
+	public void testIncrementalUpdate() throws Exception {
+		IDocument document= new Document("alpha beta gamma");
+		assertEquals(Arrays.asList("alpha"), complete("al", document));
+
+		document.replace(2, 0, "x"); // alxpha
+		assertEquals(Arrays.asList("alxpha"), complete("al", document));
+
+		document.replace(5, 1, " "); // alxph beta
+		assertEquals(Arrays.asList("alxph"), complete("al", document));
+		assertEquals(Arrays.asList("beta"), complete("b", document));
+
+		document.replace(0, 0, "almond "); // almond alxph beta
+		assertEquals(Arrays.asList("almond", "alxph"), complete("al", document));
+
+		document.replace(6, 1, ""); // almondalxph beta
+		assertEquals(Arrays.asList("almondalxph"), complete("al", document));
+
+		document.set("gamma delta");
+		assertEquals(Collections.emptyList(), complete("al", document));
+		assertEquals(Arrays.asList("gamma"), complete("g", document));
+	}
+}
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.spelling;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.TypedRegion;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+
+import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckResultCache;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultSpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellCheckIterator;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellDictionary;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellEventListener;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.RankedWordProposal;
+
+public class SpellCheckResultCacheTest {
+
+	private static class TestDictionary implements ISpellDictionary {
+		private final Set<String> fWords= new HashSet<>(Arrays.asList("hello", "world"));
+
+		@Override
+		public boolean acceptsWords() {
+			return false;
+		}
+
+		@Override
+		public void addWord(String word) {
+			// not supported
+		}
+
+		@Override
+		public Set<RankedWordProposal> getProposals(String word, boolean sentence) {
+			return Collections.emptySet();
+		}
+
+		@Override
+		public boolean isCorrect(String word) {
+			return fWords.contains(word.toLowerCase());
+		}
+
+		@Override
+		public boolean isLoaded() {
+			return true;
+		}
+
+		@Override
+		public void unload() {
+			// nothing to unload
+		}
+
+		@Override
+		public void setStripNonLetters(boolean state) {
+			// the test words are letters only
+		}
+	}
+
+	private static class CountingSpellChecker extends DefaultSpellChecker {
+		int fExecuteCount;
+
+		CountingSpellChecker(IPreferenceStore store) {
+			super(store, Locale.US);
+			addDictionary(new TestDictionary());
+		}
+
+		@Override
+		public void execute(ISpellEventListener listener, ISpellCheckIterator iterator) {
+			fExecuteCount++;
+			super.execute(listener, iterator);
+		}
+	}
+
+	private final IPreferenceStore fPreferences= PreferenceConstants.getPreferenceStore();
+	private final SpellCheckResultCache fCache= new SpellCheckResultCache();
+	private CountingSpellChecker fChecker;
+
+	@Before
+	public void setUp() {
+		fChecker= new CountingSpellChecker(fPreferences);
+	}
+
+	@After
+	public void tearDown() {
+		fPreferences.setToDefault(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD);
+	}
+
+	/**
+	 * Checks the Javadoc comment in the given document.
+	 *
+	 * @param checker the spell checker
+	 * @param contents the document contents, with a Javadoc comment
+	 * @return the problems found, as "word@offset"
+	 * @throws Exception if checking fails
+	 */
+	private List<String> check(ISpellChecker checker, String contents) throws Exception {
+		IDocument document= new Document(contents);
+		int offset= contents.indexOf("/**");
+		int length= contents.indexOf("*/") + 2 - offset;
+		List<String> problems= new ArrayList<>();
+		fCache.check(document, new TypedRegion(offset, length, IJavaPartitions.JAVA_DOC), checker, event -> problems.add(event.getWord() + "@" + event.getBegin()));
+		return problems;
+	}
+
+	@Test
+	public void testUnchangedPartitionNotCheckedAgain() throws Exception {
+		assertEquals(Arrays.asList("wrold@10"), check(fChecker, "/** Hello wrold */"));
+		assertEquals(Arrays.asList("wrold@10"), check(fChecker, "/** Hello wrold */"));
+		assertEquals(1, fChecker.fExecuteCount);
+	}
+
+	@Test
+	public void testMovedPartition() throws Exception {
+		assertEquals(Arrays.asList("wrold@10"), check(fChecker, "/** Hello wrold */"));
+		assertEquals(Arrays.asList("wrold@21"), check(fChecker, "class A {}\n/** Hello wrold */"));
+		assertEquals(1, fChecker.fExecuteCount);
+	}
+
+	@Test
+	public void testChangedPartition() throws Exception {
+		assertEquals(Arrays.asList("wrold@10"), check(fChecker, "/** Hello wrold */"));
+		assertEquals(Arrays.asList("helo@4", "wrold@9"), check(fChecker, "/** helo wrold */"));
+		assertEquals(2, fChecker.fExecuteCount);
+	}
+
+	@Test
+	public void testIgnoredWordClearsCache() throws Exception {
+		assertEquals(Arrays.asList("wrold@10"), check(fChecker, "/** Hello wrold */"));
+		fChecker.ignoreWord("wrold");
+		assertEquals(Collections.emptyList(), check(fChecker, "/** Hello wrold */"));
+		assertEquals(2, fChecker.fExecuteCount);
+	}
+
+	@Test
+	public void testOtherCheckerClearsCache() throws Exception {
+		CountingSpellChecker other= new CountingSpellChecker(fPreferences);
+		check(fChecker, "/** Hello wrold */");
+		check(other, "/** Hello wrold */");
+		check(fChecker, "/** Hello wrold */");
+		assertEquals(2, fChecker.fExecuteCount);
+		assertEquals(1, other.fExecuteCount);
+	}
+
+	@Test
+	public void testUnknownModificationStampNotCached() throws Exception {
+		CountingSpellChecker checker= new CountingSpellChecker(fPreferences) {
+			@Override
+			public long getModificationStamp() {
+				return ISpellChecker.UNKNOWN_MODIFICATION_STAMP;
+			}
+		};
+		assertEquals(Arrays.asList("wrold@10"), check(checker, "/** Hello wrold */"));
+		assertEquals(Arrays.asList("wrold@10"), check(checker, "/** Hello wrold */"));
+		assertEquals(2, checker.fExecuteCount);
+	}
+
+	@Test
+	public void testProblemsThreshold() throws Exception {
+		fPreferences.setValue(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD, 1);
+		assertEquals(Arrays.asList("helo@4", "wrold@9"), check(fChecker, "/** helo wrold wrold */"));
+
+		// the checker stopped after the threshold, the partition must be checked again
+		fPreferences.setValue(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD, 100);
+		assertEquals(Arrays.asList("helo@4", "wrold@9", "wrold@15"), check(fChecker, "/** helo wrold wrold */"));
+		assertEquals(2, fChecker.fExecuteCount);
+
+		// the threshold does not clear the cache
+		fPreferences.setValue(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD, 50);
+		check(fChecker, "/** helo wrold wrold */");
+		assertEquals(2, fChecker.fExecuteCount);
+	}
+}
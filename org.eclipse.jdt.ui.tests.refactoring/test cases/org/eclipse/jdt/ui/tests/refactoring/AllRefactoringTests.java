@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -102,6 +102,7 @@ import org.junit.runners.Suite;
 
 	//--binaries
 	BinaryReferencesTests.class,
+	StubCreationOperationTests.class,
 
 	// validate edit
 //	ValidateEditTests.class,
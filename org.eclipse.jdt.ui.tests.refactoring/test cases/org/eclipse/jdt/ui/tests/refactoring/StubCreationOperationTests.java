@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.IOrdinaryClassFile;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.corext.refactoring.binary.StubCreationOperation;
+import org.eclipse.jdt.internal.corext.refactoring.binary.StubCreator;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class StubCreationOperationTests {
+
+	@Rule
+	public RefactoringTestSetup rts= new RefactoringTestSetup();
+
+	private File fOutput;
+
+	@Before
+	public void setUp() throws Exception {
+		fOutput= Files.createTempDirectory("stubs").toFile();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		delete(fOutput);
+	}
+
+	private static void delete(File file) {
+		File[] children= file.listFiles();
+		if (children != null) {
+			for (File child : children)
+				delete(child);
+		}
+		file.delete();
+	}
+
+	private static List<IPackageFragment> getPackages() throws Exception {
+		return Arrays.asList(
+				RefactoringTestSetup.getJRELibrary().getPackageFragment("java.lang"),
+				RefactoringTestSetup.getJRELibrary().getPackageFragment("java.util"));
+	}
+
+	private static String read(File file) throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void testCreateStubs() throws Exception {
+		List<IPackageFragment> packages= getPackages();
+		new StubCreationOperation(fOutput.toURI(), packages).run(new NullProgressMonitor());
+
+		for (IPackageFragment fragment : packages) {
+			File folder= new File(fOutput, fragment.getElementName().replace('.', '/'));
+			List<String> expected= new ArrayList<>();
+			for (IClassFile file : fragment.getClassFiles()) {
+				IType type= ((IOrdinaryClassFile) file).getType();
+				if (type.isAnonymous() || type.isLocal() || type.isMember())
+					continue;
+				String name= type.getElementName() + ".java";
+				expected.add(name);
+				assertEquals(name, new StubCreator(false).createStub(type, null), read(new File(folder, name)));
+			}
+			assertFalse(expected.isEmpty());
+			String[] actual= folder.list();
+			Arrays.sort(actual);
+			expected.sort(null);
+			assertEquals(expected.toString(), Arrays.asList(actual).toString());
+		}
+	}
+
+	@Test
+	public void testCreateStubsTwice() throws Exception {
+		List<IPackageFragment> packages= getPackages();
+		new StubCreationOperation(fOutput.toURI(), packages).run(new NullProgressMonitor());
+		File object= new File(fOutput, "java/lang/Object.java");
+		String first= read(object);
+		delete(fOutput);
+
+		// member types are skipped without being looked at again
+		new StubCreationOperation(fOutput.toURI(), packages).run(new NullProgressMonitor());
+		assertEquals(first, read(object));
+	}
+
+	@Test
+	public void testCancelDoesNotInterrupt() throws Exception {
+		NullProgressMonitor monitor= new NullProgressMonitor();
+		AtomicInteger started= new AtomicInteger();
+		AtomicInteger running= new AtomicInteger();
+		AtomicInteger interrupted= new AtomicInteger();
+		StubCreationOperation operation= new StubCreationOperation(fOutput.toURI(), getPackages()) {
+			@Override
+			protected CompilationUnitCode createCompilationUnitCode(IClassFile file, IProgressMonitor pm) throws CoreException {
+				running.incrementAndGet();
+				try {
+					if (started.incrementAndGet() == 1)
+						monitor.setCanceled(true);
+					// block until the operation cancels the computations
+					while (!pm.isCanceled())
+						Thread.sleep(10);
+					Thread.sleep(200);
+				} catch (InterruptedException e) {
+					interrupted.incrementAndGet();
+				} finally {
+					running.decrementAndGet();
+				}
+				throw new OperationCanceledException();
+			}
+		};
+
+		try {
+			operation.run(monitor);
+			fail("operation not canceled");
+		} catch (OperationCanceledException e) {
+			// expected
+		}
+
+		long end= System.currentTimeMillis() + 10000;
+		while (running.get() > 0 && System.currentTimeMillis() < end)
+			Thread.sleep(10);
+		assertEquals(0, running.get());
+		assertEquals(0, interrupted.get());
+		assertTrue(started.get() < getPackages().get(0).getClassFiles().length);
+	}
+}
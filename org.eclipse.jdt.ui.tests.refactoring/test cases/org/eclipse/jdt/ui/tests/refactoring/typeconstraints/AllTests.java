@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,7 +20,8 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 	TypeConstraintTests.class,
-	TypeEnvironmentTests.class
+	TypeEnvironmentTests.class,
+	TypeSetTests.class
 })
 public class AllTests {
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.typeconstraints;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.EnumeratedTypeSet;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSet;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSetEnvironment;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class TypeSetTests {
+
+	@Rule
+	public RefactoringTestSetup rts= new RefactoringTestSetup();
+
+	private TypeSetEnvironment fTypeSetEnvironment;
+
+	private TType fA;
+	private TType fB;
+	private TType fC;
+
+	@Before
+	public void setUp() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package p;\n");
+		buf.append("class A {}\n");
+		buf.append("class B extends A {}\n");
+		buf.append("class C extends B {}\n");
+		ICompilationUnit unit= RefactoringTestSetup.getPackageP().createCompilationUnit("A.java", buf.toString(), true, null);
+		ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setProject(unit.getJavaProject());
+		parser.setResolveBindings(true);
+		parser.setSource(unit);
+		CompilationUnit node= (CompilationUnit) parser.createAST(null);
+		List<AbstractTypeDeclaration> types= node.types();
+
+		TypeEnvironment typeEnvironment= new TypeEnvironment();
+		fA= typeEnvironment.create(types.get(0).resolveBinding());
+		fB= typeEnvironment.create(types.get(1).resolveBinding());
+		fC= typeEnvironment.create(types.get(2).resolveBinding());
+		fTypeSetEnvironment= new TypeSetEnvironment(typeEnvironment);
+	}
+
+	/**
+	 * @return the set of A, B and C, as a bit-set backed intersection
+	 */
+	private TypeSet createIntersection() {
+		return fTypeSetEnvironment.createSubTypesOfSingleton(fA).intersectedWith(fTypeSetEnvironment.createSuperTypesOfSingleton(fC));
+	}
+
+	@Test
+	public void testIntersection() throws Exception {
+		TypeSet set= createIntersection();
+
+		assertTrue(set.contains(fA));
+		assertTrue(set.contains(fB));
+		assertTrue(set.contains(fC));
+		assertEquals(3, set.enumerate().size());
+	}
+
+	@Test
+	public void testEqualsBitSetTypeSet() throws Exception {
+		TypeSet set= createIntersection();
+		TypeSet other= fTypeSetEnvironment.createSuperTypesOfSingleton(fC).intersectedWith(fTypeSetEnvironment.createSubTypesOfSingleton(fA));
+
+		assertTrue(set.equals(other));
+		assertTrue(other.equals(set));
+		assertEquals(set.hashCode(), other.hashCode());
+	}
+
+	@Test
+	public void testEqualsEnumeratedTypeSet() throws Exception {
+		TypeSet set= createIntersection();
+		EnumeratedTypeSet enumerated= new EnumeratedTypeSet(fTypeSetEnvironment);
+		enumerated.add(fC);
+		enumerated.add(fA);
+		enumerated.add(fB);
+		enumerated.initComplete();
+
+		assertTrue(set.equals(enumerated));
+		assertTrue(enumerated.equals(set));
+		assertEquals(set.hashCode(), enumerated.hashCode());
+
+		Set<TypeSet> sets= new HashSet<>();
+		sets.add(enumerated);
+		assertTrue(sets.contains(set));
+	}
+
+	@Test
+	public void testNotEqualsLazyTypeSet() throws Exception {
+		TypeSet set= createIntersection();
+		TypeSet subTypes= fTypeSetEnvironment.createSubTypesOfSingleton(fA);
+
+		assertFalse(set.equals(subTypes));
+		assertFalse(subTypes.equals(set));
+	}
+}
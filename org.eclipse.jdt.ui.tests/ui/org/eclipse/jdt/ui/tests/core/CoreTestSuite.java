@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,15 +35,19 @@ ImportOrganizeTest.class,
 ImportOrganizeTest1d8.class,
 JavaElementLabelsTest.class,
 JavaElementLabelsTest1d8.class,
+JavaStructureCreatorTest.class,
 BindingLabelsTest.class,
 BindingLabels18Test.class,
 JavaElementPropertyTesterTest.class,
 JavaModelUtilTest.class,
+SourcePositionComparatorTest.class,
 MethodOverrideTest.class,
 MethodOverrideTest1d8.class,
 NameProposerTest.class,
 OverrideTest.class,
 PartialASTTest.class,
+ProblemMarkerManagerTest.class,
+CorrectionContextCacheTest.class,
 ScopeAnalyzerTest.class,
 TemplateStoreTest.class,
 TypeHierarchyTest.class,
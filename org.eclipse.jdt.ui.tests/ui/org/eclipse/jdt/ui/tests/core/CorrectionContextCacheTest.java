@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+
+import org.eclipse.jdt.internal.core.manipulation.dom.CorrectionContextCache;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+
+public class CorrectionContextCacheTest {
+
+	private CompilationUnit fRoot;
+	private TypeDeclaration fType;
+	private AtomicInteger fCount;
+	private Function<Object, String> fFunction;
+
+	@Before
+	public void setUp() throws Exception {
+		ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setSource("package p;\nclass A {\n}\n".toCharArray());
+		fRoot= (CompilationUnit) parser.createAST(null);
+		fType= (TypeDeclaration) fRoot.types().get(0);
+		fCount= new AtomicInteger();
+		fFunction= key -> {
+			fCount.incrementAndGet();
+			return String.valueOf(key);
+		};
+	}
+
+	private String get(Object key) {
+		return CorrectionContextCache.get(fType, "test", key, fFunction);
+	}
+
+	@Test
+	public void testNotCachedOutsideInvocation() throws Exception {
+		assertEquals("a", get("a"));
+		assertEquals("a", get("a"));
+		assertEquals(2, fCount.get());
+	}
+
+	@Test
+	public void testCachedInInvocation() throws Exception {
+		CorrectionContextCache.begin();
+		try {
+			assertEquals("a", get("a"));
+			assertEquals("a", CorrectionContextCache.get(fRoot, "test", "a", fFunction));
+			assertEquals("b", get("b"));
+			assertEquals(2, fCount.get());
+		} finally {
+			CorrectionContextCache.end();
+		}
+		assertEquals("a", get("a"));
+		assertEquals(3, fCount.get());
+	}
+
+	@Test
+	public void testCachedAfterNodeCreation() throws Exception {
+		CorrectionContextCache.begin();
+		try {
+			get("a");
+			// proposals create the nodes of their rewrites on the shared AST
+			fRoot.getAST().newSimpleName("x");
+			get("a");
+			assertEquals(1, fCount.get());
+		} finally {
+			CorrectionContextCache.end();
+		}
+	}
+
+	@Test
+	public void testNestedInvocations() throws Exception {
+		CorrectionContextCache.begin();
+		try {
+			get("a");
+			CorrectionContextCache.begin();
+			try {
+				get("a");
+			} finally {
+				CorrectionContextCache.end();
+			}
+			get("a");
+			assertEquals(1, fCount.get());
+		} finally {
+			CorrectionContextCache.end();
+		}
+	}
+
+	@Test
+	public void testNullValue() throws Exception {
+		CorrectionContextCache.begin();
+		try {
+			Function<Object, String> function= key -> {
+				fCount.incrementAndGet();
+				return null;
+			};
+			assertNull(CorrectionContextCache.get(fType, "test", "a", function));
+			assertNull(CorrectionContextCache.get(fType, "test", "a", function));
+			assertEquals(1, fCount.get());
+		} finally {
+			CorrectionContextCache.end();
+		}
+	}
+
+	@Test
+	public void testNotSharedWithOtherThreads() throws Exception {
+		CorrectionContextCache.begin();
+		try {
+			get("a");
+			Thread thread= new Thread(() -> get("a"));
+			thread.start();
+			thread.join();
+			assertEquals(2, fCount.get());
+		} finally {
+			CorrectionContextCache.end();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.core;
 
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -38,6 +43,8 @@ import org.eclipse.jdt.ui.JavaElementLabels;
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.viewsupport.JavaElementLabelCache;
+
 public class JavaElementLabelsTest extends CoreTests {
 
 	@Rule
@@ -670,4 +677,139 @@ public class JavaElementLabelsTest extends CoreTests {
 		lab= JavaElementLabels.getTextLabel(foo2, JavaElementLabels.ALL_DEFAULT | JavaElementLabels.ALL_FULLY_QUALIFIED | JavaElementLabels.M_PARAMETER_ANNOTATIONS);
 		assertEqualString(lab, "org.test.Annotations.foo2(@Ann(value=\"\", cl=Annotations.class, ints={1, 2, -19}, ch='\\u0000', sh=32767, r=@Retention(value=RetentionPolicy.SOURCE)) String)");
 	}
+
+	@Test
+	public void testLabelAfterChange() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("org.test", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package org.test;\n");
+		buf.append("public class Outer {\n");
+		buf.append("    public int foo(int i) {\n");
+		buf.append("        return i;\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		String content= buf.toString();
+		ICompilationUnit cu= pack1.createCompilationUnit("Outer.java", content, false, null);
+
+		IJavaElement foo= cu.getElementAt(content.indexOf("foo"));
+		long flags= JavaElementLabels.M_PARAMETER_TYPES | JavaElementLabels.M_APP_RETURNTYPE;
+		assertExpectedLabel(foo, "foo(int) : int", flags);
+		assertExpectedLabel(foo, "foo(int) : int", flags);
+
+		cu.createType("class Inner {}", null, false, null);
+		assertExpectedLabel(foo, "foo(int) : int", flags);
+
+		pack1.createCompilationUnit("Outer.java", content.replace("int foo", "long foo"), true, null);
+		assertExpectedLabel(foo, "foo(int) : long", flags);
+
+		assertExpectedLabel(pack1, "org.test", JavaElementLabels.P_COMPRESSED);
+		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
+		store.setValue(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES, true);
+		try {
+			store.setValue(PreferenceConstants.APPEARANCE_PKG_NAME_PATTERN_FOR_PKG_VIEW, "1~.");
+			assertExpectedLabel(pack1, "o~.test", JavaElementLabels.P_COMPRESSED);
+		} finally {
+			store.setToDefault(PreferenceConstants.APPEARANCE_PKG_NAME_PATTERN_FOR_PKG_VIEW);
+			store.setValue(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES, false);
+		}
+		assertExpectedLabel(pack1, "org.test", JavaElementLabels.P_COMPRESSED);
+	}
+
+	private static Supplier<String> countingLabel(AtomicInteger count) {
+		return () -> {
+			count.incrementAndGet();
+			return "label";
+		};
+	}
+
+	@Test
+	public void testCacheAfterReconcile() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("org.test", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package org.test;\n");
+		buf.append("public class A {\n");
+		buf.append("    public int foo(int i) {\n");
+		buf.append("        return i;\n");
+		buf.append("    }\n");
+		buf.append("    public void bar() {\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		String content= buf.toString();
+		ICompilationUnit a= pack1.createCompilationUnit("A.java", content, false, null);
+		ICompilationUnit b= pack1.createCompilationUnit("B.java", "package org.test;\npublic class B {\n    void baz() {}\n}\n", false, null);
+
+		IJavaElement foo= a.getElementAt(content.indexOf("foo"));
+		IJavaElement bar= a.getElementAt(content.indexOf("bar"));
+		IJavaElement baz= b.getType("B").getMethod("baz", new String[0]);
+		JavaElementLabelCache cache= JavaElementLabelCache.getInstance();
+		AtomicInteger fooCount= new AtomicInteger();
+		AtomicInteger barCount= new AtomicInteger();
+		AtomicInteger bazCount= new AtomicInteger();
+		long flags= JavaElementLabels.M_PARAMETER_TYPES | JavaElementLabels.M_APP_RETURNTYPE;
+		cache.getText(foo, flags, countingLabel(fooCount));
+		cache.getText(bar, flags, countingLabel(barCount));
+		cache.getText(baz, flags, countingLabel(bazCount));
+
+		ICompilationUnit workingCopy= a.getWorkingCopy(null);
+		try {
+			workingCopy.getBuffer().setContents(content.replace("int foo", "long foo"));
+			workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+
+			cache.getText(foo, flags, countingLabel(fooCount));
+			cache.getText(bar, flags, countingLabel(barCount));
+			cache.getText(baz, flags, countingLabel(bazCount));
+			assertEquals(2, fooCount.get());
+			assertEquals(1, barCount.get());
+			assertEquals(1, bazCount.get());
+			assertExpectedLabel(workingCopy.getElementAt(content.indexOf("foo")), "foo(int) : long", flags);
+		} finally {
+			workingCopy.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void testCacheAfterPackageChange() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("org.test", false, null);
+		IPackageFragment pack2= sourceFolder.createPackageFragment("org.other", false, null);
+		ICompilationUnit a= pack1.createCompilationUnit("A.java", "package org.test;\npublic class A {\n}\n", false, null);
+		ICompilationUnit b= pack2.createCompilationUnit("B.java", "package org.other;\npublic class B {\n}\n", false, null);
+
+		JavaElementLabelCache cache= JavaElementLabelCache.getInstance();
+		AtomicInteger aCount= new AtomicInteger();
+		AtomicInteger bCount= new AtomicInteger();
+		cache.getText(a.getType("A"), 0, countingLabel(aCount));
+		cache.getText(b.getType("B"), 0, countingLabel(bCount));
+
+		pack1.delete(true, null);
+
+		cache.getText(a.getType("A"), 0, countingLabel(aCount));
+		cache.getText(b.getType("B"), 0, countingLabel(bCount));
+		assertEquals(2, aCount.get());
+		assertEquals(1, bCount.get());
+	}
+
+	@Test
+	public void testCacheAfterPreferenceChange() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("org.test", false, null);
+
+		JavaElementLabelCache cache= JavaElementLabelCache.getInstance();
+		AtomicInteger count= new AtomicInteger();
+		cache.getText(pack1, JavaElementLabels.P_COMPRESSED, countingLabel(count));
+
+		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
+		boolean markOccurrences= store.getBoolean(PreferenceConstants.EDITOR_MARK_OCCURRENCES);
+		store.setValue(PreferenceConstants.EDITOR_MARK_OCCURRENCES, !markOccurrences);
+		store.setValue(PreferenceConstants.EDITOR_MARK_OCCURRENCES, markOccurrences);
+		cache.getText(pack1, JavaElementLabels.P_COMPRESSED, countingLabel(count));
+		assertEquals(1, count.get());
+
+		store.setValue(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES, true);
+		store.setValue(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES, false);
+		cache.getText(pack1, JavaElementLabels.P_COMPRESSED, countingLabel(count));
+		assertEquals(2, count.get());
+	}
 }
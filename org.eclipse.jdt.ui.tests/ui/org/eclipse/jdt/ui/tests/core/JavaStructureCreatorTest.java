@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import org.eclipse.swt.graphics.Image;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jface.text.Position;
+
+import org.eclipse.compare.IEncodedStreamContentAccessor;
+import org.eclipse.compare.ITypedElement;
+import org.eclipse.compare.structuremergeviewer.DocumentRangeNode;
+import org.eclipse.compare.structuremergeviewer.IStructureComparator;
+
+import org.eclipse.jdt.internal.ui.compare.JavaStructureCreator;
+
+public class JavaStructureCreatorTest {
+
+	private static class Input implements ITypedElement, IEncodedStreamContentAccessor {
+		private String fContents;
+
+		Input(String contents) {
+			fContents= contents;
+		}
+
+		void setContents(String contents) {
+			fContents= contents;
+		}
+
+		@Override
+		public String getName() {
+			return "A.java";
+		}
+
+		@Override
+		public Image getImage() {
+			return null;
+		}
+
+		@Override
+		public String getType() {
+			return "java";
+		}
+
+		@Override
+		public InputStream getContents() throws CoreException {
+			return new ByteArrayInputStream(fContents.getBytes(StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public String getCharset() throws CoreException {
+			return StandardCharsets.UTF_8.name();
+		}
+	}
+
+	private static String toString(Object node) {
+		StringBuilder buf= new StringBuilder();
+		append(buf, node, "");
+		return buf.toString();
+	}
+
+	private static void append(StringBuilder buf, Object node, String indent) {
+		buf.append(indent).append(((ITypedElement) node).getName());
+		if (node instanceof DocumentRangeNode) {
+			Position range= ((DocumentRangeNode) node).getRange();
+			buf.append(" [").append(range.getOffset()).append(", ").append(range.getLength()).append(']');
+		}
+		buf.append('\n');
+		Object[] children= ((IStructureComparator) node).getChildren();
+		if (children != null) {
+			for (Object child : children)
+				append(buf, child, indent + "  ");
+		}
+	}
+
+	private static String getStructure(String contents) {
+		IStructureComparator structure= new JavaStructureCreator().getStructure(new Input(contents));
+		assertNotNull(structure);
+		return toString(structure);
+	}
+
+	@Test
+	public void testSameContents() throws Exception {
+		String contents= "package p;\nclass A {\n\tint x;\n\tvoid a() {\n\t\tx++;\n\t}\n}\n";
+		JavaStructureCreator creator= new JavaStructureCreator();
+		Input input= new Input(contents);
+
+		String first= toString(creator.getStructure(input));
+		String second= toString(creator.getStructure(input));
+
+		assertEquals(getStructure(contents), first);
+		assertEquals(first, second);
+	}
+
+	@Test
+	public void testChangedContents() throws Exception {
+		String contents= "package p;\nclass A {\n\tint x;\n\tvoid a() {\n\t\tx++;\n\t}\n}\n";
+		String changed= "package p;\nclass A {\n\tint x;\n\tvoid a() {\n\t\tx++;\n\t\tx++;\n\t}\n\tvoid b() {\n\t}\n}\n";
+		JavaStructureCreator creator= new JavaStructureCreator();
+		Input input= new Input(contents);
+
+		String before= toString(creator.getStructure(input));
+		input.setContents(changed);
+		String after= toString(creator.getStructure(input));
+
+		assertNotEquals(before, after);
+		assertEquals(getStructure(changed), after);
+
+		input.setContents(contents);
+		assertEquals(before, toString(creator.getStructure(input)));
+	}
+
+	@Test
+	public void testChangedRanges() throws Exception {
+		String contents= "package p;\nclass A {\n\tvoid a() {\n\t}\n}\n";
+		String moved= "package p;\n\n\nclass A {\n\tvoid a() {\n\t}\n}\n";
+		JavaStructureCreator creator= new JavaStructureCreator();
+		Input input= new Input(contents);
+
+		String before= toString(creator.getStructure(input));
+		input.setContents(moved);
+		String after= toString(creator.getStructure(input));
+
+		assertNotEquals(before, after);
+		assertEquals(getStructure(moved), after);
+	}
+}
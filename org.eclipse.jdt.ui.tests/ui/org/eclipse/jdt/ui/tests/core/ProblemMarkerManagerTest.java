@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.IJavaProject;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.viewsupport.IProblemChangedListener;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemMarkerManager;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemMarkerManager.IErrorTicksComputer;
+
+public class ProblemMarkerManagerTest {
+
+	private static class CountingComputer implements IErrorTicksComputer {
+		int fCount;
+
+		@Override
+		public int computeErrorTicks(IResource resource) {
+			fCount++;
+			return 0;
+		}
+	}
+
+	private class Listener implements IProblemChangedListener {
+		@Override
+		public void problemsChanged(IResource[] changedResources, boolean isMarkerChange) {
+			if (isMarkerChange) {
+				synchronized (fChanged) {
+					fChanged.addAll(Arrays.asList(changedResources));
+				}
+			}
+		}
+	}
+
+	private final Set<IResource> fChanged= new HashSet<>();
+	private final Listener fListener= new Listener();
+
+	private ProblemMarkerManager fManager;
+	private IJavaProject fProject;
+	private IFolder fFolder;
+	private IFile fFile;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("ProblemMarkerManagerTest", "bin");
+		fFolder= fProject.getProject().getFolder("folder");
+		fFolder.create(true, true, null);
+		fFile= fFolder.getFile("file.txt");
+		fFile.create(new ByteArrayInputStream(new byte[0]), true, null);
+
+		fManager= JavaPlugin.getDefault().getProblemMarkerManager();
+		fManager.addListener(fListener);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fManager.removeListener(fListener);
+		JavaProjectHelper.delete(fProject);
+	}
+
+	private void waitForChange(IResource resource) {
+		Display display= Display.getCurrent();
+		long end= System.currentTimeMillis() + 10000;
+		while (System.currentTimeMillis() < end) {
+			synchronized (fChanged) {
+				if (fChanged.contains(resource))
+					return;
+			}
+			if (!display.readAndDispatch())
+				display.sleep();
+		}
+	}
+
+	private IMarker createProblemMarker(IResource resource, int severity) throws Exception {
+		IMarker marker= resource.createMarker(IMarker.PROBLEM);
+		marker.setAttribute(IMarker.SEVERITY, severity);
+		waitForChange(resource);
+		return marker;
+	}
+
+	@Test
+	public void testErrorTicksCached() throws Exception {
+		CountingComputer computer= new CountingComputer();
+
+		fManager.getErrorTicks(fFolder, computer);
+		fManager.getErrorTicks(fFolder, computer);
+		fManager.getErrorTicks(fProject.getProject(), computer);
+		fManager.getErrorTicks(fProject.getProject(), computer);
+		assertEquals(2, computer.fCount);
+
+		fManager.getErrorTicks(fFile, computer);
+		fManager.getErrorTicks(fFile, computer);
+		assertEquals(4, computer.fCount);
+	}
+
+	@Test
+	public void testErrorTicksInvalidated() throws Exception {
+		CountingComputer computer= new CountingComputer();
+		IFolder other= fProject.getProject().getFolder("other");
+		other.create(true, true, null);
+
+		fManager.getErrorTicks(fFolder, computer);
+		fManager.getErrorTicks(other, computer);
+		assertEquals(2, computer.fCount);
+
+		createProblemMarker(fFile, IMarker.SEVERITY_ERROR);
+
+		fManager.getErrorTicks(other, computer);
+		assertEquals(2, computer.fCount);
+		fManager.getErrorTicks(fFolder, computer);
+		fManager.getErrorTicks(fFolder, computer);
+		assertEquals(3, computer.fCount);
+	}
+
+	@Test
+	public void testErrorTicksNotCachedWithoutListeners() throws Exception {
+		CountingComputer computer= new CountingComputer();
+		fManager.removeListener(fListener);
+		try {
+			fManager.getErrorTicks(fFolder, computer);
+			fManager.getErrorTicks(fFolder, computer);
+			assertEquals(2, computer.fCount);
+		} finally {
+			fManager.addListener(fListener);
+		}
+	}
+
+	@Test
+	public void testParentsReported() throws Exception {
+		createProblemMarker(fFile, IMarker.SEVERITY_ERROR);
+		CountingComputer computer= new CountingComputer();
+		fManager.getErrorTicks(fFolder, computer);
+		fManager.getErrorTicks(fProject.getProject(), computer);
+		synchronized (fChanged) {
+			fChanged.clear();
+		}
+
+		// the error ticks of the parents do not change, they are reported anyway
+		IMarker marker= createProblemMarker(fFile, IMarker.SEVERITY_ERROR);
+		assertChanged(fFile, fFolder, fProject.getProject());
+		synchronized (fChanged) {
+			fChanged.clear();
+		}
+
+		marker.delete();
+		waitForChange(fFile);
+		assertChanged(fFile, fFolder, fProject.getProject());
+	}
+
+	private void assertChanged(IResource... resources) {
+		synchronized (fChanged) {
+			for (IResource resource : resources) {
+				assertTrue(resource.getFullPath().toString(), fChanged.contains(resource));
+			}
+		}
+	}
+}
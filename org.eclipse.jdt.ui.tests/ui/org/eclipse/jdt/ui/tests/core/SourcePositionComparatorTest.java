@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.viewsupport.SourcePositionComparator;
+
+public class SourcePositionComparatorTest {
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+
+	private IType fType;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("org.test", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package org.test;\n");
+		buf.append("public class A {\n");
+		buf.append("    int x;\n");
+		buf.append("    void b() {}\n");
+		buf.append("    class Inner {}\n");
+		buf.append("    void a() {}\n");
+		buf.append("}\n");
+		ICompilationUnit cu= pack1.createCompilationUnit("A.java", buf.toString(), false, null);
+		fType= cu.getType("A");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	@Test
+	public void testSortMembers() throws Exception {
+		IJavaElement[] members= fType.getChildren();
+		Object[] elements= { members[3], members[1], members[0], members[2] };
+
+		new SourcePositionComparator().sort(null, elements);
+
+		assertArrayEquals(members, elements);
+	}
+
+	@Test
+	public void testSortSorted() throws Exception {
+		IJavaElement[] members= fType.getChildren();
+		Object[] elements= members.clone();
+
+		new SourcePositionComparator().sort(null, elements);
+
+		assertArrayEquals(members, elements);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -252,7 +252,7 @@ public class FatJarExportTests {
 			int magic;
 			int minorVersion;
 			int majorVersion;
-			try ( // check version of class file JarRsrcLoader (jdk 1.6 = version 50.0)
+			try ( // check version of class file JarRsrcLoader (jdk 1.7 = version 51.0)
 					InputStream in = generatedArchive.getInputStream(loaderClassEntry)) {
 				magic = 0;
 				for (int i= 0; i < 4; i++)
@@ -261,7 +261,7 @@ public class FatJarExportTests {
 				majorVersion = ((in.read() << 8) + in.read());
 			}
 			assertEquals("loader is a class file", 0xCAFEBABE, magic); //$NON-NLS-1$
-			assertEquals("loader compiled with JDK 1.6", "50.0", majorVersion + "." + minorVersion); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			assertEquals("loader compiled with JDK 1.7", "51.0", majorVersion + "." + minorVersion); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		}
 
 		MultiStatus status= new MultiStatus(JavaUI.ID_PLUGIN, 0, "", null); //$NON-NLS-1$
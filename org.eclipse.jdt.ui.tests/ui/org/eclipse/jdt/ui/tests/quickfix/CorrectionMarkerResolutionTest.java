@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.quickfix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Hashtable;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.TestOptions;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+
+import org.eclipse.ltk.core.refactoring.IUndoManager;
+import org.eclipse.ltk.core.refactoring.RefactoringCore;
+
+import org.eclipse.ui.IMarkerResolution;
+import org.eclipse.ui.views.markers.WorkbenchMarkerResolution;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaModelMarker;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.compiler.IProblem;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.text.correction.CorrectionMarkerResolutionGenerator;
+
+public class CorrectionMarkerResolutionTest extends QuickFixTest {
+
+	private static final int UNIT_COUNT= 5;
+
+	@Rule
+	public ProjectTestSetup projectSetup= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+	private IPackageFragmentRoot fSourceFolder;
+	private ICompilationUnit[] fUnits;
+	private String[] fContents;
+
+	@Before
+	public void setUp() throws Exception {
+		Hashtable<String, String> options= TestOptions.getDefaultOptions();
+		options.put(JavaCore.COMPILER_PB_UNUSED_IMPORT, JavaCore.WARNING);
+		JavaCore.setOptions(options);
+
+		fJProject1= projectSetup.getProject();
+		fSourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		fUnits= new ICompilationUnit[UNIT_COUNT];
+		fContents= new String[UNIT_COUNT];
+		for (int i= 0; i < UNIT_COUNT; i++) {
+			StringBuilder buf= new StringBuilder();
+			buf.append("package test1;\n");
+			buf.append("import java.util.List;\n");
+			buf.append("public class E" + i + " {\n");
+			buf.append("}\n");
+			fContents[i]= buf.toString();
+			fUnits[i]= pack1.createCompilationUnit("E" + i + ".java", fContents[i], false, null);
+		}
+		fJProject1.getProject().build(IncrementalProjectBuilder.FULL_BUILD, null);
+
+		RefactoringCore.getUndoManager().flush();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RefactoringCore.getUndoManager().flush();
+		JavaProjectHelper.clear(fJProject1, projectSetup.getDefaultClasspath());
+	}
+
+	private IMarker[] getUnusedImportMarkers() throws Exception {
+		IMarker[] markers= fSourceFolder.getResource().findMarkers(IJavaModelMarker.JAVA_MODEL_PROBLEM_MARKER, true, IResource.DEPTH_INFINITE);
+		assertEquals(UNIT_COUNT, markers.length);
+		for (IMarker marker : markers) {
+			assertEquals(IProblem.UnusedImport, marker.getAttribute(IJavaModelMarker.ID, -1));
+		}
+		return markers;
+	}
+
+	private WorkbenchMarkerResolution getRemoveImportResolution(IMarker marker) {
+		IMarkerResolution[] resolutions= new CorrectionMarkerResolutionGenerator().getResolutions(marker);
+		for (IMarkerResolution resolution : resolutions) {
+			if (resolution instanceof WorkbenchMarkerResolution && resolution.getLabel().startsWith("Remove unused import"))
+				return (WorkbenchMarkerResolution) resolution;
+		}
+		return null;
+	}
+
+	private void assertUnchanged() throws Exception {
+		for (int i= 0; i < UNIT_COUNT; i++) {
+			assertEqualString(fUnits[i].getSource(), fContents[i]);
+		}
+	}
+
+	@Test
+	public void testFindOtherMarkers() throws Exception {
+		IMarker[] markers= getUnusedImportMarkers();
+		WorkbenchMarkerResolution resolution= getRemoveImportResolution(markers[0]);
+		assertNotNull(resolution);
+
+		IMarker[] others= resolution.findOtherMarkers(markers);
+		assertEquals(UNIT_COUNT, others.length);
+	}
+
+	@Test
+	public void testFixAllUnitsWithOneUndo() throws Exception {
+		IMarker[] markers= getUnusedImportMarkers();
+		WorkbenchMarkerResolution resolution= getRemoveImportResolution(markers[0]);
+		assertNotNull(resolution);
+
+		resolution.run(resolution.findOtherMarkers(markers), new NullProgressMonitor());
+
+		for (int i= 0; i < UNIT_COUNT; i++) {
+			StringBuilder buf= new StringBuilder();
+			buf.append("package test1;\n");
+			buf.append("public class E" + i + " {\n");
+			buf.append("}\n");
+			assertEqualString(fUnits[i].getSource(), buf.toString());
+		}
+
+		IUndoManager undoManager= RefactoringCore.getUndoManager();
+		assertTrue(undoManager.anythingToUndo());
+		undoManager.performUndo(null, new NullProgressMonitor());
+
+		assertUnchanged();
+		assertFalse(undoManager.anythingToUndo());
+	}
+
+	@Test
+	public void testCanceledFixChangesNothing() throws Exception {
+		IMarker[] markers= getUnusedImportMarkers();
+		WorkbenchMarkerResolution resolution= getRemoveImportResolution(markers[0]);
+		assertNotNull(resolution);
+
+		NullProgressMonitor monitor= new NullProgressMonitor();
+		monitor.setCanceled(true);
+		resolution.run(resolution.findOtherMarkers(markers), monitor);
+
+		assertUnchanged();
+		assertFalse(RefactoringCore.getUndoManager().anythingToUndo());
+	}
+}
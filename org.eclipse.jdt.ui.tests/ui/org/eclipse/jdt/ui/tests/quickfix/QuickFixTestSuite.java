@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -45,6 +45,7 @@ import org.junit.runners.Suite;
 	AssistQuickFixTest12.class,
 	ChangeNonStaticToStaticTest.class,
 	MarkerResolutionTest.class,
+	CorrectionMarkerResolutionTest.class,
 	JavadocQuickFixTest.class,
 	JavadocQuickFixTest9.class,
 	JavadocQuickFixTestPreview.class,
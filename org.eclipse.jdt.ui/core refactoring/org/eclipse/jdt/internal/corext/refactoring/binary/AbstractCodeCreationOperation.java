@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2011 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,16 +14,29 @@
 package org.eclipse.jdt.internal.corext.refactoring.binary;
 
 import java.io.BufferedOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.filesystem.IFileStore;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -32,10 +45,14 @@ import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubProgressMonitor;
 
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRunnable;
 
 import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IOrdinaryClassFile;
 import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 
@@ -46,6 +63,53 @@ import org.eclipse.jdt.internal.ui.JavaPlugin;
  */
 public abstract class AbstractCodeCreationOperation implements IWorkspaceRunnable {
 
+	/**
+	 * The name and content of a compilation unit to create.
+	 *
+	 * @since 3.21
+	 */
+	protected static final class CompilationUnitCode {
+
+		/** The name of the compilation unit */
+		public final String name;
+
+		/** The content of the compilation unit */
+		public final String content;
+
+		/**
+		 * Creates a new compilation unit code.
+		 *
+		 * @param name
+		 *            the name of the compilation unit
+		 * @param content
+		 *            the content of the compilation unit
+		 */
+		public CompilationUnitCode(final String name, final String content) {
+			this.name= name;
+			this.content= content;
+		}
+	}
+
+	/** The maximum number of threads computing compilation units */
+	private static final int MAX_THREADS= 4;
+
+	/** The maximum number of archives whose skipped class files are remembered */
+	private static final int MAX_ARCHIVES= 16;
+
+	/**
+	 * The class files without compilation unit by archive location, size and time stamp. A class
+	 * file of a member, local or anonymous type is skipped again without being opened.
+	 */
+	private static final Map<String, Set<String>> fgSkippedClassFiles= new LinkedHashMap<String, Set<String>>(MAX_ARCHIVES, 0.75f, true) {
+
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<String, Set<String>> eldest) {
+			return size() > MAX_ARCHIVES;
+		}
+	};
+
 	/** The URI where to output the stubs */
 	protected final URI fOutputURI;
 
@@ -117,6 +181,31 @@ public abstract class AbstractCodeCreationOperation implements IWorkspaceRunnabl
 		store.mkdir(EFS.NONE, monitor);
 	}
 
+	/**
+	 * Writes the compilation units of a package. The default implementation calls
+	 * {@link #createCompilationUnit(IFileStore, String, String, IProgressMonitor)} for each
+	 * compilation unit.
+	 *
+	 * @param store
+	 *            the file store of the package
+	 * @param units
+	 *            the compilation units to write
+	 * @param monitor
+	 *            the progress monitor to use
+	 * @throws CoreException
+	 *             if an error occurs while creating a compilation unit
+	 * @since 3.21
+	 */
+	protected void createCompilationUnits(final IFileStore store, final List<CompilationUnitCode> units, final IProgressMonitor monitor) throws CoreException {
+		try {
+			monitor.beginTask(getOperationLabel(), units.size());
+			for (CompilationUnitCode unit : units)
+				createCompilationUnit(store, unit.name, unit.content, new SubProgressMonitor(monitor, 1));
+		} finally {
+			monitor.done();
+		}
+	}
+
 	/**
 	 * Returns the operation label.
 	 *
@@ -125,24 +214,28 @@ public abstract class AbstractCodeCreationOperation implements IWorkspaceRunnabl
 	protected abstract String getOperationLabel();
 
 	/**
-	 * Runs the stub generation on the specified class file.
+	 * Computes the compilation unit for the specified class file. This method is called
+	 * concurrently for the class files of a package and must not modify the workspace.
 	 *
 	 * @param file
 	 *            the class file
-	 * @param parent
-	 *            the parent store
 	 * @param monitor
-	 *            the progress monitor to use
+	 *            the progress monitor to use, shared by the concurrent computations and
+	 *            canceled when the operation is canceled
+	 * @return the compilation unit, or <code>null</code> if no compilation unit is created for
+	 *         the class file, e.g. because it contains a member type
 	 * @throws CoreException
 	 *             if an error occurs
+	 * @since 3.21
 	 */
-	protected abstract void run(IClassFile file, IFileStore parent, IProgressMonitor monitor) throws CoreException;
+	protected abstract CompilationUnitCode createCompilationUnitCode(IClassFile file, IProgressMonitor monitor) throws CoreException;
 
 	@Override
 	public void run(IProgressMonitor monitor) throws CoreException {
 		if (monitor == null)
 			monitor= new NullProgressMonitor();
 		monitor.beginTask(getOperationLabel(), 100 * fPackages.size());
+		final ExecutorService executor= createExecutor();
 		try {
 			final StringBuilder builder= new StringBuilder(128);
 			for (IPackageFragment fragment : fPackages) {
@@ -166,20 +259,126 @@ public abstract class AbstractCodeCreationOperation implements IWorkspaceRunnabl
 						createPackageFragment(store, pack, new SubProgressMonitor(subMonitor, 10));
 				} else
 					createPackageFragment(store, "", new SubProgressMonitor(subMonitor, 10)); //$NON-NLS-1$
-				final IProgressMonitor subsubMonitor= new SubProgressMonitor(subMonitor, 30);
-				try {
-					subsubMonitor.beginTask(getOperationLabel(), size * 100);
-					for (IClassFile file : files) {
-						if (subMonitor.isCanceled())
-							throw new OperationCanceledException();
-						run(file, store, new SubProgressMonitor(subsubMonitor, 100));
-					}
-				} finally {
-					subsubMonitor.done();
+				final List<CompilationUnitCode> units= createCompilationUnitCode(fragment, files, executor, new SubProgressMonitor(subMonitor, 30));
+				createCompilationUnits(store, units, new SubProgressMonitor(subMonitor, 10));
+			}
+		} finally {
+			executor.shutdown();
+			monitor.done();
+		}
+	}
+
+	/**
+	 * Computes the compilation units of the given class files in parallel. The computations are
+	 * canceled through their progress monitor, they are never interrupted: an interrupt closes
+	 * the channels of the archive the class files are read from.
+	 *
+	 * @param fragment
+	 *            the package of the class files
+	 * @param files
+	 *            the class files
+	 * @param executor
+	 *            the executor to compute the compilation units
+	 * @param monitor
+	 *            the progress monitor to use
+	 * @return the compilation units, in the order of the class files
+	 * @throws CoreException
+	 *             if an error occurs
+	 */
+	private List<CompilationUnitCode> createCompilationUnitCode(final IPackageFragment fragment, final IClassFile[] files, final ExecutorService executor, final IProgressMonitor monitor) throws CoreException {
+		final Set<String> skipped= getSkippedClassFiles(fragment);
+		final List<Future<CompilationUnitCode>> futures= new ArrayList<>(files.length);
+		final List<String> names= new ArrayList<>(files.length);
+		final IProgressMonitor taskMonitor= new NullProgressMonitor();
+		try {
+			monitor.beginTask(getOperationLabel(), files.length);
+			for (IClassFile file : files) {
+				final String key= fragment.getElementName() + '/' + file.getElementName();
+				if (skipped != null && skipped.contains(key)) {
+					monitor.worked(1);
+					continue;
 				}
+				futures.add(executor.submit(() -> {
+					if (taskMonitor.isCanceled())
+						throw new OperationCanceledException();
+					return createCompilationUnitCode(file, taskMonitor);
+				}));
+				// only ordinary class files are skipped for their type
+				names.add(file instanceof IOrdinaryClassFile ? key : null);
+			}
+			final List<CompilationUnitCode> units= new ArrayList<>(futures.size());
+			for (int index= 0; index < futures.size(); index++) {
+				final CompilationUnitCode unit= getResult(futures.get(index), monitor);
+				if (unit != null)
+					units.add(unit);
+				else if (skipped != null && names.get(index) != null)
+					skipped.add(names.get(index));
+				monitor.worked(1);
 			}
+			return units;
 		} finally {
+			taskMonitor.setCanceled(true);
+			for (Future<CompilationUnitCode> future : futures)
+				future.cancel(false);
 			monitor.done();
 		}
 	}
+
+	private static CompilationUnitCode getResult(final Future<CompilationUnitCode> future, final IProgressMonitor monitor) throws CoreException {
+		while (true) {
+			if (monitor.isCanceled())
+				throw new OperationCanceledException();
+			try {
+				return future.get(100, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException exception) {
+				// check for cancellation
+			} catch (InterruptedException exception) {
+				throw new OperationCanceledException();
+			} catch (ExecutionException exception) {
+				final Throwable cause= exception.getCause();
+				if (cause instanceof CoreException)
+					throw (CoreException) cause;
+				if (cause instanceof RuntimeException)
+					throw (RuntimeException) cause;
+				throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), 0, cause.getLocalizedMessage(), cause));
+			}
+		}
+	}
+
+	private static ExecutorService createExecutor() {
+		final int threads= Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+		return Executors.newFixedThreadPool(threads, runnable -> {
+			final Thread thread= new Thread(runnable, "Code Creation"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Returns the class files of the archive of the given package for which no compilation unit
+	 * has been created before. The class files are remembered as long as the archive does not
+	 * change.
+	 *
+	 * @param fragment
+	 *            the package
+	 * @return the names of the skipped class files, qualified by their package, or
+	 *         <code>null</code> if the package is not in an archive
+	 */
+	private static Set<String> getSkippedClassFiles(final IPackageFragment fragment) {
+		final IJavaElement parent= fragment.getParent();
+		if (!(parent instanceof IPackageFragmentRoot) || !((IPackageFragmentRoot) parent).isArchive())
+			return null;
+		final IPackageFragmentRoot root= (IPackageFragmentRoot) parent;
+		final IResource resource= root.getResource();
+		final IPath location= resource != null ? resource.getLocation() : root.getPath();
+		if (location == null)
+			return null;
+		final File file= location.toFile();
+		if (!file.isFile())
+			return null;
+		final String key= location.toString() + '|' + file.length() + '|' + file.lastModified();
+		synchronized (fgSkippedClassFiles) {
+			return fgSkippedClassFiles.computeIfAbsent(key, archive -> ConcurrentHashMap.newKeySet());
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,6 @@ package org.eclipse.jdt.internal.corext.refactoring.binary;
 import java.net.URI;
 import java.util.List;
 
-import org.eclipse.core.filesystem.IFileStore;
-
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubProgressMonitor;
@@ -74,30 +72,18 @@ public class StubCreationOperation extends AbstractCodeCreationOperation {
 		return RefactoringCoreMessages.StubCreationOperation_creating_type_stubs;
 	}
 
-	/**
-	 * Runs the stub generation on the specified class file.
-	 *
-	 * @param file
-	 *            the class file
-	 * @param parent
-	 *            the parent store
-	 * @param monitor
-	 *            the progress monitor to use
-	 * @throws CoreException
-	 *             if an error occurs
-	 */
 	@Override
-	protected void run(final IClassFile file, final IFileStore parent, final IProgressMonitor monitor) throws CoreException {
+	protected CompilationUnitCode createCompilationUnitCode(final IClassFile file, final IProgressMonitor monitor) throws CoreException {
 		try {
-			monitor.beginTask(RefactoringCoreMessages.StubCreationOperation_creating_type_stubs, 2);
-			SubProgressMonitor subProgressMonitor= new SubProgressMonitor(monitor, 1);
+			monitor.beginTask(RefactoringCoreMessages.StubCreationOperation_creating_type_stubs, 1);
 			if (file instanceof IOrdinaryClassFile) {
 				final IType type= ((IOrdinaryClassFile) file).getType();
 				if (type.isAnonymous() || type.isLocal() || type.isMember())
-					return;
-				String source= new StubCreator(fStubInvisible).createStub(type, subProgressMonitor);
-				createCompilationUnit(parent, type.getElementName() + JavaModelUtil.DEFAULT_CU_SUFFIX, source, monitor);
+					return null;
+				String source= new StubCreator(fStubInvisible).createStub(type, new SubProgressMonitor(monitor, 1));
+				return new CompilationUnitCode(type.getElementName() + JavaModelUtil.DEFAULT_CU_SUFFIX, source);
 			}
+			return null;
 		} finally {
 			monitor.done();
 		}
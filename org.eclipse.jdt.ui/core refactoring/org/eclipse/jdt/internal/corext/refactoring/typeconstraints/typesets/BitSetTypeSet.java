@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.core.runtime.Assert;
+
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
+
+/**
+ * An immutable type set over the dense type ids of a {@link TypeSetEnvironment}.
+ * Unions, intersections and containment tests against other bit-set backed
+ * sets are word-parallel operations on the underlying {@link BitSet}s.
+ */
+public class BitSetTypeSet extends TypeSet {
+
+	private final BitSet fMembers;
+
+	private EnumeratedTypeSet fEnumCache= null;
+
+	private int fHashCode;
+
+	BitSetTypeSet(BitSet members, TypeSetEnvironment typeSetEnvironment) {
+		super(typeSetEnvironment);
+		Assert.isTrue(!members.isEmpty());
+		fMembers= members;
+	}
+
+	@Override
+	protected BitSet getMemberIds() {
+		return fMembers;
+	}
+
+	@Override
+	public boolean isUniverse() {
+		return false;
+	}
+
+	@Override
+	public TypeSet makeClone() {
+		return this;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return false;
+	}
+
+	@Override
+	public boolean isSingleton() {
+		return fMembers.cardinality() == 1;
+	}
+
+	@Override
+	public TType anyMember() {
+		return getTypeSetEnvironment().getType(fMembers.nextSetBit(0));
+	}
+
+	@Override
+	public boolean contains(TType t) {
+		int id= getTypeSetEnvironment().getExistingTypeId(t);
+		return id != -1 && fMembers.get(id);
+	}
+
+	@Override
+	public boolean containsAll(TypeSet s) {
+		if (s.isEmpty())
+			return true;
+		if (s.isUniverse())
+			return false;
+		BitSet other= s.getMemberIds();
+		if (other != null) {
+			BitSet missing= (BitSet) other.clone();
+			missing.andNot(fMembers);
+			return missing.isEmpty();
+		}
+		for (Iterator<TType> iter= s.iterator(); iter.hasNext();) {
+			if (!contains(iter.next()))
+				return false;
+		}
+		return true;
+	}
+
+	@Override
+	public TypeSet upperBound() {
+		return enumerate().upperBound();
+	}
+
+	@Override
+	public TypeSet lowerBound() {
+		return enumerate().lowerBound();
+	}
+
+	@Override
+	public boolean hasUniqueLowerBound() {
+		return isSingleton();
+	}
+
+	@Override
+	public boolean hasUniqueUpperBound() {
+		return isSingleton();
+	}
+
+	@Override
+	public TType uniqueLowerBound() {
+		return isSingleton() ? anyMember() : null;
+	}
+
+	@Override
+	public TType uniqueUpperBound() {
+		return isSingleton() ? anyMember() : null;
+	}
+
+	@Override
+	public Iterator<TType> iterator() {
+		return new Iterator<TType>() {
+			private int fNext= fMembers.nextSetBit(0);
+
+			@Override
+			public boolean hasNext() {
+				return fNext >= 0;
+			}
+
+			@Override
+			public TType next() {
+				if (fNext < 0)
+					throw new NoSuchElementException();
+				TType result= getTypeSetEnvironment().getType(fNext);
+				fNext= fMembers.nextSetBit(fNext + 1);
+				return result;
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	@Override
+	public EnumeratedTypeSet enumerate() {
+		if (fEnumCache == null) {
+			fEnumCache= new EnumeratedTypeSet(iterator(), getTypeSetEnvironment());
+			fEnumCache.initComplete();
+		}
+		return fEnumCache;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Bit-set backed sets are equal to each other if they have the same ids, and to enumerated
+	 * sets if they have the same members, like {@link EnumeratedTypeSet#equals(Object)}. They
+	 * are not equal to the lazily computed sets, which only compare to sets of their own kind.
+	 * </p>
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (o instanceof BitSetTypeSet) {
+			BitSetTypeSet other= (BitSetTypeSet) o;
+			return getTypeSetEnvironment() == other.getTypeSetEnvironment() && fMembers.equals(other.fMembers);
+		} else if (o instanceof EnumeratedTypeSet) {
+			EnumeratedTypeSet other= (EnumeratedTypeSet) o;
+			return other.size() == fMembers.cardinality() && containsAll(other);
+		} else
+			return false;
+	}
+
+	/**
+	 * Returns the same hash code as an {@link EnumeratedTypeSet} with the same members.
+	 */
+	@Override
+	public int hashCode() {
+		if (fHashCode == 0) {
+			int hashCode= 37;
+			for (Iterator<TType> iter= iterator(); iter.hasNext();)
+				hashCode+= iter.next().hashCode();
+			fHashCode= hashCode;
+		}
+		return fHashCode;
+	}
+
+	@Override
+	public String toString() {
+		return "{" + fID + ": bits " + fMembers + "}"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.BitSet;
 import java.util.Iterator;
 
 import org.eclipse.core.runtime.Assert;
@@ -48,6 +49,13 @@ public class SingletonTypeSet extends TypeSet {
 			return getTypeSetEnvironment().getEmptyTypeSet();
 	}
 
+	@Override
+	protected BitSet getMemberIds() {
+		BitSet ids= new BitSet();
+		ids.set(getTypeSetEnvironment().getTypeId(fType));
+		return ids;
+	}
+
 	@Override
 	public boolean isEmpty() {
 		return false;
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.BitSet;
 import java.util.Iterator;
 
 import org.eclipse.core.runtime.Assert;
@@ -82,6 +83,13 @@ public class SubTypesOfSingleton extends TypeSet {
 		return null;
 	}
 
+	@Override
+	protected BitSet getMemberIds() {
+		if (isUniverse())
+			return null;
+		return getTypeSetEnvironment().getSubTypeClosure(fUpperBound);
+	}
+
 	@Override
 	public boolean isEmpty() {
 		return false;
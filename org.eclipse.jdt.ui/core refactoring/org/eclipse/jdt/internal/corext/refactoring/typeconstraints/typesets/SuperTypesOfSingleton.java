@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.BitSet;
 import java.util.Iterator;
 
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.ArrayType;
@@ -74,6 +75,11 @@ public class SuperTypesOfSingleton extends TypeSet {
 		return null;
 	}
 
+	@Override
+	protected BitSet getMemberIds() {
+		return getTypeSetEnvironment().getSuperTypeClosure(fLowerBound);
+	}
+
 	@Override
 	public boolean isEmpty() {
 		return false;
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.BitSet;
 import java.util.Iterator;
 
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
@@ -70,6 +71,17 @@ public abstract class TypeSet implements ITypeSet {
 		return null;
 	}
 
+	/**
+	 * Returns the ids of the members of this set in the {@link TypeSetEnvironment}'s
+	 * type universe, if they are cheaply available. Clients must not modify the
+	 * returned set.
+	 *
+	 * @return the member ids, or <code>null</code> if this set is not bit-set backed
+	 */
+	protected BitSet getMemberIds() {
+		return null;
+	}
+
 	@Override
 	public abstract boolean equals(Object obj);
 
@@ -111,8 +123,15 @@ public abstract class TypeSet implements ITypeSet {
 
 		if (result != null)
 			return result;
-		else
-			return new TypeSetIntersection(this, s2);
+
+		BitSet lhsIds= getMemberIds();
+		BitSet rhsIds= lhsIds != null ? s2.getMemberIds() : null;
+		if (rhsIds != null) {
+			BitSet xsect= (BitSet) lhsIds.clone();
+			xsect.and(rhsIds);
+			return getTypeSetEnvironment().createBitSetTypeSet(xsect);
+		}
+		return new TypeSetIntersection(this, s2);
 	}
 
 	/**
@@ -132,6 +151,13 @@ public abstract class TypeSet implements ITypeSet {
 			result.addAll(that);
 			return result;
 		}
+		BitSet lhsIds= getMemberIds();
+		BitSet rhsIds= lhsIds != null ? that.getMemberIds() : null;
+		if (rhsIds != null) {
+			BitSet union= (BitSet) lhsIds.clone();
+			union.or(rhsIds);
+			return getTypeSetEnvironment().createBitSetTypeSet(union);
+		}
 		return new TypeSetUnion(this, that);
 	}
 
@@ -14,11 +14,18 @@
 
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.ArrayType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.TTypes;
 
 
 
@@ -33,6 +40,16 @@ public class TypeSetEnvironment {
 	private final Map<TType, SuperTypesOfSingleton> fSuperTypesOfSingletons= new LinkedHashMap<>();//@perf
 	private final Map<Object, SuperTypesSet> fSuperTypesSets= new LinkedHashMap<>();//@perf
 
+	/**
+	 * Dense ids for the types of this environment's type universe. The id of a type is
+	 * its index in {@link #fTypes} and its bit index in {@link BitSetTypeSet}s.
+	 */
+	private final Map<TType, Integer> fTypeIds= new HashMap<>();
+	private final List<TType> fTypes= new ArrayList<>();
+
+	private final Map<TType, BitSet> fSubTypeClosures= new HashMap<>();//@perf
+	private final Map<TType, BitSet> fSuperTypeClosures= new HashMap<>();//@perf
+
 	private int fgCommonExprHits= 0;
 	private int fgCommonExprMisses= 0;
 
@@ -119,9 +136,107 @@ public class TypeSetEnvironment {
 		}
 	}
 
+	/**
+	 * Returns the dense id of the given type, assigning a new one if the type has not
+	 * been seen by this environment before.
+	 *
+	 * @param type the type
+	 * @return the id of the type
+	 */
+	public int getTypeId(TType type) {
+		Integer id= fTypeIds.get(type);
+		if (id == null) {
+			id= Integer.valueOf(fTypes.size());
+			fTypes.add(type);
+			fTypeIds.put(type, id);
+		}
+		return id.intValue();
+	}
+
+	/**
+	 * @param type the type
+	 * @return the id of the type, or <code>-1</code> if no id has been assigned yet
+	 */
+	public int getExistingTypeId(TType type) {
+		Integer id= fTypeIds.get(type);
+		return id == null ? -1 : id.intValue();
+	}
+
+	/**
+	 * @param id a type id
+	 * @return the type with the given id
+	 */
+	public TType getType(int id) {
+		return fTypes.get(id);
+	}
+
+	/**
+	 * Returns the ids of the type and all its subtypes, i.e. the members of
+	 * {@link SubTypesOfSingleton#enumerate()}. The closure is computed once per type.
+	 * Clients must not modify the returned set.
+	 *
+	 * @param superType the upper bound
+	 * @return the subtype closure
+	 */
+	public BitSet getSubTypeClosure(TType superType) {
+		BitSet closure= fSubTypeClosures.get(superType);
+		if (closure == null) {
+			closure= new BitSet();
+			if (superType instanceof ArrayType) {
+				ArrayType at= (ArrayType) superType;
+				for (Iterator<TType> iter= TTypes.getAllSubTypesIterator(at.getComponentType()); iter.hasNext();)
+					closure.set(getTypeId(TTypes.createArrayType(iter.next(), 1)));
+			} else {
+				for (Iterator<TType> iter= TTypes.getAllSubTypesIterator(superType); iter.hasNext();)
+					closure.set(getTypeId(iter.next()));
+			}
+			closure.set(getTypeId(superType));
+			fSubTypeClosures.put(superType, closure);
+		}
+		return closure;
+	}
+
+	/**
+	 * Returns the ids of the type and all its supertypes, i.e. the members of
+	 * {@link SuperTypesOfSingleton#enumerate()}. The closure is computed once per type.
+	 * Clients must not modify the returned set.
+	 *
+	 * @param subType the lower bound
+	 * @return the supertype closure
+	 */
+	public BitSet getSuperTypeClosure(TType subType) {
+		BitSet closure= fSuperTypeClosures.get(subType);
+		if (closure == null) {
+			closure= new BitSet();
+			if (subType instanceof ArrayType) {
+				ArrayType at= (ArrayType) subType;
+				for (Iterator<TType> iter= TTypes.getAllSuperTypesIterator(at.getComponentType()); iter.hasNext();)
+					closure.set(getTypeId(TTypes.createArrayType(iter.next(), 1)));
+				closure.set(getTypeId(getJavaLangObject()));
+			} else {
+				for (Iterator<TType> iter= TTypes.getAllSuperTypesIterator(subType); iter.hasNext();)
+					closure.set(getTypeId(iter.next()));
+			}
+			closure.set(getTypeId(subType));
+			fSuperTypeClosures.put(subType, closure);
+		}
+		return closure;
+	}
+
+	/**
+	 * @param members the type ids; the set is owned by the result afterwards
+	 * @return a type set containing the types with the given ids
+	 */
+	public TypeSet createBitSetTypeSet(BitSet members) {
+		if (members.isEmpty())
+			return fEmptyTypeSet;
+		return new BitSetTypeSet(members, this);
+	}
+
 	public void dumpStats() {
 		System.out.println("Common expression hits:   " + fgCommonExprHits); //$NON-NLS-1$
 		System.out.println("Common expression misses: " + fgCommonExprMisses); //$NON-NLS-1$
+		System.out.println("Type ids:                 " + fTypes.size()); //$NON-NLS-1$
 	}
 
 }
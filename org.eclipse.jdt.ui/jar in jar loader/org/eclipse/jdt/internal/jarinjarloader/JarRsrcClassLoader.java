@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.jarinjarloader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.security.CodeSource;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.Manifest;
+
+/**
+ * This class will be compiled into the binary jar-in-jar-loader.zip. This ZIP is used for the
+ * "Runnable JAR File Exporter"
+ *
+ * Class loader that serves the nested jars from a {@link JarRsrcIndex}. The class path
+ * directories and the nested jars are searched in the order of the redirected class path.
+ *
+ * @since 3.21
+ */
+public class JarRsrcClassLoader extends URLClassLoader {
+
+	static {
+		registerAsParallelCapable();
+	}
+
+	/** The class path, in order: a directory URL or the name of a nested jar per element */
+	private final Object[] classPath;
+
+	private final JarRsrcIndex index;
+
+	public JarRsrcClassLoader(Object[] classPath, JarRsrcIndex index, ClassLoader parent) {
+		super(new URL[0], parent);
+		this.classPath = classPath;
+		this.index = index;
+	}
+
+	/**
+	 * Finds the first class path element containing the given resource.
+	 *
+	 * @param name the resource name
+	 * @param entry the entry of the first nested jar containing the resource, or
+	 *            <code>null</code>
+	 * @return the index of the class path element, or <code>-1</code> if the resource is not on
+	 *         the class path
+	 */
+	private int find(String name, JarRsrcIndex.Entry entry) {
+		// the entries of the nested jars are linked in class path order
+		for (int i = 0; i < classPath.length; i++) {
+			Object element = classPath[i];
+			if (element instanceof URL) {
+				if (findInDirectory((URL) element, name) != null)
+					return i;
+			} else if (entry != null && entry.jarName.equals(element)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static URL findInDirectory(URL directory, String name) {
+		try {
+			URL url = new URL(directory, name);
+			InputStream in = url.openStream();
+			in.close();
+			return url;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	@Override
+	protected Class findClass(String name) throws ClassNotFoundException {
+		String path = name.replace('.', '/') + ".class"; //$NON-NLS-1$
+		JarRsrcIndex.Entry entry = index.getEntry(path);
+		int i = find(path, entry);
+		if (i == -1)
+			throw new ClassNotFoundException(name);
+		try {
+			byte[] bytes;
+			URL codeSourceUrl;
+			if (classPath[i] instanceof URL) {
+				codeSourceUrl = (URL) classPath[i];
+				bytes = readAll(new URL(codeSourceUrl, path));
+				entry = null;
+			} else {
+				codeSourceUrl = getJarUrl(entry.jarName);
+				bytes = entry.read();
+			}
+			int lastDot = name.lastIndexOf('.');
+			if (lastDot != -1)
+				definePackage(name.substring(0, lastDot), entry, codeSourceUrl);
+			return defineClass(name, bytes, 0, bytes.length, new CodeSource(codeSourceUrl, (Certificate[]) null));
+		} catch (IOException e) {
+			throw new ClassNotFoundException(name, e);
+		}
+	}
+
+	private static byte[] readAll(URL url) throws IOException {
+		InputStream in = url.openStream();
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1)
+				out.write(buffer, 0, read);
+			return out.toByteArray();
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * @param packageName the package name
+	 * @param entry the entry of the class in a nested jar, or <code>null</code> if the class is
+	 *            in a directory
+	 * @param codeSourceUrl the URL of the class path element
+	 * @throws IOException if the manifest of the nested jar cannot be read
+	 */
+	private void definePackage(String packageName, JarRsrcIndex.Entry entry, URL codeSourceUrl) throws IOException {
+		if (getPackage(packageName) != null)
+			return;
+		Manifest manifest = null;
+		if (entry != null) {
+			JarRsrcIndex.Entry manifestEntry = index.getManifestEntry(entry.jarName);
+			if (manifestEntry != null)
+				manifest = new Manifest(new ByteArrayInputStream(manifestEntry.read()));
+		}
+		try {
+			if (manifest != null)
+				definePackage(packageName, manifest, codeSourceUrl);
+			else
+				definePackage(packageName, null, null, null, null, null, null, null);
+		} catch (IllegalArgumentException e) {
+			// defined concurrently
+		}
+	}
+
+	@Override
+	public URL findResource(String name) {
+		JarRsrcIndex.Entry entry = index.getEntry(name);
+		int i = find(name, entry);
+		if (i == -1)
+			return null;
+		try {
+			if (classPath[i] instanceof URL)
+				return new URL((URL) classPath[i], name);
+			return getEntryUrl(entry, name);
+		} catch (MalformedURLException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public Enumeration findResources(String name) throws IOException {
+		List result = new ArrayList();
+		for (int i = 0; i < classPath.length; i++) {
+			Object element = classPath[i];
+			if (element instanceof URL) {
+				URL url = findInDirectory((URL) element, name);
+				if (url != null)
+					result.add(url);
+			} else {
+				JarRsrcIndex.Entry entry = index.getEntry(name, (String) element);
+				if (entry != null)
+					result.add(getEntryUrl(entry, name));
+			}
+		}
+		return Collections.enumeration(result);
+	}
+
+	@Override
+	public InputStream getResourceAsStream(String name) {
+		URL url = getResource(name);
+		if (url == null)
+			return null;
+		try {
+			// opening the URL of a nested entry would make the JDK extract the whole nested jar
+			JarRsrcIndex.Entry entry = index.getEntry(name);
+			if (entry != null && url.toExternalForm().equals(getEntryUrl(entry, name).toExternalForm()))
+				return new ByteArrayInputStream(entry.read());
+			return url.openStream();
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static URL getJarUrl(String jarName) throws MalformedURLException {
+		return new URL(JIJConstants.JAR_INTERNAL_URL_PROTOCOL_WITH_COLON + jarName + JIJConstants.JAR_INTERNAL_SEPARATOR);
+	}
+
+	private static URL getEntryUrl(JarRsrcIndex.Entry entry, String name) throws MalformedURLException {
+		return new URL(JIJConstants.JAR_INTERNAL_URL_PROTOCOL_WITH_COLON + entry.jarName + JIJConstants.JAR_INTERNAL_SEPARATOR + name);
+	}
+
+	/**
+	 * Creates an indexed class loader for the given class path, if the outer jar is a local file
+	 * and all nested jars can be indexed.
+	 *
+	 * @param rsrcClassPath the redirected class path
+	 * @param parent the parent class loader
+	 * @return the class loader, or <code>null</code> if the nested jars cannot be indexed
+	 */
+	static ClassLoader create(String[] rsrcClassPath, ClassLoader parent) {
+		try {
+			CodeSource codeSource = JarRsrcClassLoader.class.getProtectionDomain().getCodeSource();
+			if (codeSource == null || codeSource.getLocation() == null || !"file".equals(codeSource.getLocation().getProtocol())) //$NON-NLS-1$
+				return null;
+			File outerJar = new File(codeSource.getLocation().toURI());
+			if (!outerJar.isFile())
+				return null;
+
+			Object[] classPath = new Object[rsrcClassPath.length];
+			List jarNames = new ArrayList();
+			for (int i = 0; i < rsrcClassPath.length; i++) {
+				String rsrcPath = rsrcClassPath[i];
+				if (rsrcPath.endsWith(JIJConstants.PATH_SEPARATOR)) {
+					classPath[i] = new URL(JIJConstants.INTERNAL_URL_PROTOCOL_WITH_COLON + rsrcPath);
+				} else {
+					classPath[i] = rsrcPath;
+					jarNames.add(rsrcPath);
+				}
+			}
+			JarRsrcIndex index = JarRsrcIndex.create(outerJar, (String[]) jarNames.toArray(new String[jarNames.size()]));
+			if (index == null)
+				return null;
+			return new JarRsrcClassLoader(classPath, index, parent);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+}
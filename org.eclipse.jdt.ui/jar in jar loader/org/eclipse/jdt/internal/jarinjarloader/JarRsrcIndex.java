@@ -0,0 +1,282 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.jarinjarloader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.jar.JarFile;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * This class will be compiled into the binary jar-in-jar-loader.zip. This ZIP is used for the
+ * "Runnable JAR File Exporter"
+ *
+ * An index from entry name to nested jar for the jars embedded in the outer jar. The outer jar
+ * is memory-mapped and the central directories of the nested jars are read from the mapped
+ * buffer, so entries are served without extracting or re-opening the nested jars.
+ *
+ * Only nested jars that are stored uncompressed in the outer jar can be indexed, since their
+ * content has to be a contiguous slice of the outer jar.
+ *
+ * @since 3.21
+ */
+final class JarRsrcIndex {
+
+	private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+	private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+	private static final int END_HEADER_SIGNATURE = 0x06054b50;
+	private static final int END_HEADER_SIZE = 22;
+	private static final int LOCAL_HEADER_SIZE = 30;
+	private static final int CENTRAL_HEADER_SIZE = 46;
+	private static final int MAX_COMMENT_SIZE = 0xFFFF;
+	private static final int STORED = 0;
+	private static final int DEFLATED = 8;
+	private static final String UTF8 = JIJConstants.UTF8_ENCODING;
+
+	/**
+	 * An entry of a nested jar.
+	 */
+	static final class Entry {
+		final String jarName;
+		/** The entry with the same name in a later nested jar, or <code>null</code> */
+		Entry next;
+		private final ByteBuffer jar;
+		private final int localHeaderOffset;
+		private final int method;
+		private final int compressedSize;
+		private final int size;
+
+		Entry(String jarName, ByteBuffer jar, int localHeaderOffset, int method, int compressedSize, int size) {
+			this.jarName = jarName;
+			this.jar = jar;
+			this.localHeaderOffset = localHeaderOffset;
+			this.method = method;
+			this.compressedSize = compressedSize;
+			this.size = size;
+		}
+
+		/**
+		 * @return the uncompressed content of the entry
+		 * @throws IOException if the entry is corrupt
+		 */
+		byte[] read() throws IOException {
+			ByteBuffer buffer = jar.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+			if (buffer.getInt(localHeaderOffset) != LOCAL_HEADER_SIGNATURE)
+				throw new IOException("Invalid local header in " + jarName); //$NON-NLS-1$
+			int dataOffset = localHeaderOffset + LOCAL_HEADER_SIZE + getUnsignedShort(buffer, localHeaderOffset + 26) + getUnsignedShort(buffer, localHeaderOffset + 28);
+			byte[] data = new byte[compressedSize];
+			buffer.position(dataOffset);
+			buffer.get(data);
+			if (method == STORED)
+				return data;
+
+			Inflater inflater = new Inflater(true);
+			try {
+				inflater.setInput(data);
+				byte[] result = new byte[size];
+				int length = 0;
+				while (length < size) {
+					int count = inflater.inflate(result, length, size - length);
+					if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary()))
+						break;
+					length += count;
+				}
+				if (length != size)
+					throw new IOException("Corrupt entry in " + jarName); //$NON-NLS-1$
+				return result;
+			} catch (DataFormatException e) {
+				throw new IOException("Corrupt entry in " + jarName); //$NON-NLS-1$
+			} finally {
+				inflater.end();
+			}
+		}
+	}
+
+	private final Map entries = new HashMap(); // String -> Entry
+	private final Map manifests = new HashMap(); // jar name -> Entry
+
+	private JarRsrcIndex() {
+	}
+
+	/**
+	 * Builds the index for the given nested jars. Entries of earlier jars take precedence.
+	 *
+	 * @param outerJar the outer jar file
+	 * @param jarNames the names of the nested jars in the outer jar, in class path order
+	 * @return the index, or <code>null</code> if one of the nested jars cannot be indexed
+	 * @throws IOException if the outer jar cannot be read
+	 */
+	static JarRsrcIndex create(File outerJar, String[] jarNames) throws IOException {
+		ByteBuffer outer;
+		RandomAccessFile file = new RandomAccessFile(outerJar, "r"); //$NON-NLS-1$
+		try {
+			FileChannel channel = file.getChannel();
+			if (channel.size() > Integer.MAX_VALUE)
+				return null;
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			outer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+		} finally {
+			file.close(); // the mapping stays valid
+		}
+
+		Map outerEntries = readCentralDirectory(outer);
+		if (outerEntries == null)
+			return null;
+
+		JarRsrcIndex index = new JarRsrcIndex();
+		for (int i = 0; i < jarNames.length; i++) {
+			int[] info = (int[]) outerEntries.get(jarNames[i]);
+			if (info == null || info[0] != STORED)
+				return null;
+			int localHeaderOffset = info[3];
+			if (outer.getInt(localHeaderOffset) != LOCAL_HEADER_SIGNATURE)
+				return null;
+			int dataOffset = localHeaderOffset + LOCAL_HEADER_SIZE + getUnsignedShort(outer, localHeaderOffset + 26) + getUnsignedShort(outer, localHeaderOffset + 28);
+			ByteBuffer nested = outer.duplicate();
+			nested.position(dataOffset);
+			nested.limit(dataOffset + info[1]);
+			nested = nested.slice().order(ByteOrder.LITTLE_ENDIAN);
+
+			Map nestedEntries = readCentralDirectory(nested);
+			if (nestedEntries == null)
+				return null;
+			for (Iterator iter = nestedEntries.entrySet().iterator(); iter.hasNext();) {
+				Map.Entry e = (Map.Entry) iter.next();
+				String name = (String) e.getKey();
+				if (isSignatureFile(name))
+					return null; // signed jars need the verification done by the JDK's jar support
+				int[] nestedInfo = (int[]) e.getValue();
+				if (nestedInfo[0] != STORED && nestedInfo[0] != DEFLATED)
+					return null;
+				Entry entry = new Entry(jarNames[i], nested, nestedInfo[3], nestedInfo[0], nestedInfo[1], nestedInfo[2]);
+				Entry first = (Entry) index.entries.get(name);
+				if (first == null) {
+					index.entries.put(name, entry);
+				} else {
+					while (first.next != null)
+						first = first.next;
+					first.next = entry;
+				}
+				if (JarFile.MANIFEST_NAME.equals(name))
+					index.manifests.put(jarNames[i], entry);
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * @param name the entry name
+	 * @return the entry of the first nested jar containing it, or <code>null</code>. Entries of
+	 *         later jars are linked through {@link Entry#next}.
+	 */
+	Entry getEntry(String name) {
+		return (Entry) entries.get(name);
+	}
+
+	/**
+	 * @param name the entry name
+	 * @param jarName the name of a nested jar
+	 * @return the entry of the given nested jar, or <code>null</code>
+	 */
+	Entry getEntry(String name, String jarName) {
+		for (Entry entry = getEntry(name); entry != null; entry = entry.next) {
+			if (entry.jarName.equals(jarName))
+				return entry;
+		}
+		return null;
+	}
+
+	/**
+	 * @param jarName the name of a nested jar
+	 * @return the manifest entry of the nested jar, or <code>null</code>
+	 */
+	Entry getManifestEntry(String jarName) {
+		return (Entry) manifests.get(jarName);
+	}
+
+	/**
+	 * Reads the central directory of a zip file.
+	 *
+	 * @param zip the zip file
+	 * @return map from entry name to {method, compressed size, size, local header offset}, or
+	 *         <code>null</code> if the format is not supported
+	 * @throws IOException if a name cannot be decoded
+	 */
+	private static Map readCentralDirectory(ByteBuffer zip) throws IOException {
+		int end = findEndHeader(zip);
+		if (end == -1)
+			return null;
+		int count = getUnsignedShort(zip, end + 10);
+		long directoryOffset = zip.getInt(end + 16) & 0xFFFFFFFFL;
+		if (count == 0xFFFF || directoryOffset >= zip.limit())
+			return null; // zip64
+
+		Map result = new HashMap(count * 2);
+		int offset = (int) directoryOffset;
+		for (int i = 0; i < count; i++) {
+			if (offset + CENTRAL_HEADER_SIZE > zip.limit() || zip.getInt(offset) != CENTRAL_HEADER_SIGNATURE)
+				return null;
+			int method = getUnsignedShort(zip, offset + 10);
+			long compressedSize = zip.getInt(offset + 20) & 0xFFFFFFFFL;
+			long size = zip.getInt(offset + 24) & 0xFFFFFFFFL;
+			int nameLength = getUnsignedShort(zip, offset + 28);
+			int extraLength = getUnsignedShort(zip, offset + 30);
+			int commentLength = getUnsignedShort(zip, offset + 32);
+			long localHeaderOffset = zip.getInt(offset + 42) & 0xFFFFFFFFL;
+			if (compressedSize >= Integer.MAX_VALUE || size >= Integer.MAX_VALUE || localHeaderOffset >= zip.limit())
+				return null;
+
+			byte[] nameBytes = new byte[nameLength];
+			ByteBuffer nameBuffer = zip.duplicate();
+			nameBuffer.position(offset + CENTRAL_HEADER_SIZE);
+			nameBuffer.get(nameBytes);
+			String name = new String(nameBytes, UTF8);
+			if (!result.containsKey(name))
+				result.put(name, new int[] { method, (int) compressedSize, (int) size, (int) localHeaderOffset });
+
+			offset += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+		}
+		return result;
+	}
+
+	private static int findEndHeader(ByteBuffer zip) {
+		int last = zip.limit() - END_HEADER_SIZE;
+		int first = Math.max(0, last - MAX_COMMENT_SIZE);
+		for (int i = last; i >= first; i--) {
+			if (zip.getInt(i) == END_HEADER_SIGNATURE)
+				return i;
+		}
+		return -1;
+	}
+
+	private static boolean isSignatureFile(String name) {
+		if (!name.startsWith("META-INF/")) //$NON-NLS-1$
+			return false;
+		String upper = name.toUpperCase();
+		return upper.endsWith(".SF") || upper.endsWith(".RSA") || upper.endsWith(".DSA") || upper.endsWith(".EC"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	private static int getUnsignedShort(ByteBuffer buffer, int offset) {
+		return buffer.getShort(offset) & 0xFFFF;
+	}
+}
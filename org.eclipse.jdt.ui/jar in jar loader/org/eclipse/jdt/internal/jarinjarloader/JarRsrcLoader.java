@@ -46,19 +46,25 @@ public class JarRsrcLoader {
 		ManifestInfo mi = getManifestInfo();
 		ClassLoader cl = Thread.currentThread().getContextClassLoader();
 		URL.setURLStreamHandlerFactory(new RsrcURLStreamHandlerFactory(cl));
-		URL[] rsrcUrls = new URL[mi.rsrcClassPath.length];
-		for (int i = 0; i < mi.rsrcClassPath.length; i++) {
-			String rsrcPath = mi.rsrcClassPath[i];
+		ClassLoader jceClassLoader = JarRsrcClassLoader.create(mi.rsrcClassPath, getParentClassLoader());
+		if (jceClassLoader == null)
+			jceClassLoader = createURLClassLoader(mi.rsrcClassPath);
+		Thread.currentThread().setContextClassLoader(jceClassLoader);
+		Class c = Class.forName(mi.rsrcMainClass, true, jceClassLoader);
+		Method main = c.getMethod(JIJConstants.MAIN_METHOD_NAME, args.getClass());
+		main.invoke((Object) null, new Object[] {args});
+	}
+
+	private static ClassLoader createURLClassLoader(String[] rsrcClassPath) throws IOException, InvocationTargetException, IllegalAccessException {
+		URL[] rsrcUrls = new URL[rsrcClassPath.length];
+		for (int i = 0; i < rsrcClassPath.length; i++) {
+			String rsrcPath = rsrcClassPath[i];
 			if (rsrcPath.endsWith(JIJConstants.PATH_SEPARATOR))
 				rsrcUrls[i] = new URL(JIJConstants.INTERNAL_URL_PROTOCOL_WITH_COLON + rsrcPath);
 			else
 				rsrcUrls[i] = new URL(JIJConstants.JAR_INTERNAL_URL_PROTOCOL_WITH_COLON + rsrcPath + JIJConstants.JAR_INTERNAL_SEPARATOR);
 		}
-		ClassLoader jceClassLoader = new URLClassLoader(rsrcUrls, getParentClassLoader());
-		Thread.currentThread().setContextClassLoader(jceClassLoader);
-		Class c = Class.forName(mi.rsrcMainClass, true, jceClassLoader);
-		Method main = c.getMethod(JIJConstants.MAIN_METHOD_NAME, args.getClass());
-		main.invoke((Object) null, new Object[] {args});
+		return new URLClassLoader(rsrcUrls, getParentClassLoader());
 	}
 
 	private static ClassLoader getParentClassLoader() throws InvocationTargetException, IllegalAccessException {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2018 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -440,6 +440,12 @@ public abstract class BinaryRefactoringHistoryWizard extends RefactoringHistoryW
 										fFragment.createCompilationUnit(name, content, true, pm);
 									}
 
+									@Override
+									protected final void createCompilationUnits(final IFileStore store, final List<CompilationUnitCode> units, final IProgressMonitor pm) throws CoreException {
+										// one Java model delta per package
+										JavaCore.run(monitor -> super.createCompilationUnits(store, units, monitor), null, pm);
+									}
+
 									@Override
 									protected final void createPackageFragment(final IFileStore store, final String name, final IProgressMonitor pm) throws CoreException {
 										fFragment= sourceFolder.createPackageFragment(name, true, pm);
@@ -455,6 +461,12 @@ public abstract class BinaryRefactoringHistoryWizard extends RefactoringHistoryW
 										fFragment.createCompilationUnit(name, content, true, pm);
 									}
 
+									@Override
+									protected final void createCompilationUnits(final IFileStore store, final List<CompilationUnitCode> units, final IProgressMonitor pm) throws CoreException {
+										// one Java model delta per package
+										JavaCore.run(monitor -> super.createCompilationUnits(store, units, monitor), null, pm);
+									}
+
 									@Override
 									protected final void createPackageFragment(final IFileStore store, final String name, final IProgressMonitor pm) throws CoreException {
 										fFragment= sourceFolder.createPackageFragment(name, true, pm);
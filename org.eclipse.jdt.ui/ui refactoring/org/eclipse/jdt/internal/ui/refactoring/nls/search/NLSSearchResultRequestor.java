@@ -13,10 +13,6 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.refactoring.nls.search;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -28,11 +24,6 @@ import org.eclipse.core.runtime.IStatus;
 
 import org.eclipse.core.resources.IFile;
 
-import org.eclipse.core.filebuffers.FileBuffers;
-import org.eclipse.core.filebuffers.ITextFileBuffer;
-import org.eclipse.core.filebuffers.ITextFileBufferManager;
-import org.eclipse.core.filebuffers.LocationKind;
-
 import org.eclipse.jface.text.Position;
 
 import org.eclipse.search.ui.text.Match;
@@ -55,7 +46,6 @@ import org.eclipse.jdt.core.search.SearchRequestor;
 import org.eclipse.jdt.internal.corext.refactoring.nls.PropertyFileDocumentModel;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
-import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.JavaUIStatus;
 import org.eclipse.jdt.internal.ui.util.StringMatcher;
 
@@ -83,9 +73,18 @@ class NLSSearchResultRequestor extends SearchRequestor {
 
 	private NLSSearchResult fResult;
 	private IFile fPropertiesFile;
+	private PropertiesFileIndex fIndex;
 	private Properties fProperties;
 	private HashSet<String> fUsedPropertyNames;
 
+	/*
+	 * Scanner for the compilation unit of the last match. Matches are reported unit by unit,
+	 * so this avoids creating a scanner and copying the source for every match.
+	 */
+	private ICompilationUnit fScannerUnit;
+	private String fScannerSource;
+	private IScanner fScanner;
+
 	public NLSSearchResultRequestor(IFile propertiesFile, NLSSearchResult result) {
 		fPropertiesFile= propertiesFile;
 		fResult= result;
@@ -96,8 +95,10 @@ class NLSSearchResultRequestor extends SearchRequestor {
 	 */
 	@Override
 	public void beginReporting() {
-		loadProperties();
+		fIndex= PropertiesFileIndex.get(fPropertiesFile);
+		fProperties= fIndex.getProperties();
 		fUsedPropertyNames= new HashSet<>(fProperties.size());
+		reportDuplicateKeys(fIndex.getDuplicateKeys());
 	}
 
 	/*
@@ -189,7 +190,7 @@ class NLSSearchResultRequestor extends SearchRequestor {
 		 * manner than what PropertyFileDocumentModel.unwindEscapeChars(.) produces.
 		 */
 		String escapedPropertyName= PropertyFileDocumentModel.escape(propertyName, false);
-		int start= findPropertyNameStartPosition(escapedPropertyName);
+		int start= fIndex.findPropertyNameStartPosition(escapedPropertyName);
 		int length;
 		if (start == -1) { // not found -> report at beginning
 			start= 0;
@@ -247,16 +248,20 @@ class NLSSearchResultRequestor extends SearchRequestor {
 		if (source == null)
 			return null;
 
-		IJavaProject javaProject= unit.getJavaProject();
-		IScanner scanner= null;
-		if (javaProject != null) {
-			String complianceLevel= javaProject.getOption(JavaCore.COMPILER_COMPLIANCE, true);
-			String sourceLevel= javaProject.getOption(JavaCore.COMPILER_SOURCE, true);
-			scanner= ToolFactory.createScanner(false, false, false, sourceLevel, complianceLevel);
-		} else {
-			scanner= ToolFactory.createScanner(false, false, false, false);
+		if (!unit.equals(fScannerUnit) || !source.equals(fScannerSource)) {
+			IJavaProject javaProject= unit.getJavaProject();
+			if (javaProject != null) {
+				String complianceLevel= javaProject.getOption(JavaCore.COMPILER_COMPLIANCE, true);
+				String sourceLevel= javaProject.getOption(JavaCore.COMPILER_SOURCE, true);
+				fScanner= ToolFactory.createScanner(false, false, false, sourceLevel, complianceLevel);
+			} else {
+				fScanner= ToolFactory.createScanner(false, false, false, false);
+			}
+			fScanner.setSource(source.toCharArray());
+			fScannerUnit= unit;
+			fScannerSource= source;
 		}
-		scanner.setSource(source.toCharArray());
+		IScanner scanner= fScanner;
 		scanner.resetTo(keyPositionResult.getOffset() + keyPositionResult.getLength(), source.length());
 
 		try {
@@ -326,114 +331,6 @@ class NLSSearchResultRequestor extends SearchRequestor {
 		}
 	}
 
-	/**
-	 * Finds the start position in the property file. We assume that
-	 * the key is the first match on a line.
-	 *
-	 * @param propertyName the property name
-	 * @return	the start position of the property name in the file, -1 if not found
-	 */
-	private int findPropertyNameStartPosition(String propertyName) {
-		// Fix for http://dev.eclipse.org/bugs/show_bug.cgi?id=19319
-		InputStream stream= null;
-		LineReader lineReader= null;
-		String encoding;
-		try {
-			encoding= fPropertiesFile.getCharset();
-		} catch (CoreException e1) {
-			encoding= "ISO-8859-1";  //$NON-NLS-1$
-		}
-		try {
-			stream= createInputStream(fPropertiesFile);
-			lineReader= new LineReader(stream, encoding);
-		} catch (CoreException cex) {
-			// failed to get input stream
-			JavaPlugin.log(cex);
-			return -1;
-		} catch (IOException e) {
-			if (stream != null) {
-				try {
-					stream.close();
-				} catch (IOException ce) {
-					JavaPlugin.log(ce);
-				}
-			}
-			return -1;
-		}
-		int start= 0;
-		try {
-			StringBuffer buf= new StringBuffer(80);
-			int eols= lineReader.readLine(buf);
-			int keyLength= propertyName.length();
-			while (eols > 0) {
-				String line= buf.toString();
-				int i= line.indexOf(propertyName);
-				int charPos= i + keyLength;
-				char terminatorChar= 0;
-				boolean hasNoValue= (charPos >= line.length());
-				if (i > -1 && !hasNoValue)
-					terminatorChar= line.charAt(charPos);
-				if (line.trim().startsWith(propertyName) &&
-						(hasNoValue || Character.isWhitespace(terminatorChar) || terminatorChar == '=')) {
-					start += line.indexOf(propertyName);
-					eols= -17; // found key
-				} else {
-					start += line.length() + eols;
-					buf.setLength(0);
-					eols= lineReader.readLine(buf);
-				}
-			}
-			if (eols != -17)
-				start= -1; //key not found in file. See bug 63794. This can happen if the key contains escaped characters.
-		} catch (IOException ex) {
-			JavaPlugin.log(ex);
-			return -1;
-		} finally {
-			try {
-				lineReader.close();
-			} catch (IOException ex) {
-				JavaPlugin.log(ex);
-			}
-		}
-		return start;
-	}
-
-	private void loadProperties() {
-		Set<Object> duplicateKeys= new HashSet<>();
-		fProperties= new Properties(duplicateKeys);
-		InputStream stream;
-		try {
-			stream= new BufferedInputStream(createInputStream(fPropertiesFile));
-		} catch (CoreException ex) {
-			fProperties= new Properties();
-			return;
-		}
-		try {
-			fProperties.load(stream);
-		} catch (IOException ex) {
-			fProperties= new Properties();
-			return;
-		} finally {
-			try {
-				stream.close();
-			} catch (IOException ex) {
-			}
-			reportDuplicateKeys(duplicateKeys);
-		}
-	}
-
-	private InputStream createInputStream(IFile propertiesFile) throws CoreException {
-		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
-		if (manager != null) {
-			ITextFileBuffer buffer= manager.getTextFileBuffer(propertiesFile.getFullPath(), LocationKind.IFILE);
-			if (buffer != null) {
-				return new ByteArrayInputStream(buffer.getDocument().get().getBytes());
-			}
-		}
-
-		return propertiesFile.getContents();
-	}
-
 	private void reportDuplicateKeys(Set<Object> duplicateKeys) {
 		if (duplicateKeys.isEmpty())
 			return;
@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.refactoring.nls.search;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * The keys of a properties file together with the positions of their definitions.
+ * <p>
+ * The file is read once per index. Indices of files that are not open in a dirty
+ * buffer are cached and reused across NLS searches until the file's modification
+ * stamp changes, so repeated searches over many bundles don't re-read unchanged files.
+ * </p>
+ */
+class PropertiesFileIndex {
+
+	private static final int CACHE_SIZE= 200;
+
+	private static final Map<IFile, PropertiesFileIndex> fgCache= Collections.synchronizedMap(new LinkedHashMap<IFile, PropertiesFileIndex>(CACHE_SIZE, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<IFile, PropertiesFileIndex> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	});
+
+	/**
+	 * Returns the index for the given properties file, reusing a cached index if the
+	 * file has not changed since it was built.
+	 *
+	 * @param propertiesFile the properties file
+	 * @return the index, never <code>null</code>
+	 */
+	public static PropertiesFileIndex get(IFile propertiesFile) {
+		ITextFileBuffer buffer= getTextFileBuffer(propertiesFile);
+		if (buffer != null && buffer.isDirty())
+			return new PropertiesFileIndex(propertiesFile, IResource.NULL_STAMP);
+
+		long stamp= propertiesFile.getModificationStamp();
+		PropertiesFileIndex index= fgCache.get(propertiesFile);
+		if (index == null || index.fStamp != stamp || stamp == IResource.NULL_STAMP) {
+			index= new PropertiesFileIndex(propertiesFile, stamp);
+			if (stamp != IResource.NULL_STAMP)
+				fgCache.put(propertiesFile, index);
+		}
+		return index;
+	}
+
+	private static class Line {
+		final int fOffset;
+		final String fText;
+
+		Line(int offset, String text) {
+			fOffset= offset;
+			fText= text;
+		}
+	}
+
+	private final long fStamp;
+	private final Properties fProperties;
+	private final Set<Object> fDuplicateKeys;
+
+	/**
+	 * Lines of the file, grouped by their first segment. See {@link #getFirstSegment(String, int)}.
+	 */
+	private final Map<String, List<Line>> fLinesBySegment;
+
+	private PropertiesFileIndex(IFile propertiesFile, long stamp) {
+		fStamp= stamp;
+		fDuplicateKeys= new LinkedHashSet<>();
+		fLinesBySegment= new HashMap<>();
+
+		byte[] contents= readContents(propertiesFile);
+		if (contents == null) {
+			fProperties= new Properties();
+			return;
+		}
+
+		Properties properties= new Properties(fDuplicateKeys);
+		try {
+			properties.load(new ByteArrayInputStream(contents));
+		} catch (IOException ex) {
+			properties= new Properties();
+		}
+		fProperties= properties;
+
+		indexLines(propertiesFile, contents);
+	}
+
+	public Properties getProperties() {
+		return fProperties;
+	}
+
+	public Set<Object> getDuplicateKeys() {
+		return fDuplicateKeys;
+	}
+
+	/**
+	 * Finds the start position of the given property name in the file. We assume that
+	 * the key is the first match on a line.
+	 *
+	 * @param propertyName the escaped property name
+	 * @return the start position of the property name in the file, -1 if not found
+	 */
+	public int findPropertyNameStartPosition(String propertyName) {
+		List<Line> lines= fLinesBySegment.get(getFirstSegment(propertyName, 0));
+		if (lines == null)
+			return -1; //key not found in file. See bug 63794. This can happen if the key contains escaped characters.
+
+		int keyLength= propertyName.length();
+		for (Line line : lines) {
+			String text= line.fText;
+			int i= text.indexOf(propertyName);
+			int charPos= i + keyLength;
+			char terminatorChar= 0;
+			boolean hasNoValue= (charPos >= text.length());
+			if (i > -1 && !hasNoValue)
+				terminatorChar= text.charAt(charPos);
+			if (text.trim().startsWith(propertyName) &&
+					(hasNoValue || Character.isWhitespace(terminatorChar) || terminatorChar == '=')) {
+				return line.fOffset + i;
+			}
+		}
+		return -1;
+	}
+
+	private void indexLines(IFile propertiesFile, byte[] contents) {
+		String encoding;
+		try {
+			encoding= propertiesFile.getCharset();
+		} catch (CoreException e1) {
+			encoding= "ISO-8859-1";  //$NON-NLS-1$
+		}
+		// Fix for http://dev.eclipse.org/bugs/show_bug.cgi?id=19319
+		LineReader lineReader;
+		try {
+			lineReader= new LineReader(new ByteArrayInputStream(contents), encoding);
+		} catch (IOException e) {
+			return;
+		}
+		try {
+			int start= 0;
+			StringBuffer buf= new StringBuffer(80);
+			int eols= lineReader.readLine(buf);
+			while (eols > 0) {
+				String text= buf.toString();
+				int keyStart= 0;
+				while (keyStart < text.length() && text.charAt(keyStart) <= ' ')
+					keyStart++;
+				String segment= getFirstSegment(text, keyStart);
+				List<Line> lines= fLinesBySegment.get(segment);
+				if (lines == null) {
+					lines= new ArrayList<>(1);
+					fLinesBySegment.put(segment, lines);
+				}
+				lines.add(new Line(start, text));
+
+				start += text.length() + eols;
+				eols= lineReader.readLine(buf);
+			}
+		} catch (IOException ex) {
+			JavaPlugin.log(ex);
+		} finally {
+			try {
+				lineReader.close();
+			} catch (IOException ex) {
+				JavaPlugin.log(ex);
+			}
+		}
+	}
+
+	/**
+	 * Returns the part of the text starting at <code>start</code> up to the first
+	 * whitespace or <code>'='</code>. A line can only define a key if the key and the
+	 * trimmed line share this segment.
+	 *
+	 * @param text the text
+	 * @param start the start index
+	 * @return the first segment
+	 */
+	private static String getFirstSegment(String text, int start) {
+		int end= start;
+		while (end < text.length()) {
+			char ch= text.charAt(end);
+			if (Character.isWhitespace(ch) || ch == '=')
+				break;
+			end++;
+		}
+		return text.substring(start, end);
+	}
+
+	private static byte[] readContents(IFile propertiesFile) {
+		ITextFileBuffer buffer= getTextFileBuffer(propertiesFile);
+		if (buffer != null)
+			return buffer.getDocument().get().getBytes();
+
+		try (InputStream stream= propertiesFile.getContents()) {
+			ByteArrayOutputStream out= new ByteArrayOutputStream();
+			byte[] chunk= new byte[8192];
+			int read;
+			while ((read= stream.read(chunk)) != -1)
+				out.write(chunk, 0, read);
+			return out.toByteArray();
+		} catch (CoreException | IOException e) {
+			return null;
+		}
+	}
+
+	private static ITextFileBuffer getTextFileBuffer(IFile propertiesFile) {
+		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
+		if (manager == null)
+			return null;
+		return manager.getTextFileBuffer(propertiesFile.getFullPath(), LocationKind.IFILE);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 
+import org.eclipse.text.edits.MalformedTreeException;
 import org.eclipse.text.edits.MultiTextEdit;
 import org.eclipse.text.edits.ReplaceEdit;
 import org.eclipse.text.edits.TextEdit;
@@ -32,7 +33,11 @@ import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.ISelectionProvider;
 
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DocumentRewriteSession;
+import org.eclipse.jface.text.DocumentRewriteSessionType;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.IRewriteTarget;
 import org.eclipse.jface.text.ITextSelection;
@@ -62,6 +67,7 @@ import org.eclipse.jdt.ui.text.IJavaPartitions;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.text.JavaBracketIndex;
 import org.eclipse.jdt.internal.ui.text.JavaHeuristicScanner;
 import org.eclipse.jdt.internal.ui.text.JavaIndenter;
 
@@ -112,6 +118,12 @@ public class IndentAction extends TextEditorAction {
 
 	}
 
+	/**
+	 * Non-TAB invocations on more lines indent the lines in one pass and apply all changes as one
+	 * edit.
+	 */
+	private static final int BULK_INDENT_THRESHOLD= 50;
+
 	/** The caret offset after an indent operation. */
 	private int fCaretOffset;
 
@@ -176,12 +188,16 @@ public class IndentAction extends TextEditorAction {
 					target.beginCompoundChange();
 
 				try {
-					JavaHeuristicScanner scanner= new JavaHeuristicScanner(document);
-					JavaIndenter indenter= new JavaIndenter(document, scanner, getJavaProject());
 					final boolean multiLine= nLines > 1;
 					boolean hasChanged= false;
-					for (int i= 0; i < nLines; i++) {
-						hasChanged |= indentLine(document, firstLine + i, offset, indenter, scanner, multiLine);
+					if (!fIsTabAction && nLines > BULK_INDENT_THRESHOLD) {
+						hasChanged= indentLines(document, firstLine, nLines);
+					} else {
+						JavaHeuristicScanner scanner= new JavaHeuristicScanner(document);
+						JavaIndenter indenter= new JavaIndenter(document, scanner, getJavaProject());
+						for (int i= 0; i < nLines; i++) {
+							hasChanged |= indentLine(document, firstLine + i, offset, indenter, scanner, multiLine);
+						}
 					}
 
 					// update caret position: move to new position when indenting just one line
@@ -211,7 +227,7 @@ public class IndentAction extends TextEditorAction {
 				}
 			};
 
-			if (nLines > 50) {
+			if (nLines > BULK_INDENT_THRESHOLD) {
 				Display display= getTextEditor().getEditorSite().getWorkbenchWindow().getShell().getDisplay();
 				BusyIndicator.showWhile(display, runnable);
 			} else
@@ -220,6 +236,39 @@ public class IndentAction extends TextEditorAction {
 		}
 	}
 
+	/**
+	 * Indents the given lines in a copy of the document and applies the changes to the document
+	 * as one edit.
+	 *
+	 * @param document the document
+	 * @param firstLine the first line to indent
+	 * @param nLines the number of lines to indent
+	 * @return <code>true</code> if <code>document</code> was modified, <code>false</code> otherwise
+	 * @throws BadLocationException if the document got changed concurrently
+	 */
+	private boolean indentLines(IDocument document, int firstLine, int nLines) throws BadLocationException {
+		// the indenter needs the indentation of the lines above, work on a copy so that the
+		// editor sees a single change
+		Document copy= new Document(document.get());
+		JavaPlugin.getDefault().getJavaTextTools().setupJavaDocumentPartitioner(copy, IJavaPartitions.JAVA_PARTITIONING);
+		TextEdit edit= indent(copy, getJavaProject(), firstLine, nLines);
+		if (edit == null)
+			return false;
+
+		DocumentRewriteSession session= null;
+		if (document instanceof IDocumentExtension4)
+			session= ((IDocumentExtension4) document).startRewriteSession(DocumentRewriteSessionType.SEQUENTIAL);
+		try {
+			edit.apply(document, TextEdit.NONE);
+		} catch (MalformedTreeException e) {
+			throw new BadLocationException(e.getMessage());
+		} finally {
+			if (session != null)
+				((IDocumentExtension4) document).stopRewriteSession(session);
+		}
+		return true;
+	}
+
 	/**
 	 * Selects the given range on the editor.
 	 *
@@ -262,16 +311,39 @@ public class IndentAction extends TextEditorAction {
 		int offset= 0;
 		int length= document.getLength();
 
-		JavaHeuristicScanner scanner= new JavaHeuristicScanner(document);
-		JavaIndenter indenter= new JavaIndenter(document, scanner, project);
-
-		ArrayList<ReplaceEdit> edits= new ArrayList<>();
-
 		int firstLine= document.getLineOfOffset(offset);
 		// check for marginal (zero-length) lines
 		int minusOne= length == 0 ? 0 : 1;
 		int numberOfLines= document.getLineOfOffset(offset + length - minusOne) - firstLine + 1;
 
+		return indent(document, project, firstLine, numberOfLines);
+	}
+
+	/**
+	 * Indents the given lines of the <code>document</code> and returns a text edit describing the
+	 * changes applied to the document. The indentation is computed in one pass with a
+	 * {@link JavaBracketIndex}, so that indenting many lines takes linear time.
+	 * <p>
+	 * WARNING: This method does change the content of the given document.
+	 * </p>
+	 *
+	 * @param document the document to indent, must have a java partitioning installed
+	 * @param project the project to retrieve the indentation settings from, <b>null</b> for
+	 *            workspace settings
+	 * @param firstLine the first line to indent
+	 * @param numberOfLines the number of lines to indent
+	 * @return a text edit describing the changes or <b>null</b> if no changes required
+	 * @throws BadLocationException if the document got modified concurrently
+	 * @since 3.21
+	 */
+	public static TextEdit indent(IDocument document, IJavaProject project, int firstLine, int numberOfLines) throws BadLocationException {
+		JavaHeuristicScanner scanner= new JavaHeuristicScanner(document);
+		JavaIndenter indenter= new JavaIndenter(document, scanner, project);
+		if (numberOfLines > 1)
+			indenter.setBracketIndex(JavaBracketIndex.create(document));
+
+		ArrayList<ReplaceEdit> edits= new ArrayList<>();
+
 		int shift= 0;
 		for (int i= 0; i < numberOfLines; i++) {
 			ReplaceData data= computeReplaceData(document, firstLine + i, indenter, scanner, numberOfLines > 1, false, project);
@@ -43,6 +43,7 @@ class JavaParseTreeBuilder extends ASTVisitor {
     private Stack<JavaNode> fStack= new Stack<>();
     private JavaNode fImportContainer;
     private boolean fShowCU;
+    private JavaStructureSkeleton fSkeleton;
 
     /*
      * Parsing is performed on the given buffer and the resulting tree (if any)
@@ -55,9 +56,19 @@ class JavaParseTreeBuilder extends ASTVisitor {
         fStack.push(root);
     }
 
+    /*
+     * Records all nodes created by this builder in the given skeleton.
+     */
+    void setSkeleton(JavaStructureSkeleton skeleton) {
+        fSkeleton= skeleton;
+    }
+
     @Override
 	public boolean visit(PackageDeclaration node) {
-        new JavaNode(getCurrentContainer(), JavaNode.PACKAGE, null, node.getStartPosition(), node.getLength());
+        JavaNode container= getCurrentContainer();
+        JavaNode packageNode= new JavaNode(container, JavaNode.PACKAGE, null, node.getStartPosition(), node.getLength());
+        if (fSkeleton != null)
+            fSkeleton.record(packageNode, container, JavaNode.PACKAGE, null, false);
         return false;
     }
 
@@ -146,12 +157,18 @@ class JavaParseTreeBuilder extends ASTVisitor {
         int s= node.getStartPosition();
         int l= node.getLength();
         int declarationEnd= s + l;
-        if (fImportContainer == null)
-            fImportContainer= new JavaNode(getCurrentContainer(), JavaNode.IMPORT_CONTAINER, null, s, l);
+        if (fImportContainer == null) {
+            JavaNode container= getCurrentContainer();
+            fImportContainer= new JavaNode(container, JavaNode.IMPORT_CONTAINER, null, s, l);
+            if (fSkeleton != null)
+                fSkeleton.record(fImportContainer, container, JavaNode.IMPORT_CONTAINER, null, true);
+        }
         String nm= node.getName().toString();
         if (node.isOnDemand())
             nm+= ".*"; //$NON-NLS-1$
-        new JavaNode(fImportContainer, JavaNode.IMPORT, nm, s, l);
+        JavaNode importNode= new JavaNode(fImportContainer, JavaNode.IMPORT, nm, s, l);
+        if (fSkeleton != null)
+            fSkeleton.record(importNode, fImportContainer, JavaNode.IMPORT, nm, false);
         fImportContainer.setLength(declarationEnd - fImportContainer.getRange().getOffset() + 1);
         fImportContainer.setAppendPosition(declarationEnd + 2); // FIXME
         return false;
@@ -197,11 +214,14 @@ class JavaParseTreeBuilder extends ASTVisitor {
             length++;
         }
 
-        JavaNode node= new JavaNode(getCurrentContainer(), type, name, declarationStart, length);
+        JavaNode container= getCurrentContainer();
+        JavaNode node= new JavaNode(container, type, name, declarationStart, length);
         if (type == JavaNode.CU)
             node.setAppendPosition(declarationStart + length + 1);
         else
             node.setAppendPosition(declarationStart + length);
+        if (fSkeleton != null)
+            fSkeleton.record(node, container, type, name, true);
 
         fStack.push(node);
     }
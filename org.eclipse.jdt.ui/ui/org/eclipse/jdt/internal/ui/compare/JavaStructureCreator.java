@@ -16,8 +16,10 @@ package org.eclipse.jdt.internal.ui.compare;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.StringTokenizer;
 
 import org.eclipse.swt.widgets.Shell;
@@ -70,8 +72,37 @@ import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 
 public class JavaStructureCreator extends StructureCreator {
 
+	/**
+	 * Number of recently built structures whose skeletons are kept: enough for the
+	 * ancestor, left and right side of a three-way compare.
+	 */
+	private static final int SKELETON_CACHE_SIZE= 3;
+
 	private Map<String, String> fDefaultCompilerOptions;
 
+	/**
+	 * Skeletons of recently built structures, most recently used first. When the compare
+	 * input changes, the structures of all sides are rebuilt, but usually only one side
+	 * has been edited; the other sides are rebuilt from their skeletons without parsing.
+	 */
+	private final LinkedList<CachedSkeleton> fSkeletonCache= new LinkedList<>();
+
+	private static class CachedSkeleton {
+		final String fContents;
+		final Map<String, String> fCompilerOptions;
+		final JavaStructureSkeleton fSkeleton;
+
+		CachedSkeleton(String contents, Map<String, String> compilerOptions, JavaStructureSkeleton skeleton) {
+			fContents= contents;
+			fCompilerOptions= compilerOptions;
+			fSkeleton= skeleton;
+		}
+
+		boolean matches(String contents, Map<String, String> compilerOptions) {
+			return fContents.equals(contents) && Objects.equals(fCompilerOptions, compilerOptions);
+		}
+	}
+
 	/**
 	 * A root node for the structure. It is similar to {@link StructureRootNode} but needed
 	 * to be a subclass of {@link JavaNode} because of the code used to build the structure.
@@ -272,8 +303,14 @@ public class JavaStructureCreator extends StructureCreator {
 			// we hook into the root node to intercept all node changes
 			JavaNode root= new RootJavaNode(doc, isEditable, input, adapter);
 
+			contents= buffer != null ? new String(buffer) : doc.get();
+			JavaStructureSkeleton skeleton= getCachedSkeleton(contents, compilerOptions);
+			if (skeleton != null) {
+				skeleton.replay(root);
+				return root;
+			}
+
 			if (buffer == null) {
-				contents= doc.get();
 				int n= contents.length();
 				buffer= new char[n];
 				contents.getChars(0, n, buffer, 0);
@@ -284,14 +321,43 @@ public class JavaStructureCreator extends StructureCreator {
 				parser.setCompilerOptions(compilerOptions);
 			parser.setSource(buffer);
 			parser.setFocalPosition(0);
+			// the parse tree builder does not descend into method bodies
+			parser.setIgnoreMethodBodies(true);
 			CompilationUnit cu= (CompilationUnit) parser.createAST(monitor);
-			cu.accept(new JavaParseTreeBuilder(root, buffer, true));
+			skeleton= new JavaStructureSkeleton();
+			JavaParseTreeBuilder builder= new JavaParseTreeBuilder(root, buffer, true);
+			builder.setSkeleton(skeleton);
+			cu.accept(builder);
+			skeleton.complete();
+			putCachedSkeleton(contents, compilerOptions, skeleton);
 
 			return root;
 		}
 		return null;
 	}
 
+	private JavaStructureSkeleton getCachedSkeleton(String contents, Map<String, String> compilerOptions) {
+		synchronized (fSkeletonCache) {
+			for (Iterator<CachedSkeleton> iter= fSkeletonCache.iterator(); iter.hasNext();) {
+				CachedSkeleton cached= iter.next();
+				if (cached.matches(contents, compilerOptions)) {
+					iter.remove();
+					fSkeletonCache.addFirst(cached);
+					return cached.fSkeleton;
+				}
+			}
+		}
+		return null;
+	}
+
+	private void putCachedSkeleton(String contents, Map<String, String> compilerOptions, JavaStructureSkeleton skeleton) {
+		synchronized (fSkeletonCache) {
+			fSkeletonCache.addFirst(new CachedSkeleton(contents, compilerOptions, skeleton));
+			while (fSkeletonCache.size() > SKELETON_CACHE_SIZE)
+				fSkeletonCache.removeLast();
+		}
+	}
+
 	/**
 	 * Returns the contents of the given node as a string.
 	 * This string is used to test the content of a Java element
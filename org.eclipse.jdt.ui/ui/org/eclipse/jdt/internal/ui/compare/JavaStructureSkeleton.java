@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.compare;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jface.text.Position;
+
+/**
+ * Records the {@link JavaNode}s created by a {@link JavaParseTreeBuilder} so that an
+ * identical tree can be rebuilt for the same contents without parsing them again.
+ */
+class JavaStructureSkeleton {
+
+	private static class NodeInfo {
+		final int fParent;
+		final int fType;
+		final String fName;
+		final boolean fHasAppendPosition;
+		JavaNode fNode;
+		int fStart;
+		int fLength;
+		int fAppendPosition;
+
+		NodeInfo(int parent, int type, String name, boolean hasAppendPosition, JavaNode node) {
+			fParent= parent;
+			fType= type;
+			fName= name;
+			fHasAppendPosition= hasAppendPosition;
+			fNode= node;
+		}
+	}
+
+	private final List<NodeInfo> fNodes= new ArrayList<>();
+	private Map<JavaNode, Integer> fIndices= new IdentityHashMap<>();
+
+	/**
+	 * Records a node created below the given parent.
+	 *
+	 * @param node the new node
+	 * @param parent the parent node
+	 * @param type the node type
+	 * @param name the name the node was created with
+	 * @param hasAppendPosition whether the builder sets an explicit append position
+	 */
+	void record(JavaNode node, JavaNode parent, int type, String name, boolean hasAppendPosition) {
+		Integer parentIndex= fIndices.get(parent);
+		fIndices.put(node, Integer.valueOf(fNodes.size()));
+		fNodes.add(new NodeInfo(parentIndex != null ? parentIndex.intValue() : -1, type, name, hasAppendPosition, node));
+	}
+
+	/**
+	 * Takes the final ranges from the recorded nodes and releases them. Must be called once
+	 * the tree has been built.
+	 */
+	void complete() {
+		for (NodeInfo info : fNodes) {
+			Position range= info.fNode.getRange();
+			info.fStart= range.getOffset();
+			info.fLength= range.getLength();
+			if (info.fHasAppendPosition)
+				info.fAppendPosition= info.fNode.getAppendPosition().getOffset();
+			info.fNode= null;
+		}
+		fIndices= null;
+	}
+
+	/**
+	 * Recreates the recorded nodes below the given root.
+	 *
+	 * @param root the root node
+	 */
+	void replay(JavaNode root) {
+		JavaNode[] nodes= new JavaNode[fNodes.size()];
+		for (int i= 0; i < nodes.length; i++) {
+			NodeInfo info= fNodes.get(i);
+			JavaNode parent= info.fParent == -1 ? root : nodes[info.fParent];
+			nodes[i]= new JavaNode(parent, info.fType, info.fName, info.fStart, info.fLength);
+			if (info.fHasAppendPosition)
+				nodes[i].setAppendPosition(info.fAppendPosition);
+		}
+	}
+}
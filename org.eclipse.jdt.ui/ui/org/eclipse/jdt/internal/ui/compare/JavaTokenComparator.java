@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.compare;
 
+import java.util.Arrays;
+
 import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.compare.contentmergeviewer.ITokenComparator;
@@ -50,8 +52,10 @@ public class JavaTokenComparator implements ITokenComparator {
 		fText= text;
 
 		int length= fText.length();
-		fStarts= new int[length];
-		fLengths= new int[length];
+		// start with a fraction of the text length, the arrays grow if needed
+		int capacity= Math.max(16, length / 4);
+		fStarts= new int[capacity];
+		fLengths= new int[capacity];
 		fCount= 0;
 
 		IScanner scanner= ToolFactory.createScanner(true, true, false, false); // returns comments & whitespace
@@ -92,6 +96,11 @@ public class JavaTokenComparator implements ITokenComparator {
 	 * @since 3.3
 	 */
 	private void recordTokenRange(int start, int length) {
+		if (fCount == fStarts.length) {
+			int capacity= fStarts.length * 2;
+			fStarts= Arrays.copyOf(fStarts, capacity);
+			fLengths= Arrays.copyOf(fLengths, capacity);
+		}
 		fStarts[fCount]= start;
 		fLengths[fCount]= length;
 		if (DEBUG)
@@ -44,6 +44,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubProgressMonitor;
 
@@ -98,6 +99,8 @@ import org.eclipse.jdt.internal.ui.util.BusyIndicatorRunnableContext;
  */
 public class JarFileExportOperation extends WorkspaceModifyOperation implements IJarExportRunnable {
 
+	private static final String PERF_JAR_EXPORT_PHASES= "org.eclipse.jdt.ui/perf/jarexport/phases"; //$NON-NLS-1$
+
 	private static class MessageMultiStatus extends MultiStatus {
 		MessageMultiStatus(String pluginId, int code, String message, Throwable exception) {
 			super(pluginId, code, message, exception);
@@ -1012,24 +1015,50 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 				totalWork += subMonitorTicks;
 				progressMonitor.beginTask("", totalWork); //$NON-NLS-1$
 				SubProgressMonitor subProgressMonitor= new SubProgressMonitor(progressMonitor, subMonitorTicks, SubProgressMonitor.PREPEND_MAIN_LABEL_TO_SUBTASK);
-				buildProjects(subProgressMonitor);
+				PerformanceStats stats= startPhase("build"); //$NON-NLS-1$
+				try {
+					buildProjects(subProgressMonitor);
+				} finally {
+					stats.endRun();
+				}
 			} else
 				progressMonitor.beginTask("", totalWork); //$NON-NLS-1$
 
-			fJarBuilder = fJarPackage.getJarBuilder();
-			fJarBuilder.open(fJarPackage, fParentShell, fStatus);
+			PerformanceStats stats= startPhase("open"); //$NON-NLS-1$
+			try {
+				fJarBuilder = fJarPackage.getJarBuilder();
+				fJarBuilder.open(fJarPackage, fParentShell, fStatus);
+			} finally {
+				stats.endRun();
+			}
 
-			exportSelectedElements(progressMonitor);
+			stats= startPhase("export"); //$NON-NLS-1$
+			try {
+				exportSelectedElements(progressMonitor);
+			} finally {
+				stats.endRun();
+			}
 			if (getStatus().getSeverity() != IStatus.ERROR) {
 				progressMonitor.subTask(JarPackagerMessages.JarFileExportOperation_savingFiles);
-				saveFiles();
+				stats= startPhase("save"); //$NON-NLS-1$
+				try {
+					saveFiles();
+				} finally {
+					stats.endRun();
+				}
 			}
 		} catch (CoreException ex) {
 			addToStatus(ex);
 		} finally {
 			try {
-				if (fJarBuilder != null)
-					fJarBuilder.close();
+				if (fJarBuilder != null) {
+					PerformanceStats stats= startPhase("close"); //$NON-NLS-1$
+					try {
+						fJarBuilder.close();
+					} finally {
+						stats.endRun();
+					}
+				}
 			} catch (CoreException ex) {
 				addToStatus(ex);
 			}
@@ -1037,6 +1066,19 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 		}
 	}
 
+	/**
+	 * Starts timing a phase of the export. The timings are reported if the
+	 * <code>org.eclipse.jdt.ui/perf/jarexport/phases</code> tracing option is set.
+	 *
+	 * @param phase the name of the phase
+	 * @return the stats on which {@link PerformanceStats#endRun()} has to be called
+	 */
+	private PerformanceStats startPhase(String phase) {
+		PerformanceStats stats= PerformanceStats.getStats(PERF_JAR_EXPORT_PHASES, phase);
+		stats.startRun(fJarPackage.getAbsoluteJarLocation().toString());
+		return stats;
+	}
+
 	private boolean preconditionsOK() {
 		if (!fJarPackage.areGeneratedFilesExported() && !fJarPackage.areJavaFilesExported()) {
 			addError(JarPackagerMessages.JarFileExportOperation_noExportTypeChosen, null);
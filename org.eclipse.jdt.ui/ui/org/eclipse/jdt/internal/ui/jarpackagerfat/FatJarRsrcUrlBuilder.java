@@ -55,7 +55,6 @@ public class FatJarRsrcUrlBuilder extends FatJarBuilder {
 	public static final String JAR_RSRC_LOADER_ZIP= "jar-in-jar-loader.zip"; //$NON-NLS-1$
 
 	private Set<String> jarNames;
-	private JarPackageData fJarPackage;
 
 	@Override
 	public String getId() {
@@ -93,7 +92,6 @@ public class FatJarRsrcUrlBuilder extends FatJarBuilder {
 	@Override
 	public void open(JarPackageData jarPackage, Shell displayShell, MultiStatus status) throws CoreException {
 		super.open(jarPackage, displayShell, status);
-		fJarPackage= jarPackage;
 		jarNames= new HashSet<>();
 		try {
 			writeRsrcUrlClasses();
@@ -114,8 +112,8 @@ public class FatJarRsrcUrlBuilder extends FatJarBuilder {
 		newEntry.setMethod(ZipEntry.STORED);
 		byte[] readBuffer= new byte[4096];
 		try {
-			if (!fJarPackage.isCompressed())
-				JarPackagerUtil.calculateCrcAndSize(newEntry, new FileInputStream(jarPathFile), readBuffer);
+			// nested archives are compressed already and are stored as is, see JarWriter4#isWorthCompressing(ZipEntry)
+			JarPackagerUtil.calculateCrcAndSize(newEntry, new FileInputStream(jarPathFile), readBuffer);
 			getJarWriter().addZipEntryStream(newEntry, new FileInputStream(jarPathFile), jarName);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
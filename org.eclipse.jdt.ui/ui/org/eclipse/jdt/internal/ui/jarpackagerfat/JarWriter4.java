@@ -21,6 +21,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Locale;
 import java.util.jar.JarEntry;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -46,6 +47,11 @@ import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
  */
 public class JarWriter4 extends JarWriter3 {
 
+	/**
+	 * Extensions of files whose content is compressed already.
+	 */
+	private static final String[] COMPRESSED_EXTENSIONS= { ".jar", ".zip", ".gz", ".png", ".jpg", ".jpeg", ".gif" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+
 	private final JarPackageData fJarPackage;
 
 	public JarWriter4(JarPackageData jarPackage, Shell parent) throws CoreException {
@@ -58,15 +64,7 @@ public class JarWriter4 extends JarWriter3 {
 			addDirectories(path);
 
 		JarEntry newEntry= new JarEntry(path.replace(File.separatorChar, '/'));
-
-		if (fJarPackage.isCompressed())
-			newEntry.setMethod(ZipEntry.DEFLATED);
-			// Entry is filled automatically.
-		else {
-			newEntry.setMethod(ZipEntry.STORED);
-			newEntry.setSize(zipEntry.getSize());
-			newEntry.setCrc(zipEntry.getCrc());
-		}
+		setMethod(newEntry, zipEntry);
 
 		long lastModified= System.currentTimeMillis();
 
@@ -80,18 +78,57 @@ public class JarWriter4 extends JarWriter3 {
 		if (fJarPackage.areDirectoryEntriesIncluded())
 			addDirectories(path);
 		JarEntry newEntry= new JarEntry(path.replace(File.separatorChar, '/'));
-		if (fJarPackage.isCompressed())
+		setMethod(newEntry, zipEntry);
+		long lastModified= System.currentTimeMillis();
+		// Set modification time
+		newEntry.setTime(lastModified);
+		addEntry(newEntry, is);
+	}
+
+	/**
+	 * Sets the compression method of a new entry copied from the given entry. Entries whose
+	 * content is already compressed are stored even if the JAR is compressed: deflating them
+	 * again takes time but hardly reduces their size.
+	 *
+	 * @param newEntry the entry to write
+	 * @param zipEntry the entry describing the copied content
+	 */
+	private void setMethod(JarEntry newEntry, ZipEntry zipEntry) {
+		if (fJarPackage.isCompressed() && isWorthCompressing(zipEntry))
 			newEntry.setMethod(ZipEntry.DEFLATED);
-		// Entry is filled automatically.
+			// Entry is filled automatically.
 		else {
 			newEntry.setMethod(ZipEntry.STORED);
 			newEntry.setSize(zipEntry.getSize());
 			newEntry.setCrc(zipEntry.getCrc());
 		}
-		long lastModified= System.currentTimeMillis();
-		// Set modification time
-		newEntry.setTime(lastModified);
-		addEntry(newEntry, is);
+	}
+
+	/**
+	 * Tells whether deflating the content of the given entry is likely to reduce its size.
+	 *
+	 * @param zipEntry the entry
+	 * @return <code>false</code> if the content is known to be compressed already,
+	 *         <code>true</code> otherwise
+	 */
+	static boolean isWorthCompressing(ZipEntry zipEntry) {
+		long size= zipEntry.getSize();
+		if (size == -1 || zipEntry.getCrc() == -1)
+			return true; // size and CRC needed to store the entry are unknown
+		if (size == 0)
+			return false;
+		if (zipEntry.getMethod() == ZipEntry.DEFLATED) {
+			// a stored source entry says nothing about how well its content deflates
+			long compressedSize= zipEntry.getCompressedSize();
+			if (compressedSize != -1 && compressedSize >= size)
+				return false;
+		}
+		String name= zipEntry.getName().toLowerCase(Locale.ENGLISH);
+		for (String extension : COMPRESSED_EXTENSIONS) {
+			if (name.endsWith(extension))
+				return false;
+		}
+		return true;
 	}
 
 	public void write(File file, IPath destinationPath) throws CoreException {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1678,6 +1678,8 @@ public class CompilationUnitEditor extends JavaEditor implements IJavaReconcilin
 		// Always notify AST provider
 		CoreASTProvider.getInstance().reconciled(ast, getInputJavaElement(), progressMonitor);
 
+		resetOccurrencesIndex();
+
 		// Notify listeners
 		for (IJavaReconcilingListener listener : fReconcilingListeners) {
 			listener.reconciled(ast, forced, progressMonitor);
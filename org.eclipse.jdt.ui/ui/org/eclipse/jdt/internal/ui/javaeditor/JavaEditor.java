@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -53,6 +53,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.ListenerList;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
@@ -191,6 +192,7 @@ import org.eclipse.jdt.core.util.IModifierConstants;
 import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder.OccurrenceLocation;
 import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesFinder;
+import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesIndex;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
 import org.eclipse.jdt.ui.IContextMenuConstants;
@@ -1671,6 +1673,29 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 	private ActivationListener fActivationListener= new ActivationListener();
 	private ISelectionListenerWithAST fPostSelectionListenerWithAST;
 	private OccurrencesFinderJob fOccurrencesFinderJob;
+	/**
+	 * The occurrences index of the AST in which occurrences were last searched,
+	 * <code>null</code> while it is built.
+	 * @since 3.21
+	 */
+	private volatile OccurrencesIndex fOccurrencesIndex;
+	/**
+	 * The job building {@link #fOccurrencesIndex}, guarded by {@link #fOccurrencesIndexLock}.
+	 * @since 3.21
+	 */
+	private Job fOccurrencesIndexJob;
+	/**
+	 * The AST for which {@link #fOccurrencesIndexJob} builds the index, guarded by
+	 * {@link #fOccurrencesIndexLock}.
+	 * @since 3.21
+	 */
+	private CompilationUnit fOccurrencesIndexAST;
+	/**
+	 * Guards the occurrences index job, which is reset by the reconciler and requested by
+	 * occurrences searches in the UI thread or the selection listener job.
+	 * @since 3.21
+	 */
+	private final Object fOccurrencesIndexLock= new Object();
 	/** The occurrences finder job canceler */
 	private OccurrencesFinderJobCanceler fOccurrencesFinderJobCanceler;
 	/**
@@ -3321,7 +3346,8 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 		if (locations == null && selectedNode instanceof Name) {
 			IBinding binding= ((Name)selectedNode).resolveBinding();
 			if (binding != null && markOccurrencesOfType(binding)) {
-				OccurrencesFinder finder= new OccurrencesFinder();
+				requestOccurrencesIndex(astRoot);
+				OccurrencesFinder finder= new OccurrencesFinder(fOccurrencesIndex);
 				if (finder.initialize(astRoot, selectedNode) == null) {
 					locations= finder.getOccurrences();
 				}
@@ -3343,6 +3369,65 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 		fOccurrencesFinderJob.run(new NullProgressMonitor());
 	}
 
+	/**
+	 * Drops the occurrences index and cancels building it, e.g. because the editor has been
+	 * reconciled. A new index is built when occurrences are next searched.
+	 *
+	 * @since 3.21
+	 */
+	protected void resetOccurrencesIndex() {
+		synchronized (fOccurrencesIndexLock) {
+			if (fOccurrencesIndexJob != null) {
+				fOccurrencesIndexJob.cancel();
+				fOccurrencesIndexJob= null;
+				fOccurrencesIndexAST= null;
+			}
+			fOccurrencesIndex= null;
+		}
+	}
+
+	/**
+	 * Builds the occurrences index of the given AST in the background unless it exists or is
+	 * being built already. Until the index is ready, occurrences are found by visiting the AST.
+	 *
+	 * @param ast the AST in which occurrences are searched
+	 * @since 3.21
+	 */
+	private void requestOccurrencesIndex(final CompilationUnit ast) {
+		synchronized (fOccurrencesIndexLock) {
+			OccurrencesIndex index= fOccurrencesIndex;
+			if (index != null && index.getASTRoot() == ast || fOccurrencesIndexAST == ast)
+				return;
+			if (fOccurrencesIndexJob != null)
+				fOccurrencesIndexJob.cancel();
+			fOccurrencesIndex= null;
+
+			fOccurrencesIndexAST= ast;
+			fOccurrencesIndexJob= new Job(JavaEditorMessages.JavaEditor_markOccurrences_job_name) {
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					OccurrencesIndex result;
+					try {
+						result= OccurrencesIndex.build(ast, monitor);
+					} catch (OperationCanceledException e) {
+						return Status.CANCEL_STATUS;
+					}
+					synchronized (fOccurrencesIndexLock) {
+						if (fOccurrencesIndexJob == this && !monitor.isCanceled()) {
+							fOccurrencesIndex= result;
+							fOccurrencesIndexJob= null;
+							fOccurrencesIndexAST= null;
+						}
+					}
+					return Status.OK_STATUS;
+				}
+			};
+			fOccurrencesIndexJob.setSystem(true);
+			fOccurrencesIndexJob.setPriority(Job.DECORATE);
+			fOccurrencesIndexJob.schedule();
+		}
+	}
+
 	protected void installOccurrencesFinder(boolean forceUpdate) {
 		fMarkOccurrenceAnnotations= true;
 
@@ -3380,6 +3465,8 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 			fOccurrencesFinderJobCanceler= null;
 		}
 
+		resetOccurrencesIndex();
+
 		if (fPostSelectionListenerWithAST != null) {
 			SelectionListenerWithASTManager.getDefault().removeListener(this, fPostSelectionListenerWithAST);
 			fPostSelectionListenerWithAST= null;
@@ -3462,6 +3549,7 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 	protected void uninstallOverrideIndicator() {
 		if (fOverrideIndicatorManager != null) {
 			fOverrideIndicatorManager.removeAnnotations();
+			fOverrideIndicatorManager.dispose();
 			fOverrideIndicatorManager= null;
 		}
 	}
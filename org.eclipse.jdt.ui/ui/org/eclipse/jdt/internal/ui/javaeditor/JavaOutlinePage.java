@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -397,7 +397,90 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 				 * @param delta the Java element delta used to reconcile the Java outline
 				 */
 				public void reconcile(IJavaElementDelta delta) {
-					refresh(true);
+					if (!isFineGrained(delta)) {
+						refresh(true);
+						return;
+					}
+					Control control= getControl();
+					control.setRedraw(false);
+					try {
+						reconcile(delta, getInput());
+					} finally {
+						control.setRedraw(true);
+					}
+				}
+
+				/**
+				 * Tells whether the given delta describes the changed members of the shown
+				 * compilation unit or type, so that only their items need to be updated. Other deltas,
+				 * e.g. those of a saved or replaced compilation unit, refresh the whole tree.
+				 *
+				 * @param delta the delta of the compilation unit or the top level type
+				 * @return <code>true</code> if the delta can be applied incrementally
+				 */
+				private boolean isFineGrained(IJavaElementDelta delta) {
+					if (delta.getKind() != IJavaElementDelta.CHANGED)
+						return false;
+					int flags= delta.getFlags();
+					if ((flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0)
+						return false;
+					return (flags & IJavaElementDelta.F_CHILDREN) != 0;
+				}
+
+				/**
+				 * Adds, removes and updates the items of the children described by the given delta.
+				 *
+				 * @param delta the delta
+				 * @param parent the element whose item contains the children of the delta, or the
+				 *            input if they are shown at the top level
+				 */
+				private void reconcile(IJavaElementDelta delta, Object parent) {
+					boolean reordered= false;
+					boolean refilter= false;
+					for (IJavaElementDelta child : delta.getAffectedChildren()) {
+						IJavaElement element= child.getElement();
+						switch (child.getKind()) {
+							case IJavaElementDelta.ADDED:
+								if (!isFiltered(element))
+									add(parent, element);
+								break;
+							case IJavaElementDelta.REMOVED:
+								remove(element);
+								break;
+							default:
+								int flags= child.getFlags();
+								if ((flags & IJavaElementDelta.F_REORDER) != 0)
+									reordered= true;
+								int changes= flags & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_FINE_GRAINED | IJavaElementDelta.F_REORDER);
+								if ((changes & ~IJavaElementDelta.F_CONTENT) != 0 && isFilteredOrSorted())
+									refilter= true; // e.g. changed modifiers can hide the member or move it to another category
+								else if (changes != 0)
+									update(element, null);
+								if ((flags & IJavaElementDelta.F_CHILDREN) != 0)
+									reconcile(child, element);
+								break;
+						}
+					}
+					if (refilter)
+						refresh(parent, true);
+					else if (reordered)
+						refresh(parent, false);
+				}
+
+				/**
+				 * Tells whether items can be hidden or reordered by filters or the lexical sorting
+				 * when their element changes. {@link #update(Object, String[])} without properties
+				 * neither filters nor sorts again.
+				 *
+				 * @return <code>true</code> if the parent of a changed element must be refreshed
+				 */
+				private boolean isFilteredOrSorted() {
+					return hasFilters() || getComparator() instanceof JavaElementComparator;
+				}
+
+				private boolean isFiltered(IJavaElement element) {
+					Object provider= getContentProvider();
+					return provider instanceof ChildrenProvider && ((ChildrenProvider) provider).matches(element);
 				}
 
 				/*
@@ -930,6 +1013,13 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 	@Override
 	public void createControl(Composite parent) {
 
+		/*
+		 * The tree is not SWT.VIRTUAL: the viewer expands all levels, and the expansion needs the
+		 * element of every item to decide whether it is expandable and to keep imports and inner
+		 * types collapsed (see JavaOutlineViewer#internalExpandToLevel). A virtual tree would
+		 * therefore materialize every item, labels included, right after it is created. The cost
+		 * of reconciling is kept low by updating only the items affected by a delta instead.
+		 */
 		Tree tree= new Tree(parent, SWT.MULTI);
 
 		AppearanceAwareLabelProvider lprovider= new AppearanceAwareLabelProvider(
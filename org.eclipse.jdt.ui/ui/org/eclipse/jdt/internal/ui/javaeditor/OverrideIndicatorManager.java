@@ -14,10 +14,16 @@
 
 package org.eclipse.jdt.internal.ui.javaeditor;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -32,8 +38,12 @@ import org.eclipse.jface.text.source.Annotation;
 import org.eclipse.jface.text.source.IAnnotationModel;
 import org.eclipse.jface.text.source.IAnnotationModelExtension;
 
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
@@ -126,6 +136,44 @@ class OverrideIndicatorManager implements IJavaReconcilingListener {
 		}
 	}
 
+	/**
+	 * The names of the methods declared in the supertypes of a type, and the override indicators
+	 * of the methods of the type computed so far. Valid as long as the supertypes of the type do
+	 * not change.
+	 *
+	 * @since 3.21
+	 */
+	private static class SupertypeMethods {
+		/** The keys of the direct supertypes, including their type arguments. */
+		final String fSupertypesKey;
+		/** The keys of the declarations of all supertypes. */
+		final Set<String> fSupertypes= new HashSet<>();
+		final Set<String> fMethodNames= new HashSet<>();
+		/** Method key to override indicator, or to <code>null</code> if the method does not override. */
+		final Map<String, OverrideIndicator> fIndicators= new HashMap<>();
+
+		SupertypeMethods(ITypeBinding type, String supertypesKey) {
+			fSupertypesKey= supertypesKey;
+			collect(type);
+		}
+
+		private void collect(ITypeBinding type) {
+			ITypeBinding superclass= type.getSuperclass();
+			if (superclass != null)
+				collectHierarchy(superclass);
+			for (ITypeBinding intf : type.getInterfaces())
+				collectHierarchy(intf);
+		}
+
+		private void collectHierarchy(ITypeBinding type) {
+			if (!fSupertypes.add(type.getTypeDeclaration().getKey()))
+				return;
+			for (IMethodBinding method : type.getDeclaredMethods())
+				fMethodNames.add(method.getName());
+			collect(type);
+		}
+	}
+
 	static final String ANNOTATION_TYPE= "org.eclipse.jdt.ui.overrideIndicator"; //$NON-NLS-1$
 
 	private IAnnotationModel fAnnotationModel;
@@ -133,6 +181,35 @@ class OverrideIndicatorManager implements IJavaReconcilingListener {
 	private Annotation[] fOverrideAnnotations;
 	private ITypeRoot fJavaElement;
 
+	/**
+	 * The supertype methods of each type of the last update, by type key. Replaced when another
+	 * element changes, since this can change the hierarchy of any type.
+	 *
+	 * @since 3.21
+	 */
+	private volatile Map<String, SupertypeMethods> fSupertypeMethods= Collections.emptyMap();
+
+	/**
+	 * The keys of the method declarations of the last update, mapped to the keys of their
+	 * declaring types.
+	 *
+	 * @since 3.21
+	 */
+	private Map<String, String> fMethodKeys= Collections.emptyMap();
+
+	/**
+	 * Invalidates the supertype methods when an element other than the input changes.
+	 *
+	 * @since 3.21
+	 */
+	private final IElementChangedListener fElementListener= event -> {
+		if (affectsOtherElements(event.getDelta())) {
+			synchronized (this) {
+				fSupertypeMethods= Collections.emptyMap();
+			}
+		}
+	};
+
 
 	public OverrideIndicatorManager(IAnnotationModel annotationModel, ITypeRoot javaElement, CompilationUnit ast) {
 		Assert.isNotNull(annotationModel);
@@ -141,10 +218,34 @@ class OverrideIndicatorManager implements IJavaReconcilingListener {
 		fJavaElement= javaElement;
 		fAnnotationModel=annotationModel;
 		fAnnotationModelLockObject= getLockObject(fAnnotationModel);
+		JavaCore.addElementChangedListener(fElementListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
 
 		updateAnnotations(ast, new NullProgressMonitor());
 	}
 
+	/**
+	 * Disposes this manager.
+	 *
+	 * @since 3.21
+	 */
+	void dispose() {
+		JavaCore.removeElementChangedListener(fElementListener);
+	}
+
+	private boolean affectsOtherElements(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		if (fJavaElement.equals(element) || fJavaElement.equals(element.getPrimaryElement()))
+			return false;
+		IJavaElementDelta[] children= delta.getAffectedChildren();
+		if (children.length == 0)
+			return true;
+		for (IJavaElementDelta child : children) {
+			if (affectsOtherElements(child))
+				return true;
+		}
+		return false;
+	}
+
 	/**
 	 * Returns the lock object for the given annotation model.
 	 *
@@ -174,51 +275,103 @@ class OverrideIndicatorManager implements IJavaReconcilingListener {
 		if (ast == null || progressMonitor.isCanceled())
 			return;
 
-		final Map<Annotation, Position> annotationMap= new HashMap<>(50);
-
+		final List<MethodDeclaration> declarations= new ArrayList<>();
 		ast.accept(new ASTVisitor(false) {
 			/*
 			 * @see org.eclipse.jdt.core.dom.ASTVisitor#visit(org.eclipse.jdt.core.dom.MethodDeclaration)
 			 */
 			@Override
 			public boolean visit(MethodDeclaration node) {
-				IMethodBinding binding= node.resolveBinding();
-				if (binding != null) {
-					IMethodBinding definingMethod= Bindings.findOverriddenMethod(binding, true);
-					if (definingMethod != null) {
+				declarations.add(node);
+				return true;
+			}
+		});
 
-						ITypeBinding definingType= definingMethod.getDeclaringClass();
-						String qualifiedMethodName= definingType.getQualifiedName() + "." + binding.getName(); //$NON-NLS-1$
+		// the types whose declared methods changed since the last update
+		Map<String, String> methodKeys= new HashMap<>();
+		for (MethodDeclaration node : declarations) {
+			IMethodBinding binding= node.resolveBinding();
+			if (binding != null)
+				methodKeys.put(getMethodKey(binding), binding.getDeclaringClass().getTypeDeclaration().getKey());
+		}
+		Set<String> changedTypes= new HashSet<>();
+		for (Entry<String, String> entry : methodKeys.entrySet()) {
+			if (!fMethodKeys.containsKey(entry.getKey()))
+				changedTypes.add(entry.getValue());
+		}
+		for (Entry<String, String> entry : fMethodKeys.entrySet()) {
+			if (!methodKeys.containsKey(entry.getKey()))
+				changedTypes.add(entry.getValue());
+		}
 
-						boolean isImplements= JdtFlags.isAbstract(definingMethod);
-						String text;
-						if (isImplements)
-							text= Messages.format(JavaEditorMessages.OverrideIndicatorManager_implements, BasicElementLabels.getJavaElementName(qualifiedMethodName));
-						else
-							text= Messages.format(JavaEditorMessages.OverrideIndicatorManager_overrides, BasicElementLabels.getJavaElementName(qualifiedMethodName));
+		Map<String, SupertypeMethods> cache= fSupertypeMethods;
+		Map<String, SupertypeMethods> supertypeMethods= new HashMap<>();
+		Map<Annotation, Position> annotationMap= new IdentityHashMap<>(50);
+		for (MethodDeclaration node : declarations) {
+			IMethodBinding binding= node.resolveBinding();
+			if (binding == null)
+				continue;
+
+			SupertypeMethods methods= getSupertypeMethods(binding.getDeclaringClass(), cache, supertypeMethods, changedTypes);
+			String methodKey= getMethodKey(binding);
+			OverrideIndicator indicator;
+			if (methods.fIndicators.containsKey(methodKey)) {
+				indicator= methods.fIndicators.get(methodKey);
+			} else {
+				indicator= methods.fMethodNames.contains(binding.getName()) ? createIndicator(binding) : null;
+				methods.fIndicators.put(methodKey, indicator);
+			}
+			if (indicator != null) {
+				if (annotationMap.containsKey(indicator)) // duplicate method
+					indicator= createIndicator(binding);
+				SimpleName name= node.getName();
+				annotationMap.put(indicator, new Position(name.getStartPosition(), name.getLength()));
+			}
+		}
 
-						SimpleName name= node.getName();
-						Position position= new Position(name.getStartPosition(), name.getLength());
+		if (progressMonitor.isCanceled())
+			return;
 
-						annotationMap.put(
-								new OverrideIndicator(isImplements, text, binding.getKey()),
-								position);
+		for (SupertypeMethods methods : supertypeMethods.values())
+			methods.fIndicators.keySet().retainAll(methodKeys.keySet());
+		fMethodKeys= methodKeys;
+		synchronized (this) {
+			if (fSupertypeMethods == cache)
+				fSupertypeMethods= supertypeMethods;
+		}
 
+		synchronized (fAnnotationModelLockObject) {
+			// reuse the indicators of unchanged methods, the annotation model has updated their positions
+			Set<Annotation> oldAnnotations= Collections.newSetFromMap(new IdentityHashMap<>());
+			if (fOverrideAnnotations != null)
+				Collections.addAll(oldAnnotations, fOverrideAnnotations);
+			List<Annotation> removed= new ArrayList<>();
+			for (Annotation annotation : oldAnnotations) {
+				if (!annotationMap.containsKey(annotation))
+					removed.add(annotation);
+			}
+			Map<Annotation, Position> added= new HashMap<>();
+			for (Entry<Annotation, Position> entry : annotationMap.entrySet()) {
+				Annotation annotation= entry.getKey();
+				Position position= entry.getValue();
+				if (!oldAnnotations.contains(annotation)) {
+					added.put(annotation, position);
+				} else if (!position.equals(fAnnotationModel.getPosition(annotation))) {
+					if (fAnnotationModel instanceof IAnnotationModelExtension) {
+						((IAnnotationModelExtension) fAnnotationModel).modifyAnnotationPosition(annotation, position);
+					} else {
+						removed.add(annotation);
+						added.put(annotation, position);
 					}
 				}
-				return true;
 			}
-		});
 
-		if (progressMonitor.isCanceled())
-			return;
-
-		synchronized (fAnnotationModelLockObject) {
 			if (fAnnotationModel instanceof IAnnotationModelExtension) {
-				((IAnnotationModelExtension)fAnnotationModel).replaceAnnotations(fOverrideAnnotations, annotationMap);
+				((IAnnotationModelExtension)fAnnotationModel).replaceAnnotations(removed.toArray(new Annotation[removed.size()]), added);
 			} else {
-				removeAnnotations();
-				Iterator<Entry<Annotation, Position>> iter= annotationMap.entrySet().iterator();
+				for (Annotation annotation : removed)
+					fAnnotationModel.removeAnnotation(annotation);
+				Iterator<Entry<Annotation, Position>> iter= added.entrySet().iterator();
 				while (iter.hasNext()) {
 					Entry<Annotation, Position> mapEntry= iter.next();
 					fAnnotationModel.addAnnotation(mapEntry.getKey(), mapEntry.getValue());
@@ -228,6 +381,59 @@ class OverrideIndicatorManager implements IJavaReconcilingListener {
 		}
 	}
 
+	private static String getMethodKey(IMethodBinding binding) {
+		return binding.getKey() + '#' + binding.getModifiers();
+	}
+
+	/**
+	 * Returns the supertype methods of the given type, reusing those of the last update if the
+	 * hierarchy of the type has not changed.
+	 *
+	 * @param type the type
+	 * @param cache the supertype methods of the last update
+	 * @param supertypeMethods the supertype methods of this update
+	 * @param changedTypes the keys of the types whose methods changed since the last update
+	 * @return the supertype methods of the type
+	 * @since 3.21
+	 */
+	private SupertypeMethods getSupertypeMethods(ITypeBinding type, Map<String, SupertypeMethods> cache, Map<String, SupertypeMethods> supertypeMethods, Set<String> changedTypes) {
+		String key= type.getKey();
+		SupertypeMethods methods= supertypeMethods.get(key);
+		if (methods != null)
+			return methods;
+
+		StringBuilder supertypesKey= new StringBuilder();
+		ITypeBinding superclass= type.getSuperclass();
+		if (superclass != null)
+			supertypesKey.append(superclass.getKey());
+		for (ITypeBinding intf : type.getInterfaces())
+			supertypesKey.append('|').append(intf.getKey());
+
+		methods= cache.get(key);
+		if (methods == null || !methods.fSupertypesKey.equals(supertypesKey.toString()) || !Collections.disjoint(methods.fSupertypes, changedTypes))
+			methods= new SupertypeMethods(type, supertypesKey.toString());
+		supertypeMethods.put(key, methods);
+		return methods;
+	}
+
+	private OverrideIndicator createIndicator(IMethodBinding binding) {
+		IMethodBinding definingMethod= Bindings.findOverriddenMethod(binding, true);
+		if (definingMethod == null)
+			return null;
+
+		ITypeBinding definingType= definingMethod.getDeclaringClass();
+		String qualifiedMethodName= definingType.getQualifiedName() + "." + binding.getName(); //$NON-NLS-1$
+
+		boolean isImplements= JdtFlags.isAbstract(definingMethod);
+		String text;
+		if (isImplements)
+			text= Messages.format(JavaEditorMessages.OverrideIndicatorManager_implements, BasicElementLabels.getJavaElementName(qualifiedMethodName));
+		else
+			text= Messages.format(JavaEditorMessages.OverrideIndicatorManager_overrides, BasicElementLabels.getJavaElementName(qualifiedMethodName));
+
+		return new OverrideIndicator(isImplements, text, binding.getKey());
+	}
+
 	/**
 	 * Removes all override indicators from this manager's annotation model.
 	 */
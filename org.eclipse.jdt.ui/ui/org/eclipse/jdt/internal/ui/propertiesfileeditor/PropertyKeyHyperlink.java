@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import com.ibm.icu.text.Collator;
@@ -33,6 +34,8 @@ import org.eclipse.core.runtime.PlatformObject;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubProgressMonitor;
 
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IStorage;
 
@@ -475,7 +478,19 @@ public class PropertyKeyHyperlink implements IHyperlink {
 							 * </p>
 							*/
 							if (fStorage instanceof IResource) {
-								engine.search(createScope(((IResource)fStorage).getProject()), collector, searchPattern, new SubProgressMonitor(monitor, 4));
+								IProject project= ((IResource)fStorage).getProject();
+								Map<IFile, int[]> references= null;
+								if (useDoubleQuotedKey)
+									references= PropertyKeyReferenceIndex.getInstance().findReferences(project, key, monitor);
+								if (references != null) {
+									for (Map.Entry<IFile, int[]> entry : references.entrySet()) {
+										for (int offset : entry.getValue())
+											result.add(new KeyReference(entry.getKey(), null, offset, key.length(), true));
+									}
+									monitor.worked(4);
+								} else {
+									engine.search(createScope(project), collector, searchPattern, new SubProgressMonitor(monitor, 4));
+								}
 							}
 						} else {
 							monitor.worked(1);
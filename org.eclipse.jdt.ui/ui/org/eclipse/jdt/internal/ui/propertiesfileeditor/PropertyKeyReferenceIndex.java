@@ -0,0 +1,403 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.propertiesfileeditor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.IFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * An index of the double-quoted strings in the Java, XML and INI files of the workspace, used to
+ * find the references to a properties key without searching the text of all files.
+ * <p>
+ * A project is indexed in a background job when its references are first requested and the index
+ * is kept up to date from resource deltas. The contents of dirty editors are searched directly.
+ * Until the index of a project is ready, {@link #findReferences(IProject, String, IProgressMonitor)} returns
+ * <code>null</code> and clients fall back to a text search.
+ * </p>
+ *
+ * @since 3.21
+ */
+public final class PropertyKeyReferenceIndex implements IResourceChangeListener {
+
+	/** Longer strings are not indexed, they are not used as keys. */
+	private static final int MAX_KEY_LENGTH= 256;
+
+	private static PropertyKeyReferenceIndex fgInstance;
+
+	/**
+	 * Returns the index, creating it if needed.
+	 *
+	 * @return the index
+	 */
+	public static synchronized PropertyKeyReferenceIndex getInstance() {
+		if (fgInstance == null) {
+			fgInstance= new PropertyKeyReferenceIndex();
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(fgInstance, IResourceChangeEvent.POST_CHANGE);
+		}
+		return fgInstance;
+	}
+
+	/**
+	 * Disposes the index if it has been created.
+	 */
+	public static synchronized void shutdownInstance() {
+		if (fgInstance != null) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(fgInstance);
+			synchronized (fgInstance) {
+				for (ProjectIndex index : fgInstance.fProjects.values())
+					index.fJob.cancel();
+				fgInstance.fProjects.clear();
+			}
+			fgInstance= null;
+		}
+	}
+
+	/**
+	 * The strings of the files of one project.
+	 */
+	private static final class ProjectIndex {
+
+		private final IProject fProject;
+		private final Job fJob;
+		/** The offsets of the strings by string and file. */
+		private final Map<String, Map<IFile, int[]>> fReferences= new HashMap<>();
+		/** The strings of each indexed file. */
+		private final Map<IFile, String[]> fStrings= new HashMap<>();
+		/** The files that have been changed since they were indexed. */
+		private final Set<IFile> fPending= new LinkedHashSet<>();
+		private boolean fReady;
+
+		ProjectIndex(IProject project) {
+			fProject= project;
+			fJob= new Job(PropertiesFileEditorMessages.PropertyKeyReferenceIndex_job_name) {
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					return build(monitor);
+				}
+			};
+			fJob.setSystem(true);
+			fJob.setPriority(Job.DECORATE);
+		}
+
+		IStatus build(IProgressMonitor monitor) {
+			List<IFile> files= new ArrayList<>();
+			try {
+				fProject.accept(proxy -> {
+					if (monitor.isCanceled() || proxy.isDerived())
+						return false;
+					if (proxy.getType() == IResource.FILE) {
+						if (isIndexed(proxy.getName()))
+							files.add((IFile) proxy.requestResource());
+						return false;
+					}
+					return true;
+				}, IResource.NONE);
+			} catch (CoreException e) {
+				return e.getStatus();
+			}
+			synchronized (this) {
+				fPending.addAll(files);
+			}
+			update(monitor);
+			if (monitor.isCanceled())
+				return Status.CANCEL_STATUS;
+			synchronized (this) {
+				fReady= true;
+			}
+			return Status.OK_STATUS;
+		}
+
+		/**
+		 * Indexes the pending files.
+		 *
+		 * @param monitor the progress monitor, checked for cancellation
+		 */
+		void update(IProgressMonitor monitor) {
+			while (!monitor.isCanceled()) {
+				IFile file;
+				synchronized (this) {
+					if (fPending.isEmpty())
+						return;
+					file= fPending.iterator().next();
+					fPending.remove(file);
+				}
+				Map<String, int[]> strings= null;
+				if (file.exists()) {
+					try {
+						strings= collectStrings(read(file));
+					} catch (CoreException | IOException e) {
+						// not readable, not indexed
+					}
+				}
+				synchronized (this) {
+					if (!fPending.contains(file))
+						put(file, file.exists() ? strings : null);
+				}
+			}
+		}
+
+		private void put(IFile file, Map<String, int[]> strings) {
+			String[] old= fStrings.remove(file);
+			if (old != null) {
+				for (String string : old) {
+					Map<IFile, int[]> files= fReferences.get(string);
+					files.remove(file);
+					if (files.isEmpty())
+						fReferences.remove(string);
+				}
+			}
+			if (strings == null || strings.isEmpty())
+				return;
+			fStrings.put(file, strings.keySet().toArray(new String[strings.size()]));
+			for (Map.Entry<String, int[]> entry : strings.entrySet())
+				fReferences.computeIfAbsent(entry.getKey(), string -> new HashMap<>(4)).put(file, entry.getValue());
+		}
+
+		synchronized void changed(IFile file) {
+			fPending.add(file);
+		}
+
+		synchronized void removed(IFile file) {
+			fPending.remove(file);
+			put(file, null);
+		}
+
+		synchronized boolean isReady() {
+			return fReady;
+		}
+
+		synchronized Map<IFile, int[]> get(String key) {
+			Map<IFile, int[]> files= fReferences.get(key);
+			return files != null ? new HashMap<>(files) : new HashMap<>();
+		}
+	}
+
+	private final Map<IProject, ProjectIndex> fProjects= new HashMap<>();
+
+	private PropertyKeyReferenceIndex() {
+	}
+
+	/**
+	 * Returns the references to the given key in the given project: the offsets of the key in the
+	 * double-quoted strings of the Java, XML and INI files of the project. The index of the
+	 * project is built in the background if needed.
+	 *
+	 * @param project the project
+	 * @param key the properties key
+	 * @param monitor the progress monitor, checked for cancellation
+	 * @return the offsets of the key by file, or <code>null</code> if the index of the project is
+	 *         not ready or cannot answer the query for this key
+	 */
+	public Map<IFile, int[]> findReferences(IProject project, String key, IProgressMonitor monitor) {
+		if (!isIndexable(key) || !project.isAccessible())
+			return null;
+
+		ProjectIndex index;
+		synchronized (this) {
+			index= fProjects.get(project);
+			if (index == null) {
+				index= new ProjectIndex(project);
+				fProjects.put(project, index);
+				index.fJob.schedule();
+			}
+		}
+		if (!index.isReady())
+			return null;
+		index.update(monitor);
+		if (monitor.isCanceled())
+			return null;
+
+		Map<IFile, int[]> result= index.get(key);
+
+		// the index has the saved contents, dirty editors are searched directly
+		for (IFileBuffer buffer : FileBuffers.getTextFileBufferManager().getFileBuffers()) {
+			if (!buffer.isDirty() || !(buffer instanceof ITextFileBuffer))
+				continue;
+			IFile file= FileBuffers.getWorkspaceFileAtLocation(buffer.getLocation());
+			if (file == null || !project.equals(file.getProject()) || !isIndexed(file.getName()) || file.isDerived(IResource.CHECK_ANCESTORS))
+				continue;
+			int[] offsets= collectStrings(((ITextFileBuffer) buffer).getDocument().get()).get(key);
+			if (offsets != null)
+				result.put(file, offsets);
+			else
+				result.remove(file);
+		}
+		return result;
+	}
+
+	/*
+	 * @see org.eclipse.core.resources.IResourceChangeListener#resourceChanged(org.eclipse.core.resources.IResourceChangeEvent)
+	 */
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta= event.getDelta();
+		if (delta == null)
+			return;
+		synchronized (this) {
+			if (fProjects.isEmpty())
+				return;
+		}
+		try {
+			delta.accept(this::visit);
+		} catch (CoreException e) {
+			JavaPlugin.log(e);
+		}
+	}
+
+	private boolean visit(IResourceDelta delta) {
+		IResource resource= delta.getResource();
+		switch (resource.getType()) {
+			case IResource.ROOT:
+				return true;
+			case IResource.PROJECT:
+				synchronized (this) {
+					ProjectIndex index= fProjects.get(resource);
+					if (index == null)
+						return false;
+					if (delta.getKind() == IResourceDelta.REMOVED || (delta.getFlags() & IResourceDelta.OPEN) != 0) {
+						index.fJob.cancel();
+						fProjects.remove(resource);
+						return false;
+					}
+				}
+				return true;
+			case IResource.FILE:
+				if (!isIndexed(resource.getName()))
+					return false;
+				ProjectIndex index;
+				synchronized (this) {
+					index= fProjects.get(resource.getProject());
+				}
+				if (index == null)
+					return false;
+				if (delta.getKind() == IResourceDelta.REMOVED || resource.isDerived(IResource.CHECK_ANCESTORS))
+					index.removed((IFile) resource);
+				else if (delta.getKind() == IResourceDelta.ADDED || (delta.getFlags() & (IResourceDelta.CONTENT | IResourceDelta.REPLACED | IResourceDelta.DERIVED_CHANGED)) != 0)
+					index.changed((IFile) resource);
+				return false;
+			default:
+				return true;
+		}
+	}
+
+	/**
+	 * Tells whether the index can answer queries for the given key. Keys that contain white
+	 * space, quotes or the wildcards of the text search are searched in the text.
+	 *
+	 * @param key the key
+	 * @return <code>true</code> if the index can be used for the key
+	 */
+	private static boolean isIndexable(String key) {
+		if (key.isEmpty() || key.length() > MAX_KEY_LENGTH)
+			return false;
+		for (int i= 0; i < key.length(); i++) {
+			char c= key.charAt(i);
+			if (Character.isWhitespace(c) || c == '"' || c == '*' || c == '?' || c == '\\')
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Tells whether files with the given name are indexed: Java-like, XML and INI files.
+	 *
+	 * @param name the file name
+	 * @return <code>true</code> if the file is indexed
+	 */
+	private static boolean isIndexed(String name) {
+		if (name.endsWith(".xml") || name.endsWith(".ini")) //$NON-NLS-1$ //$NON-NLS-2$
+			return true;
+		return JavaCore.isJavaLikeFileName(name);
+	}
+
+	private static String read(IFile file) throws CoreException, IOException {
+		StringBuilder buf= new StringBuilder();
+		try (InputStream stream= file.getContents(true); Reader reader= new InputStreamReader(stream, file.getCharset())) {
+			char[] chars= new char[8192];
+			int read;
+			while ((read= reader.read(chars)) != -1)
+				buf.append(chars, 0, read);
+		}
+		return buf.toString();
+	}
+
+	/**
+	 * Collects the text between each two consecutive double quotes of a line, i.e. all strings
+	 * that a text search for <code>"key"</code> would find.
+	 *
+	 * @param content the content of a file
+	 * @return the offsets of the text after the opening quote by text
+	 */
+	static Map<String, int[]> collectStrings(String content) {
+		Map<String, int[]> strings= new HashMap<>();
+		int quote= -1;
+		int length= content.length();
+		for (int i= 0; i < length; i++) {
+			char c= content.charAt(i);
+			if (c == '\n' || c == '\r') {
+				quote= -1;
+			} else if (c == '"') {
+				if (quote != -1) {
+					int start= quote + 1;
+					if (i > start && i - start <= MAX_KEY_LENGTH) {
+						String string= content.substring(start, i);
+						if (isIndexable(string)) {
+							int[] offsets= strings.get(string);
+							if (offsets == null) {
+								offsets= new int[] { start };
+							} else {
+								offsets= Arrays.copyOf(offsets, offsets.length + 1);
+								offsets[offsets.length - 1]= start;
+							}
+							strings.put(string, offsets);
+						}
+					}
+				}
+				quote= i;
+			}
+		}
+		return strings;
+	}
+}
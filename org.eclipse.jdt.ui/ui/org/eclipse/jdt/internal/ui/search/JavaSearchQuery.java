@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -81,20 +81,27 @@ public class JavaSearchQuery implements ISearchQuery {
 	private static class SearchRequestor implements ISearchRequestor {
 		private IQueryParticipant fParticipant;
 		private JavaSearchResult fSearchResult;
+		private final MatchBatch fBatch;
+
 		@Override
 		public void reportMatch(Match match) {
 			IMatchPresentation participant= fParticipant.getUIParticipant();
 			if (participant == null || match.getElement() instanceof IJavaElement || match.getElement() instanceof IResource) {
-				fSearchResult.addMatch(match);
+				fBatch.add(match);
 			} else {
 				fSearchResult.addMatch(match, participant);
 			}
 		}
 
+		void flush() {
+			fBatch.flush();
+		}
+
 		protected SearchRequestor(IQueryParticipant participant, JavaSearchResult result) {
 			super();
 			fParticipant= participant;
 			fSearchResult= result;
+			fBatch= new MatchBatch(result);
 		}
 	}
 
@@ -175,9 +182,13 @@ public class JavaSearchQuery implements ISearchQuery {
 			NewSearchResultCollector collector= new NewSearchResultCollector(textResult, ignorePotentials);
 
 
-			engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, getFirstSpecification().getScope(), collector, subMonitor.split(1000));
+			try {
+				engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, getFirstSpecification().getScope(), collector, subMonitor.split(1000));
+			} finally {
+				collector.flush();
+			}
 			for (int i= 0; i < participantDescriptors.length; i++) {
-				final ISearchRequestor requestor= new SearchRequestor(participantDescriptors[i].getParticipant(), textResult);
+				final SearchRequestor requestor= new SearchRequestor(participantDescriptors[i].getParticipant(), textResult);
 				final IProgressMonitor participantPM= subMonitor.split(ticks[i]);
 
 				final int iPrime= i;
@@ -197,8 +208,12 @@ public class JavaSearchQuery implements ISearchQuery {
 						final PerformanceStats stats= PerformanceStats.getStats(PERF_SEARCH_PARTICIPANT, participant);
 						stats.startRun();
 
-						for (QuerySpecification querySpecification : fPatternDataList) {
-							participant.search(requestor, querySpecification, participantPM);
+						try {
+							for (QuerySpecification querySpecification : fPatternDataList) {
+								participant.search(requestor, querySpecification, participantPM);
+							}
+						} finally {
+							requestor.flush();
 						}
 
 						stats.endRun();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.search;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.dnd.DND;
@@ -128,6 +131,8 @@ public class JavaSearchResultPage extends AbstractTextSearchViewPage implements
 
 
 	private static final int DEFAULT_ELEMENT_LIMIT = 1000;
+	/** The minimal time between two updates of the viewer while the search is running, in milliseconds. */
+	private static final int UPDATE_INTERVAL= 200;
 	private static final String FALSE = "FALSE"; //$NON-NLS-1$
 	private static final String TRUE = "TRUE"; //$NON-NLS-1$
 	private static final String KEY_GROUPING= "org.eclipse.jdt.search.resultpage.grouping"; //$NON-NLS-1$
@@ -140,6 +145,10 @@ public class JavaSearchResultPage extends AbstractTextSearchViewPage implements
 
 	private NewSearchViewActionGroup fActionGroup;
 	private JavaSearchContentProvider fContentProvider;
+	/** The elements whose changes have not been passed to the content provider yet. */
+	private final Set<Object> fPendingChanges= new LinkedHashSet<>();
+	private boolean fUpdateScheduled;
+	private long fLastUpdate;
 	private int fCurrentSortOrder;
 	private SortAction fSortByNameAction;
 	private SortAction fSortByParentName;
@@ -303,12 +312,36 @@ public class JavaSearchResultPage extends AbstractTextSearchViewPage implements
 
 	@Override
 	protected void elementsChanged(Object[] objects) {
-		if (fContentProvider != null)
-			fContentProvider.elementsChanged(objects);
+		if (fContentProvider == null)
+			return;
+		Collections.addAll(fPendingChanges, objects);
+		if (fUpdateScheduled)
+			return;
+		AbstractTextSearchResult input= getInput();
+		long delay= fLastUpdate + UPDATE_INTERVAL - System.currentTimeMillis();
+		if (delay > 0 && input != null && NewSearchUI.isQueryRunning(input.getQuery())) {
+			// coalesce the changes reported while a search adds its matches
+			fUpdateScheduled= true;
+			getViewer().getControl().getDisplay().timerExec((int) delay, this::updatePendingChanges);
+		} else {
+			updatePendingChanges();
+		}
+	}
+
+	private void updatePendingChanges() {
+		fUpdateScheduled= false;
+		StructuredViewer viewer= getViewer();
+		if (fContentProvider == null || fPendingChanges.isEmpty() || viewer == null || viewer.getControl().isDisposed())
+			return;
+		Object[] changed= fPendingChanges.toArray();
+		fPendingChanges.clear();
+		fLastUpdate= System.currentTimeMillis();
+		fContentProvider.elementsChanged(changed);
 	}
 
 	@Override
 	protected void clear() {
+		fPendingChanges.clear();
 		if (fContentProvider != null)
 			fContentProvider.clear();
 	}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.search.ui.text.AbstractTextSearchResult;
+import org.eclipse.search.ui.text.Match;
+
+/**
+ * Adds matches to a search result in batches, so that the result and its listeners are not
+ * notified for every single match. A batch is added when it is full, and at the latest
+ * {@link #BATCH_INTERVAL} milliseconds after its first match was reported, by a job. The reporting
+ * thread must call {@link #flush()} when it is done. Batches are added to the result while holding
+ * the lock of the batch, so that no batch is still being added when <code>flush()</code> returns.
+ *
+ * @since 3.21
+ */
+class MatchBatch {
+
+	/** The maximal number of matches in a batch. */
+	private static final int BATCH_SIZE= 1000;
+	/** The maximal time a match is held back, in milliseconds. */
+	private static final long BATCH_INTERVAL= 200;
+
+	private final AbstractTextSearchResult fResult;
+	private final List<Match> fMatches= new ArrayList<>();
+	private final Job fFlushJob;
+
+	MatchBatch(AbstractTextSearchResult result) {
+		fResult= result;
+		fFlushJob= new Job(SearchMessages.MatchBatch_job_name) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				addHeldBackMatches();
+				return Status.OK_STATUS;
+			}
+		};
+		fFlushJob.setSystem(true);
+	}
+
+	/**
+	 * Adds a match to the batch.
+	 *
+	 * @param match the match
+	 */
+	void add(Match match) {
+		boolean full;
+		boolean first;
+		synchronized (fMatches) {
+			fMatches.add(match);
+			full= fMatches.size() >= BATCH_SIZE;
+			first= fMatches.size() == 1;
+		}
+		if (full)
+			addHeldBackMatches();
+		else if (first)
+			fFlushJob.schedule(BATCH_INTERVAL);
+	}
+
+	/**
+	 * Adds the matches that have been held back to the search result. All matches reported by
+	 * {@link #add(Match)} are in the result when this method returns.
+	 */
+	void flush() {
+		fFlushJob.cancel();
+		addHeldBackMatches();
+	}
+
+	private void addHeldBackMatches() {
+		synchronized (fMatches) {
+			if (fMatches.isEmpty())
+				return;
+			fResult.addMatches(fMatches.toArray(new Match[fMatches.size()]));
+			fMatches.clear();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,13 +27,17 @@ import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchRequestor;
 
+/**
+ * Adds the reported matches to a search result. The matches are added in batches, see
+ * {@link MatchBatch}.
+ */
 public class NewSearchResultCollector extends SearchRequestor {
-	private AbstractTextSearchResult fSearch;
+	private final MatchBatch fBatch;
 	private boolean fIgnorePotentials;
 
 	public NewSearchResultCollector(AbstractTextSearchResult search, boolean ignorePotentials) {
 		super();
-		fSearch= search;
+		fBatch= new MatchBatch(search);
 		fIgnorePotentials= ignorePotentials;
 	}
 
@@ -63,16 +67,24 @@ public class NewSearchResultCollector extends SearchRequestor {
 				MethodReferenceMatch methodRef= (MethodReferenceMatch) match;
 				isSuperInvocation= methodRef.isSuperInvocation();
 			}
-			fSearch.addMatch(new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
+			fBatch.add(new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
 		}
 	}
 
+	/**
+	 * Adds the matches that have been held back to the search result.
+	 */
+	public void flush() {
+		fBatch.flush();
+	}
+
 	@Override
 	public void beginReporting() {
 	}
 
 	@Override
 	public void endReporting() {
+		flush();
 	}
 
 	@Override
@@ -0,0 +1,361 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.ListenerList;
+
+/**
+ * Records the latency of content assist and quick assist: for each proposal computer, quick
+ * fix and quick assist processor, and for each invocation as a whole, a histogram of the
+ * durations, the number of timeouts and the number of proposals.
+ * <p>
+ * Recording is cheap and thread safe. The statistics are kept for the session and are shown in
+ * the {@link AssistLatencyView}.
+ * </p>
+ *
+ * @since 3.21
+ */
+public final class AssistLatencyRecorder {
+
+	/**
+	 * The kinds of recorded operations.
+	 */
+	public enum Kind {
+		CONTENT_ASSIST,
+		COMPLETION_COMPUTER,
+		CONTEXT_INFORMATION_COMPUTER,
+		QUICK_ASSIST,
+		QUICK_FIX_PROCESSOR,
+		QUICK_ASSIST_PROCESSOR
+	}
+
+	/**
+	 * Listens to recorded operations.
+	 */
+	public interface IListener {
+		/**
+		 * Called after an operation has been recorded or the statistics have been reset. Can be
+		 * called from any thread.
+		 */
+		void statisticsChanged();
+	}
+
+	/**
+	 * The upper bounds of the histogram buckets, in milliseconds. The last bucket is unbounded.
+	 */
+	private static final long[] BUCKET_BOUNDS= { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000 };
+
+	/**
+	 * The statistics of one computer, processor or invocation.
+	 */
+	public static final class Statistics {
+		private final Kind fKind;
+		private final String fId;
+		private final String fName;
+		private final String fContributor;
+
+		private final long[] fBuckets= new long[BUCKET_BOUNDS.length + 1];
+		private long fCount;
+		private long fTotalNanos;
+		private long fMaxNanos;
+		private long fTimeouts;
+		private long fProposals;
+
+		Statistics(Kind kind, String id, String name, String contributor) {
+			fKind= kind;
+			fId= id;
+			fName= name;
+			fContributor= contributor;
+		}
+
+		synchronized void add(long nanos, int proposals, boolean timedOut) {
+			long millis= TimeUnit.NANOSECONDS.toMillis(nanos);
+			int bucket= 0;
+			while (bucket < BUCKET_BOUNDS.length && millis >= BUCKET_BOUNDS[bucket])
+				bucket++;
+			fBuckets[bucket]++;
+			fCount++;
+			fTotalNanos+= nanos;
+			fMaxNanos= Math.max(fMaxNanos, nanos);
+			if (timedOut)
+				fTimeouts++;
+			fProposals+= proposals;
+		}
+
+		public Kind getKind() {
+			return fKind;
+		}
+
+		public String getId() {
+			return fId;
+		}
+
+		public String getName() {
+			return fName;
+		}
+
+		/**
+		 * @return the contributing plug-in, or <code>null</code> if unknown
+		 */
+		public String getContributor() {
+			return fContributor;
+		}
+
+		public synchronized long getCount() {
+			return fCount;
+		}
+
+		public synchronized long getTimeouts() {
+			return fTimeouts;
+		}
+
+		public synchronized long getProposals() {
+			return fProposals;
+		}
+
+		/**
+		 * @return the mean duration in milliseconds
+		 */
+		public synchronized double getMeanMillis() {
+			return fCount == 0 ? 0 : fTotalNanos / 1e6 / fCount;
+		}
+
+		/**
+		 * @return the maximum duration in milliseconds
+		 */
+		public synchronized double getMaxMillis() {
+			return fMaxNanos / 1e6;
+		}
+
+		/**
+		 * Returns an upper bound of the given percentile of the durations, as given by the
+		 * histogram bucket the percentile falls into.
+		 *
+		 * @param percentile the percentile, between 0 and 100
+		 * @return the upper bound of the percentile in milliseconds, or the maximum duration if
+		 *         the percentile falls into the last bucket
+		 */
+		public synchronized double getPercentileMillis(int percentile) {
+			long rank= (fCount * percentile + 99) / 100;
+			long seen= 0;
+			for (int i= 0; i < BUCKET_BOUNDS.length; i++) {
+				seen+= fBuckets[i];
+				if (seen >= rank && seen > 0)
+					return Math.min(BUCKET_BOUNDS[i], getMaxMillis());
+			}
+			return getMaxMillis();
+		}
+
+		/**
+		 * @return a copy of the histogram, the number of durations below each of
+		 *         {@link AssistLatencyRecorder#getBucketBounds()} and above the last bound
+		 */
+		public synchronized long[] getHistogram() {
+			return fBuckets.clone();
+		}
+	}
+
+	private static final AssistLatencyRecorder fgDefault= new AssistLatencyRecorder();
+
+	public static AssistLatencyRecorder getDefault() {
+		return fgDefault;
+	}
+
+	private final Map<String, Statistics> fStatistics= new ConcurrentHashMap<>();
+
+	private final ListenerList<IListener> fListeners= new ListenerList<>();
+
+	private AssistLatencyRecorder() {
+	}
+
+	/**
+	 * Records an operation.
+	 *
+	 * @param kind the kind of operation
+	 * @param id the id of the computer or processor
+	 * @param name the name of the computer or processor
+	 * @param contributor the contributing plug-in, or <code>null</code>
+	 * @param startNanos the {@link System#nanoTime()} at the start of the operation
+	 * @param proposals the number of computed proposals
+	 * @param timedOut whether the operation was canceled because it took too long
+	 */
+	public void record(Kind kind, String id, String name, String contributor, long startNanos, int proposals, boolean timedOut) {
+		long nanos= System.nanoTime() - startNanos;
+		String key= kind.name() + ':' + id;
+		Statistics statistics= fStatistics.computeIfAbsent(key, k -> new Statistics(kind, id, name, contributor));
+		statistics.add(nanos, proposals, timedOut);
+		for (IListener listener : fListeners)
+			listener.statisticsChanged();
+	}
+
+	/**
+	 * @return the statistics of all recorded computers, processors and invocations
+	 */
+	public List<Statistics> getStatistics() {
+		List<Statistics> result= new ArrayList<>(fStatistics.values());
+		result.sort((s1, s2) -> {
+			int cmp= s1.getKind().compareTo(s2.getKind());
+			return cmp != 0 ? cmp : s1.getName().compareTo(s2.getName());
+		});
+		return result;
+	}
+
+	/**
+	 * @return the upper bounds of the histogram buckets in milliseconds
+	 */
+	public static long[] getBucketBounds() {
+		return BUCKET_BOUNDS.clone();
+	}
+
+	/**
+	 * Discards all statistics.
+	 */
+	public void reset() {
+		fStatistics.clear();
+		for (IListener listener : fListeners)
+			listener.statisticsChanged();
+	}
+
+	public void addListener(IListener listener) {
+		fListeners.add(listener);
+	}
+
+	public void removeListener(IListener listener) {
+		fListeners.remove(listener);
+	}
+
+	/**
+	 * @return the statistics as comma separated values, one line per computer or processor
+	 */
+	public String toCSV() {
+		StringBuilder buf= new StringBuilder();
+		buf.append("kind,id,name,contributor,count,timeouts,proposals,meanMillis,p50Millis,p90Millis,p99Millis,maxMillis"); //$NON-NLS-1$
+		for (long bound : BUCKET_BOUNDS)
+			buf.append(",lt").append(bound).append("ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		buf.append(",ge").append(BUCKET_BOUNDS[BUCKET_BOUNDS.length - 1]).append("ms\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (Statistics s : getStatistics()) {
+			buf.append(s.getKind().name()).append(',');
+			appendCSV(buf, s.getId()).append(',');
+			appendCSV(buf, s.getName()).append(',');
+			appendCSV(buf, s.getContributor()).append(',');
+			buf.append(s.getCount()).append(',');
+			buf.append(s.getTimeouts()).append(',');
+			buf.append(s.getProposals()).append(',');
+			buf.append(format(s.getMeanMillis())).append(',');
+			buf.append(format(s.getPercentileMillis(50))).append(',');
+			buf.append(format(s.getPercentileMillis(90))).append(',');
+			buf.append(format(s.getPercentileMillis(99))).append(',');
+			buf.append(format(s.getMaxMillis()));
+			for (long count : s.getHistogram())
+				buf.append(',').append(count);
+			buf.append('\n');
+		}
+		return buf.toString();
+	}
+
+	/**
+	 * @return the statistics as a JSON document
+	 */
+	public String toJSON() {
+		StringBuilder buf= new StringBuilder();
+		buf.append("{\n  \"bucketBoundsMillis\": ["); //$NON-NLS-1$
+		for (int i= 0; i < BUCKET_BOUNDS.length; i++) {
+			if (i > 0)
+				buf.append(", "); //$NON-NLS-1$
+			buf.append(BUCKET_BOUNDS[i]);
+		}
+		buf.append("],\n  \"statistics\": ["); //$NON-NLS-1$
+		boolean first= true;
+		for (Statistics s : getStatistics()) {
+			buf.append(first ? "\n" : ",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			first= false;
+			buf.append("    {\"kind\": "); //$NON-NLS-1$
+			appendJSON(buf, s.getKind().name());
+			buf.append(", \"id\": "); //$NON-NLS-1$
+			appendJSON(buf, s.getId());
+			buf.append(", \"name\": "); //$NON-NLS-1$
+			appendJSON(buf, s.getName());
+			buf.append(", \"contributor\": "); //$NON-NLS-1$
+			appendJSON(buf, s.getContributor());
+			buf.append(", \"count\": ").append(s.getCount()); //$NON-NLS-1$
+			buf.append(", \"timeouts\": ").append(s.getTimeouts()); //$NON-NLS-1$
+			buf.append(", \"proposals\": ").append(s.getProposals()); //$NON-NLS-1$
+			buf.append(", \"meanMillis\": ").append(format(s.getMeanMillis())); //$NON-NLS-1$
+			buf.append(", \"p50Millis\": ").append(format(s.getPercentileMillis(50))); //$NON-NLS-1$
+			buf.append(", \"p90Millis\": ").append(format(s.getPercentileMillis(90))); //$NON-NLS-1$
+			buf.append(", \"p99Millis\": ").append(format(s.getPercentileMillis(99))); //$NON-NLS-1$
+			buf.append(", \"maxMillis\": ").append(format(s.getMaxMillis())); //$NON-NLS-1$
+			buf.append(", \"histogram\": ["); //$NON-NLS-1$
+			long[] histogram= s.getHistogram();
+			for (int i= 0; i < histogram.length; i++) {
+				if (i > 0)
+					buf.append(", "); //$NON-NLS-1$
+				buf.append(histogram[i]);
+			}
+			buf.append("]}"); //$NON-NLS-1$
+		}
+		buf.append(first ? "]\n}\n" : "\n  ]\n}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		return buf.toString();
+	}
+
+	private static String format(double millis) {
+		return String.valueOf(Math.round(millis * 100) / 100.0);
+	}
+
+	private static StringBuilder appendCSV(StringBuilder buf, String value) {
+		if (value == null)
+			return buf;
+		if (value.indexOf(',') == -1 && value.indexOf('"') == -1 && value.indexOf('\n') == -1)
+			return buf.append(value);
+		return buf.append('"').append(value.replace("\"", "\"\"")).append('"'); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static void appendJSON(StringBuilder buf, String value) {
+		if (value == null) {
+			buf.append("null"); //$NON-NLS-1$
+			return;
+		}
+		buf.append('"');
+		for (int i= 0; i < value.length(); i++) {
+			char c= value.charAt(i);
+			switch (c) {
+				case '"':
+				case '\\':
+					buf.append('\\').append(c);
+					break;
+				case '\n':
+					buf.append("\\n"); //$NON-NLS-1$
+					break;
+				case '\r':
+					buf.append("\\r"); //$NON-NLS-1$
+					break;
+				case '\t':
+					buf.append("\\t"); //$NON-NLS-1$
+					break;
+				default:
+					if (c < 0x20)
+						buf.append(String.format("\\u%04x", Integer.valueOf(c))); //$NON-NLS-1$
+					else
+						buf.append(c);
+			}
+		}
+		buf.append('"');
+	}
+}
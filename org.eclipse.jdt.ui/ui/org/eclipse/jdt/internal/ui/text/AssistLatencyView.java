@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.FileDialog;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.action.IToolBarManager;
+import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ITableLabelProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+
+import org.eclipse.ui.ISharedImages;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.part.ViewPart;
+
+import org.eclipse.jdt.internal.corext.util.Messages;
+
+import org.eclipse.jdt.internal.ui.text.AssistLatencyRecorder.Kind;
+import org.eclipse.jdt.internal.ui.text.AssistLatencyRecorder.Statistics;
+
+/**
+ * Shows the statistics of the {@link AssistLatencyRecorder} and exports them as JSON or CSV.
+ *
+ * @since 3.21
+ */
+public class AssistLatencyView extends ViewPart implements AssistLatencyRecorder.IListener {
+
+	public static final String ID= "org.eclipse.jdt.ui.AssistLatencyView"; //$NON-NLS-1$
+
+	private static final int KIND= 0;
+	private static final int NAME= 1;
+	private static final int CONTRIBUTOR= 2;
+	private static final int COUNT= 3;
+	private static final int MEAN= 4;
+	private static final int P50= 5;
+	private static final int P90= 6;
+	private static final int P99= 7;
+	private static final int MAX= 8;
+	private static final int TIMEOUTS= 9;
+	private static final int PROPOSALS= 10;
+
+	private TableViewer fViewer;
+
+	private volatile boolean fRefreshPending;
+
+	private static class StatisticsLabelProvider extends LabelProvider implements ITableLabelProvider {
+
+		@Override
+		public Image getColumnImage(Object element, int columnIndex) {
+			return null;
+		}
+
+		@Override
+		public String getColumnText(Object element, int columnIndex) {
+			Statistics statistics= (Statistics) element;
+			switch (columnIndex) {
+				case KIND:
+					return getLabel(statistics.getKind());
+				case NAME:
+					return statistics.getName();
+				case CONTRIBUTOR:
+					return statistics.getContributor() != null ? statistics.getContributor() : ""; //$NON-NLS-1$
+				case COUNT:
+					return String.valueOf(statistics.getCount());
+				case MEAN:
+					return format(statistics.getMeanMillis());
+				case P50:
+					return format(statistics.getPercentileMillis(50));
+				case P90:
+					return format(statistics.getPercentileMillis(90));
+				case P99:
+					return format(statistics.getPercentileMillis(99));
+				case MAX:
+					return format(statistics.getMaxMillis());
+				case TIMEOUTS:
+					return String.valueOf(statistics.getTimeouts());
+				case PROPOSALS:
+					return String.valueOf(statistics.getProposals());
+				default:
+					return ""; //$NON-NLS-1$
+			}
+		}
+
+		private static String format(double millis) {
+			return String.format("%.1f", Double.valueOf(millis)); //$NON-NLS-1$
+		}
+
+		private static String getLabel(Kind kind) {
+			switch (kind) {
+				case CONTENT_ASSIST:
+					return TextMessages.AssistLatencyView_kind_content_assist;
+				case COMPLETION_COMPUTER:
+					return TextMessages.AssistLatencyView_kind_completion_computer;
+				case CONTEXT_INFORMATION_COMPUTER:
+					return TextMessages.AssistLatencyView_kind_context_information_computer;
+				case QUICK_ASSIST:
+					return TextMessages.AssistLatencyView_kind_quick_assist;
+				case QUICK_FIX_PROCESSOR:
+					return TextMessages.AssistLatencyView_kind_quick_fix_processor;
+				case QUICK_ASSIST_PROCESSOR:
+					return TextMessages.AssistLatencyView_kind_quick_assist_processor;
+				default:
+					return kind.name();
+			}
+		}
+	}
+
+	private class ExportAction extends Action {
+		private final boolean fJSON;
+
+		ExportAction(boolean json) {
+			fJSON= json;
+			setText(json ? TextMessages.AssistLatencyView_export_json_label : TextMessages.AssistLatencyView_export_csv_label);
+			setToolTipText(getText());
+			if (json)
+				setImageDescriptor(PlatformUI.getWorkbench().getSharedImages().getImageDescriptor(ISharedImages.IMG_ETOOL_SAVEAS_EDIT));
+		}
+
+		@Override
+		public void run() {
+			FileDialog dialog= new FileDialog(getSite().getShell(), SWT.SAVE | SWT.SHEET);
+			dialog.setFilterExtensions(new String[] { fJSON ? "*.json" : "*.csv" }); //$NON-NLS-1$ //$NON-NLS-2$
+			dialog.setFileName(fJSON ? "assist-latency.json" : "assist-latency.csv"); //$NON-NLS-1$ //$NON-NLS-2$
+			dialog.setOverwrite(true);
+			String path= dialog.open();
+			if (path == null)
+				return;
+			AssistLatencyRecorder recorder= AssistLatencyRecorder.getDefault();
+			String content= fJSON ? recorder.toJSON() : recorder.toCSV();
+			try {
+				Files.write(Paths.get(path), content.getBytes(StandardCharsets.UTF_8));
+			} catch (IOException e) {
+				MessageDialog.openError(getSite().getShell(), TextMessages.AssistLatencyView_export_error_title,
+						Messages.format(TextMessages.AssistLatencyView_export_error_message, new Object[] { path, e.getLocalizedMessage() }));
+			}
+		}
+	}
+
+	@Override
+	public void createPartControl(Composite parent) {
+		fViewer= new TableViewer(parent, SWT.FULL_SELECTION | SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL);
+		Table table= fViewer.getTable();
+		table.setHeaderVisible(true);
+		table.setLinesVisible(true);
+		createColumn(table, TextMessages.AssistLatencyView_column_kind, 160, SWT.LEFT);
+		createColumn(table, TextMessages.AssistLatencyView_column_name, 220, SWT.LEFT);
+		createColumn(table, TextMessages.AssistLatencyView_column_contributor, 180, SWT.LEFT);
+		createColumn(table, TextMessages.AssistLatencyView_column_count, 60, SWT.RIGHT);
+		createColumn(table, TextMessages.AssistLatencyView_column_mean, 70, SWT.RIGHT);
+		createColumn(table, TextMessages.AssistLatencyView_column_p50, 70, SWT.RIGHT);
+		createColumn(table, TextMessages.AssistLatencyView_column_p90, 70, SWT.RIGHT);
+		createColumn(table, TextMessages.AssistLatencyView_column_p99, 70, SWT.RIGHT);
+		createColumn(table, TextMessages.AssistLatencyView_column_max, 70, SWT.RIGHT);
+		createColumn(table, TextMessages.AssistLatencyView_column_timeouts, 70, SWT.RIGHT);
+		createColumn(table, TextMessages.AssistLatencyView_column_proposals, 80, SWT.RIGHT);
+		fViewer.setContentProvider(ArrayContentProvider.getInstance());
+		fViewer.setLabelProvider(new StatisticsLabelProvider());
+		fViewer.setInput(AssistLatencyRecorder.getDefault().getStatistics());
+
+		IToolBarManager toolBar= getViewSite().getActionBars().getToolBarManager();
+		Action resetAction= new Action(TextMessages.AssistLatencyView_reset_label) {
+			@Override
+			public void run() {
+				AssistLatencyRecorder.getDefault().reset();
+			}
+		};
+		resetAction.setToolTipText(TextMessages.AssistLatencyView_reset_label);
+		resetAction.setImageDescriptor(PlatformUI.getWorkbench().getSharedImages().getImageDescriptor(ISharedImages.IMG_ELCL_REMOVEALL));
+		toolBar.add(resetAction);
+		toolBar.add(new ExportAction(true));
+		getViewSite().getActionBars().getMenuManager().add(new ExportAction(false));
+
+		AssistLatencyRecorder.getDefault().addListener(this);
+	}
+
+	private static void createColumn(Table table, String text, int width, int alignment) {
+		TableColumn column= new TableColumn(table, alignment);
+		column.setText(text);
+		column.setWidth(width);
+	}
+
+	@Override
+	public void statisticsChanged() {
+		if (fRefreshPending)
+			return;
+		fRefreshPending= true;
+		Display display= PlatformUI.getWorkbench().getDisplay();
+		display.asyncExec(() -> {
+			fRefreshPending= false;
+			if (fViewer != null && !fViewer.getControl().isDisposed())
+				fViewer.setInput(AssistLatencyRecorder.getDefault().getStatistics());
+		});
+	}
+
+	@Override
+	public void setFocus() {
+		fViewer.getControl().setFocus();
+	}
+
+	@Override
+	public void dispose() {
+		AssistLatencyRecorder.getDefault().removeListener(this);
+		super.dispose();
+	}
+}
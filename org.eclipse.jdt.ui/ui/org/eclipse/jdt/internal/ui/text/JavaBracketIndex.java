@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text;
+
+import java.util.Arrays;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITypedRegion;
+import org.eclipse.jface.text.TextUtilities;
+
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+
+/**
+ * The matching braces, parentheses and brackets of a Java document, computed in one forward pass
+ * over the Java code partitions. The peers are matched the same way as
+ * {@link JavaHeuristicScanner#findOpeningPeer(int, char, char)} does, but in constant time, which
+ * makes indenting many lines linear instead of quadratic.
+ * <p>
+ * The peers are stored by line and by their distance from the end of their line, so the index
+ * stays valid while only the indentation of lines is changed. Any other change of the document
+ * invalidates the index.
+ * </p>
+ *
+ * @since 3.21
+ */
+public final class JavaBracketIndex {
+
+	/** Returned if the closing peer has no opening peer. */
+	public static final int NO_PEER= -1;
+	/** Returned if the index does not know the position, e.g. because the document has changed. */
+	public static final int UNKNOWN= -2;
+
+	private static final String PEERS= "{}()[]"; //$NON-NLS-1$
+
+	private final IDocument fDocument;
+	private final int fNumberOfLines;
+
+	private int fSize;
+	private char[] fChars;
+	private int[] fLines;
+	/** The distance of each peer from the end of its line. */
+	private int[] fFromLineEnd;
+	/** For closing peers, the index of the opening peer or -1, for opening peers -1. */
+	private int[] fOpeningPeers;
+
+	private JavaBracketIndex(IDocument document) {
+		fDocument= document;
+		fNumberOfLines= document.getNumberOfLines();
+		int capacity= 256;
+		fChars= new char[capacity];
+		fLines= new int[capacity];
+		fFromLineEnd= new int[capacity];
+		fOpeningPeers= new int[capacity];
+	}
+
+	/**
+	 * Creates the index of the given document.
+	 *
+	 * @param document the document, must have a Java partitioning installed
+	 * @return the index
+	 * @throws BadLocationException if the document has been changed concurrently
+	 */
+	public static JavaBracketIndex create(IDocument document) throws BadLocationException {
+		JavaBracketIndex index= new JavaBracketIndex(document);
+		index.build();
+		return index;
+	}
+
+	private void build() throws BadLocationException {
+		// one stack of unmatched opening peers per kind of peer
+		int[][] stacks= new int[3][16];
+		int[] depths= new int[3];
+
+		ITypedRegion[] partitions= TextUtilities.computePartitioning(fDocument, IJavaPartitions.JAVA_PARTITIONING, 0, fDocument.getLength(), false);
+		for (ITypedRegion partition : partitions) {
+			if (!IDocument.DEFAULT_CONTENT_TYPE.equals(partition.getType()))
+				continue;
+			int offset= partition.getOffset();
+			String content= fDocument.get(offset, partition.getLength());
+			for (int i= 0; i < content.length(); i++) {
+				char c= content.charAt(i);
+				int peer= PEERS.indexOf(c);
+				if (peer == -1)
+					continue;
+
+				int kind= peer / 2;
+				int openingPeer= -1;
+				if (peer % 2 == 0) {
+					if (depths[kind] == stacks[kind].length)
+						stacks[kind]= Arrays.copyOf(stacks[kind], depths[kind] * 2);
+					stacks[kind][depths[kind]++]= fSize;
+				} else if (depths[kind] > 0) {
+					openingPeer= stacks[kind][--depths[kind]];
+				}
+				add(c, offset + i, openingPeer);
+			}
+		}
+	}
+
+	private void add(char c, int offset, int openingPeer) throws BadLocationException {
+		if (fSize == fChars.length) {
+			int capacity= fSize * 2;
+			fChars= Arrays.copyOf(fChars, capacity);
+			fLines= Arrays.copyOf(fLines, capacity);
+			fFromLineEnd= Arrays.copyOf(fFromLineEnd, capacity);
+			fOpeningPeers= Arrays.copyOf(fOpeningPeers, capacity);
+		}
+		int line= fDocument.getLineOfOffset(offset);
+		IRegion info= fDocument.getLineInformation(line);
+		fChars[fSize]= c;
+		fLines[fSize]= line;
+		fFromLineEnd[fSize]= info.getOffset() + info.getLength() - offset;
+		fOpeningPeers[fSize]= openingPeer;
+		fSize++;
+	}
+
+	/**
+	 * Returns the position of the opening peer matching the closing peer at the given position.
+	 *
+	 * @param closingPeer the position of a closing brace, parenthesis or bracket in the Java code
+	 * @return the position of the opening peer, {@link #NO_PEER} if there is none, or
+	 *         {@link #UNKNOWN} if the position is not known to the index
+	 */
+	public int findOpeningPeer(int closingPeer) {
+		if (fDocument.getNumberOfLines() != fNumberOfLines)
+			return UNKNOWN;
+		try {
+			int line= fDocument.getLineOfOffset(closingPeer);
+			IRegion info= fDocument.getLineInformation(line);
+			int index= indexOf(line, info.getOffset() + info.getLength() - closingPeer);
+			if (index < 0 || fChars[index] != fDocument.getChar(closingPeer))
+				return UNKNOWN;
+
+			int openingPeer= fOpeningPeers[index];
+			if (openingPeer == -1)
+				return NO_PEER;
+
+			info= fDocument.getLineInformation(fLines[openingPeer]);
+			int offset= info.getOffset() + info.getLength() - fFromLineEnd[openingPeer];
+			if (offset < 0 || fChars[openingPeer] != fDocument.getChar(offset))
+				return UNKNOWN;
+			return offset;
+		} catch (BadLocationException e) {
+			return UNKNOWN;
+		}
+	}
+
+	/**
+	 * Returns the index of the peer at the given location.
+	 *
+	 * @param line the line
+	 * @param fromLineEnd the distance from the end of the line
+	 * @return the index, or -1 if there is no peer at the location
+	 */
+	private int indexOf(int line, int fromLineEnd) {
+		int low= 0;
+		int high= fSize - 1;
+		while (low <= high) {
+			int mid= (low + high) >>> 1;
+			int cmp= fLines[mid] != line ? Integer.compare(fLines[mid], line) : Integer.compare(fromLineEnd, fFromLineEnd[mid]);
+			if (cmp < 0)
+				low= mid + 1;
+			else if (cmp > 0)
+				high= mid - 1;
+			else
+				return mid;
+		}
+		return -1;
+	}
+}
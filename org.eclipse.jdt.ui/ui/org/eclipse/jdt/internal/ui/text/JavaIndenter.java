@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -395,6 +395,11 @@ public final class JavaIndenter {
 	 * @since 3.2
 	 */
 	private final CorePrefs fPrefs;
+	/**
+	 * The index used to skip scopes, or <code>null</code>.
+	 * @since 3.21
+	 */
+	private JavaBracketIndex fBracketIndex;
 
 	/**
 	 * Creates a new instance.
@@ -426,6 +431,17 @@ public final class JavaIndenter {
 		fPrefs= new CorePrefs(project);
 	}
 
+	/**
+	 * Sets the index used to skip the scopes of braces, parentheses and brackets instead of
+	 * scanning them. Clients that compute the indentation of many lines should set an index.
+	 *
+	 * @param index the index of the document, or <code>null</code> to scan the scopes
+	 * @since 3.21
+	 */
+	public void setBracketIndex(JavaBracketIndex index) {
+		fBracketIndex= index;
+	}
+
 	/**
 	 * Computes the indentation at the reference point of <code>position</code>.
 	 *
@@ -2160,6 +2176,20 @@ public final class JavaIndenter {
 	 */
 	private boolean skipScope(int openToken, int closeToken) {
 
+		if (fBracketIndex != null && closeToken != Symbols.TokenGREATERTHAN) {
+			int closingPeer= fPosition;
+			int openingPeer= fBracketIndex.findOpeningPeer(closingPeer);
+			if (openingPeer >= 0) {
+				// same state as after scanning back to the opening peer
+				int next= fScanner.findNonWhitespaceForward(openingPeer + 1, closingPeer + 1);
+				fToken= openToken;
+				fPreviousPos= next == JavaHeuristicScanner.NOT_FOUND ? closingPeer : next;
+				fPosition= openingPeer;
+				fTokenPos= openingPeer;
+				return true;
+			}
+		}
+
 		int depth= 1;
 
 		while (true) {
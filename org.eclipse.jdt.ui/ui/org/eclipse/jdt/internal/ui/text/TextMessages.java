@@ -35,6 +35,28 @@ final class TextMessages extends NLS {
 	public static String JavaOutlineInformationControl_GoIntoTopLevelType_label;
 	public static String JavaOutlineInformationControl_GoIntoTopLevelType_tooltip;
 	public static String JavaOutlineInformationControl_GoIntoTopLevelType_description;
+	public static String AssistLatencyView_kind_content_assist;
+	public static String AssistLatencyView_kind_completion_computer;
+	public static String AssistLatencyView_kind_context_information_computer;
+	public static String AssistLatencyView_kind_quick_assist;
+	public static String AssistLatencyView_kind_quick_fix_processor;
+	public static String AssistLatencyView_kind_quick_assist_processor;
+	public static String AssistLatencyView_column_kind;
+	public static String AssistLatencyView_column_name;
+	public static String AssistLatencyView_column_contributor;
+	public static String AssistLatencyView_column_count;
+	public static String AssistLatencyView_column_mean;
+	public static String AssistLatencyView_column_p50;
+	public static String AssistLatencyView_column_p90;
+	public static String AssistLatencyView_column_p99;
+	public static String AssistLatencyView_column_max;
+	public static String AssistLatencyView_column_timeouts;
+	public static String AssistLatencyView_column_proposals;
+	public static String AssistLatencyView_reset_label;
+	public static String AssistLatencyView_export_json_label;
+	public static String AssistLatencyView_export_csv_label;
+	public static String AssistLatencyView_export_error_title;
+	public static String AssistLatencyView_export_error_message;
 
 	static {
 		NLS.initializeMessages(BUNDLE_NAME, TextMessages.class);
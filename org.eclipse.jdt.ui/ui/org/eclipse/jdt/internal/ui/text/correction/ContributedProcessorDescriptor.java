@@ -49,6 +49,7 @@ public final class ContributedProcessorDescriptor {
 	private final Set<String> fHandledMarkerTypes;
 
 	private static final String ID= "id"; //$NON-NLS-1$
+	private static final String NAME= "name"; //$NON-NLS-1$
 	private static final String CLASS= "class"; //$NON-NLS-1$
 
 	private static final String REQUIRED_SOURCE_LEVEL= "requiredSourceLevel"; //$NON-NLS-1$
@@ -156,4 +157,17 @@ public final class ContributedProcessorDescriptor {
 		return fHandledMarkerTypes == null || fHandledMarkerTypes.contains(markerType);
 	}
 
+	public String getId() {
+		return fConfigurationElement.getAttribute(ID);
+	}
+
+	public String getName() {
+		String name= fConfigurationElement.getAttribute(NAME);
+		return name != null ? name : getId();
+	}
+
+	public String getContributorName() {
+		return fConfigurationElement.getContributor().getName();
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,10 @@ package org.eclipse.jdt.internal.ui.text.correction;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -25,6 +27,7 @@ import org.eclipse.swt.graphics.Image;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
@@ -149,13 +152,16 @@ public class CorrectionMarkerResolutionGenerator implements IMarkerResolutionGen
 					return;
 				}
 
-				((FixCorrectionProposal)fProposal).resolve(problems, monitor);
+				// one refactoring for all units: a single undo entry, and nothing is applied when canceled
+				((FixCorrectionProposal) fProposal).resolve(problems, monitor);
 
 				IEditorPart part= EditorUtility.isOpenInEditor(fCompilationUnit);
 				if (part instanceof ITextEditor) {
 					((ITextEditor) part).selectAndReveal(fOffset, fLength);
 					part.setFocus();
 				}
+			} catch (OperationCanceledException e) {
+				// nothing has been changed, keep the selection
 			} catch (CoreException e) {
 				JavaPlugin.log(e);
 			} finally {
@@ -164,33 +170,66 @@ public class CorrectionMarkerResolutionGenerator implements IMarkerResolutionGen
 		}
 
 		public static MultiFixTarget[] getCleanUpTargets(IMarker[] markers) {
-			Hashtable<ICompilationUnit, List<IProblemLocation>> problemLocations= new Hashtable<>();
+			Map<ICompilationUnit, List<IMarker>> markersByUnit= new LinkedHashMap<>();
 			for (IMarker marker : markers) {
 				ICompilationUnit cu= getCompilationUnit(marker);
-
 				if (cu != null) {
-					IEditorInput input= EditorUtility.getEditorInput(cu);
-					IProblemLocation location= findProblemLocation(input, marker);
-					if (location != null) {
-						List<IProblemLocation> l= problemLocations.get(cu.getPrimary());
-						if (l == null) {
-							l= new ArrayList<>();
-							problemLocations.put(cu.getPrimary(), l);
-						}
-						l.add(location);
-					}
+					markersByUnit.computeIfAbsent(cu.getPrimary(), k -> new ArrayList<>()).add(marker);
 				}
 			}
 
-			MultiFixTarget[] result= new MultiFixTarget[problemLocations.size()];
-			int i= 0;
-			for (Map.Entry<ICompilationUnit, List<IProblemLocation>> entry : problemLocations.entrySet()) {
+			List<MultiFixTarget> result= new ArrayList<>(markersByUnit.size());
+			for (Map.Entry<ICompilationUnit, List<IMarker>> entry : markersByUnit.entrySet()) {
 				ICompilationUnit cu= entry.getKey();
-				List<IProblemLocation> locations= entry.getValue();
-				result[i]= new MultiFixTarget(cu, locations.toArray(new IProblemLocation[locations.size()]));
-				i++;
+				List<IProblemLocation> locations= findProblemLocations(cu, entry.getValue());
+				if (!locations.isEmpty()) {
+					result.add(new MultiFixTarget(cu, locations.toArray(new IProblemLocation[locations.size()])));
+				}
+			}
+			return result.toArray(new MultiFixTarget[result.size()]);
+		}
+
+		/**
+		 * Finds the problem locations of markers in the same compilation unit. Unlike calling
+		 * {@link CorrectionMarkerResolutionGenerator#findProblemLocation(IEditorInput, IMarker)}
+		 * for each marker, the annotation model of an open editor is only traversed once.
+		 *
+		 * @param cu the compilation unit
+		 * @param markers the markers on the compilation unit
+		 * @return the problem locations, in the order of the markers
+		 */
+		private static List<IProblemLocation> findProblemLocations(ICompilationUnit cu, List<IMarker> markers) {
+			IEditorInput input= EditorUtility.getEditorInput(cu);
+			IAnnotationModel model= input != null ? JavaPlugin.getDefault().getCompilationUnitDocumentProvider().getAnnotationModel(input) : null;
+			Map<IMarker, IProblemLocation> annotationLocations= Collections.emptyMap();
+			if (model != null) { // open in editor
+				annotationLocations= new HashMap<>();
+				Iterator<Annotation> iter= model.getAnnotationIterator();
+				while (iter.hasNext()) {
+					Annotation curr= iter.next();
+					if (curr instanceof JavaMarkerAnnotation) {
+						JavaMarkerAnnotation annot= (JavaMarkerAnnotation) curr;
+						Position pos= model.getPosition(annot);
+						if (pos != null) {
+							// like findProblemLocation, the first annotation of a marker wins
+							annotationLocations.putIfAbsent(annot.getMarker(), new ProblemLocation(pos.getOffset(), pos.getLength(), annot));
+						}
+					}
+				}
 			}
 
+			List<IProblemLocation> result= new ArrayList<>(markers.size());
+			for (IMarker marker : markers) {
+				IProblemLocation location;
+				if (model == null || marker.getResource() instanceof IFolder) {
+					location= createFromMarker(marker, cu);
+				} else {
+					location= annotationLocations.get(marker);
+				}
+				if (location != null) {
+					result.add(location);
+				}
+			}
 			return result;
 		}
 
@@ -245,23 +284,8 @@ public class CorrectionMarkerResolutionGenerator implements IMarkerResolutionGen
 				return NO_MARKERS;
 
 			final List<IMarker> result= new ArrayList<>();
-
 			for (Map.Entry<IFile, List<IMarker>> entry : fileMarkerTable.entrySet()) {
-				IFile file= entry.getKey();
-				List<IMarker> fileMarkers= entry.getValue();
-
-				IJavaElement element= JavaCore.create(file);
-				if (element instanceof ICompilationUnit) {
-					ICompilationUnit unit= (ICompilationUnit) element;
-
-					for (int i= 0, size= fileMarkers.size(); i < size; i++) {
-						IMarker marker= fileMarkers.get(i);
-						IProblemLocation problem= createFromMarker(marker, unit);
-						if (problem != null && multiFix.canFix(unit, problem)) {
-							result.add(marker);
-						}
-					}
-				}
+				result.addAll(findFixableMarkers(multiFix, entry.getKey(), entry.getValue()));
 			}
 
 			if (result.isEmpty())
@@ -270,6 +294,22 @@ public class CorrectionMarkerResolutionGenerator implements IMarkerResolutionGen
 			return result.toArray(new IMarker[result.size()]);
 		}
 
+		private static List<IMarker> findFixableMarkers(IMultiFix multiFix, IFile file, List<IMarker> fileMarkers) {
+			IJavaElement element= JavaCore.create(file);
+			if (!(element instanceof ICompilationUnit))
+				return Collections.emptyList();
+
+			ICompilationUnit unit= (ICompilationUnit) element;
+			List<IMarker> result= new ArrayList<>();
+			for (IMarker marker : fileMarkers) {
+				IProblemLocation problem= createFromMarker(marker, unit);
+				if (problem != null && multiFix.canFix(unit, problem)) {
+					result.add(marker);
+				}
+			}
+			return result;
+		}
+
 		/**
 		 * Returns the markers with the same type as fMarker.getType for each IFile.
 		 * @param markers the markers
@@ -448,11 +488,12 @@ public class CorrectionMarkerResolutionGenerator implements IMarkerResolutionGen
 			int start= marker.getAttribute(IMarker.CHAR_START, -1);
 			int end= marker.getAttribute(IMarker.CHAR_END, -1);
 			int severity= marker.getAttribute(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
-			String[] arguments= CorrectionEngine.getProblemArguments(marker);
-			String markerType= marker.getType();
-			if (cu != null && id != -1 && start != -1 && end != -1 && arguments != null) {
-				boolean isError= (severity == IMarker.SEVERITY_ERROR);
-				return new ProblemLocation(start, end - start, id, arguments, isError, markerType);
+			if (cu != null && id != -1 && start != -1 && end != -1) {
+				String[] arguments= CorrectionEngine.getProblemArguments(marker);
+				if (arguments != null) {
+					boolean isError= (severity == IMarker.SEVERITY_ERROR);
+					return new ProblemLocation(start, end - start, id, arguments, isError, marker.getType());
+				}
 			}
 		} catch (CoreException e) {
 			JavaPlugin.log(e);
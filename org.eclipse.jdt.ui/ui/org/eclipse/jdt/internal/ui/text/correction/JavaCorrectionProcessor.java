@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,9 +19,11 @@ import java.util.Arrays;
 import java.util.Collection;
 
 import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
@@ -51,6 +53,7 @@ import org.eclipse.ltk.core.refactoring.NullChange;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 
+import org.eclipse.jdt.internal.core.manipulation.dom.CorrectionContextCache;
 import org.eclipse.jdt.internal.corext.util.Messages;
 
 import org.eclipse.jdt.ui.JavaUI;
@@ -64,6 +67,8 @@ import org.eclipse.jdt.ui.text.java.correction.ChangeCorrectionProposal;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.IJavaAnnotation;
+import org.eclipse.jdt.internal.ui.text.AssistLatencyRecorder;
+import org.eclipse.jdt.internal.ui.text.AssistLatencyRecorder.Kind;
 import org.eclipse.jdt.internal.ui.text.correction.proposals.MarkerResolutionProposal;
 
 
@@ -71,6 +76,7 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 
 	private static final String QUICKFIX_PROCESSOR_CONTRIBUTION_ID= "quickFixProcessors"; //$NON-NLS-1$
 	private static final String QUICKASSIST_PROCESSOR_CONTRIBUTION_ID= "quickAssistProcessors"; //$NON-NLS-1$
+	private static final String QUICK_ASSIST_ID= "quickAssist"; //$NON-NLS-1$
 
 	private static ContributedProcessorDescriptor[] fgContributedAssistProcessors= null;
 	private static ContributedProcessorDescriptor[] fgContributedCorrectionProcessors= null;
@@ -149,9 +155,25 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 	}
 
 	public static boolean hasAssists(IInvocationContext context) {
+		return hasAssists(context, null);
+	}
+
+	/**
+	 * Tells whether any of the quick assist processors has assists for the given context.
+	 *
+	 * @param context the invocation context
+	 * @param monitor the progress monitor checked for cancellation between the processors, can be
+	 *            <code>null</code>
+	 * @return <code>true</code> if there are assists
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 * @since 3.21
+	 */
+	public static boolean hasAssists(IInvocationContext context, IProgressMonitor monitor) {
 		SafeHasAssist collector= new SafeHasAssist(context);
 
 		for (ContributedProcessorDescriptor processor :  getAssistProcessors()) {
+			if (monitor != null && monitor.isCanceled())
+				throw new OperationCanceledException();
 			collector.process(processor);
 			if (collector.hasAssists()) {
 				return true;
@@ -223,6 +245,7 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 	 */
 	@Override
 	public ICompletionProposal[] computeQuickAssistProposals(IQuickAssistInvocationContext quickAssistContext) {
+		long start= System.nanoTime();
 		ISourceViewer viewer= quickAssistContext.getSourceViewer();
 		int documentOffset= quickAssistContext.getOffset();
 
@@ -252,6 +275,8 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 			}
 		}
 
+		AssistLatencyRecorder.getDefault().record(Kind.QUICK_ASSIST, QUICK_ASSIST_ID, QUICK_ASSIST_ID, null, start, res != null ? res.length : 0, false);
+
 		if (res == null || res.length == 0) {
 			return new ICompletionProposal[] { new ChangeCorrectionProposal(CorrectionMessages.NoCorrectionProposal_description, new NullChange(""), IProposalRelevance.NO_SUGGESSTIONS_AVAILABLE, null) }; //$NON-NLS-1$
 		}
@@ -280,21 +305,26 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 		MultiStatus resStatus= null;
 
 		IProblemLocation[] problemLocations= problems.toArray(new IProblemLocation[problems.size()]);
-		if (addQuickFixes) {
-			IStatus status= collectCorrections(context, problemLocations, proposals);
-			if (!status.isOK()) {
-				resStatus= new MultiStatus(JavaUI.ID_PLUGIN, IStatus.ERROR, CorrectionMessages.JavaCorrectionProcessor_error_quickfix_message, null);
-				resStatus.add(status);
+		CorrectionContextCache.begin(); // quick fixes and quick assists share the values derived from the AST
+		try {
+			if (addQuickFixes) {
+				IStatus status= collectCorrections(context, problemLocations, proposals);
+				if (!status.isOK()) {
+					resStatus= new MultiStatus(JavaUI.ID_PLUGIN, IStatus.ERROR, CorrectionMessages.JavaCorrectionProcessor_error_quickfix_message, null);
+					resStatus.add(status);
+				}
 			}
-		}
-		if (addQuickAssists) {
-			IStatus status= collectAssists(context, problemLocations, proposals);
-			if (!status.isOK()) {
-				if (resStatus == null) {
-					resStatus= new MultiStatus(JavaUI.ID_PLUGIN, IStatus.ERROR, CorrectionMessages.JavaCorrectionProcessor_error_quickassist_message, null);
+			if (addQuickAssists) {
+				IStatus status= collectAssists(context, problemLocations, proposals);
+				if (!status.isOK()) {
+					if (resStatus == null) {
+						resStatus= new MultiStatus(JavaUI.ID_PLUGIN, IStatus.ERROR, CorrectionMessages.JavaCorrectionProcessor_error_quickassist_message, null);
+					}
+					resStatus.add(status);
 				}
-				resStatus.add(status);
 			}
+		} finally {
+			CorrectionContextCache.end();
 		}
 		if (resStatus != null) {
 			return resStatus;
@@ -358,6 +388,10 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 			return fMulti;
 		}
 
+		protected static void recordLatency(Kind kind, ContributedProcessorDescriptor desc, long start, IJavaCompletionProposal[] res) {
+			AssistLatencyRecorder.getDefault().record(kind, desc.getId(), desc.getName(), desc.getContributorName(), start, res != null ? res.length : 0, false);
+		}
+
 	}
 
 	private static class SafeCorrectionCollector extends SafeCorrectionProcessorAccess {
@@ -378,7 +412,13 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 		public void safeRun(ContributedProcessorDescriptor desc) throws Exception {
 			IQuickFixProcessor curr= (IQuickFixProcessor) desc.getProcessor(fContext.getCompilationUnit(), IQuickFixProcessor.class);
 			if (curr != null) {
-				IJavaCompletionProposal[] res= curr.getCorrections(fContext, fLocations);
+				long start= System.nanoTime();
+				IJavaCompletionProposal[] res= null;
+				try {
+					res= curr.getCorrections(fContext, fLocations);
+				} finally {
+					recordLatency(Kind.QUICK_FIX_PROCESSOR, desc, start, res);
+				}
 				if (res != null) {
 					fProposals.addAll(Arrays.asList(res));
 				}
@@ -401,7 +441,13 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 		public void safeRun(ContributedProcessorDescriptor desc) throws Exception {
 			IQuickAssistProcessor curr= (IQuickAssistProcessor) desc.getProcessor(fContext.getCompilationUnit(), IQuickAssistProcessor.class);
 			if (curr != null) {
-				IJavaCompletionProposal[] res= curr.getAssists(fContext, fLocations);
+				long start= System.nanoTime();
+				IJavaCompletionProposal[] res= null;
+				try {
+					res= curr.getAssists(fContext, fLocations);
+				} finally {
+					recordLatency(Kind.QUICK_ASSIST_PROCESSOR, desc, start, res);
+				}
 				if (res != null) {
 					fProposals.addAll(Arrays.asList(res));
 				}
@@ -458,12 +504,17 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 
 	public static IStatus collectCorrections(IInvocationContext context, IProblemLocation[] locations, Collection<IJavaCompletionProposal> proposals) {
 		SafeCorrectionCollector collector= new SafeCorrectionCollector(context, proposals);
-		for (ContributedProcessorDescriptor curr : getCorrectionProcessors()) {
-			IProblemLocation[] handled= getHandledProblems(locations, curr);
-			if (handled != null) {
-				collector.setProblemLocations(handled);
-				collector.process(curr);
+		CorrectionContextCache.begin();
+		try {
+			for (ContributedProcessorDescriptor curr : getCorrectionProcessors()) {
+				IProblemLocation[] handled= getHandledProblems(locations, curr);
+				if (handled != null) {
+					collector.setProblemLocations(handled);
+					collector.process(curr);
+				}
 			}
+		} finally {
+			CorrectionContextCache.end();
 		}
 		return collector.getStatus();
 	}
@@ -503,7 +554,12 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 	public static IStatus collectAssists(IInvocationContext context, IProblemLocation[] locations, Collection<IJavaCompletionProposal> proposals) {
 		ContributedProcessorDescriptor[] processors= getAssistProcessors();
 		SafeAssistCollector collector= new SafeAssistCollector(context, locations, proposals);
-		collector.process(processors);
+		CorrectionContextCache.begin();
+		try {
+			collector.process(processors);
+		} finally {
+			CorrectionContextCache.end();
+		}
 
 		return collector.getStatus();
 	}
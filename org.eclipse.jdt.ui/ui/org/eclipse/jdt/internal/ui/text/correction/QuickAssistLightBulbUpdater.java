@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,9 @@
 package org.eclipse.jdt.internal.ui.text.correction;
 
 import java.util.ConcurrentModificationException;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.Map;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.GC;
@@ -23,10 +25,14 @@ import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Canvas;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
 import org.eclipse.jface.util.IPropertyChangeListener;
 
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.ITextSelection;
 import org.eclipse.jface.text.ITextViewer;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.source.Annotation;
@@ -35,6 +41,8 @@ import org.eclipse.jface.text.source.IAnnotationModel;
 import org.eclipse.jface.text.source.IAnnotationPresentation;
 import org.eclipse.jface.text.source.ImageUtilities;
 
+import org.eclipse.ui.IEditorPart;
+
 import org.eclipse.ui.texteditor.AnnotationPreference;
 import org.eclipse.ui.texteditor.ITextEditor;
 
@@ -42,7 +50,15 @@ import org.eclipse.ui.editors.text.EditorsUI;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.BooleanLiteral;
+import org.eclipse.jdt.core.dom.CharacterLiteral;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Modifier;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.NullLiteral;
+import org.eclipse.jdt.core.dom.NumberLiteral;
+import org.eclipse.jdt.core.dom.PrimitiveType;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 
 import org.eclipse.jdt.ui.JavaUI;
@@ -108,6 +124,21 @@ public class QuickAssistLightBulbUpdater {
 	private ISelectionListenerWithAST fListener;
 	private IPropertyChangeListener fPropertyChangeListener;
 
+	/**
+	 * The AST of the cached results, guarded by <code>fCachedResults</code>.
+	 *
+	 * @since 3.21
+	 */
+	private CompilationUnit fCachedAST;
+
+	/**
+	 * Whether there are assists for a covering node of {@link #fCachedAST}, for the caret positions
+	 * in nodes whose assists do not depend on the exact position.
+	 *
+	 * @since 3.21
+	 */
+	private final Map<ASTNode, Boolean> fCachedResults= new IdentityHashMap<>();
+
 	public QuickAssistLightBulbUpdater(ITextEditor part, ITextViewer viewer) {
 		fEditor= part;
 		fViewer= viewer;
@@ -121,7 +152,17 @@ public class QuickAssistLightBulbUpdater {
 	}
 
 	private void installSelectionListener() {
-		fListener= (part, selection, astRoot) -> doSelectionChanged(selection.getOffset(), selection.getLength(), astRoot);
+		fListener= new ISelectionListenerWithAST() {
+			@Override
+			public void selectionChanged(IEditorPart part, ITextSelection selection, CompilationUnit astRoot) {
+				selectionChanged(part, selection, astRoot, null);
+			}
+
+			@Override
+			public void selectionChanged(IEditorPart part, ITextSelection selection, CompilationUnit astRoot, IProgressMonitor monitor) {
+				doSelectionChanged(selection.getOffset(), selection.getLength(), astRoot, monitor);
+			}
+		};
 		SelectionListenerWithASTManager.getDefault().addListener(fEditor, fListener);
 	}
 
@@ -130,6 +171,10 @@ public class QuickAssistLightBulbUpdater {
 			SelectionListenerWithASTManager.getDefault().removeListener(fEditor, fListener);
 			fListener= null;
 		}
+		synchronized (fCachedResults) {
+			fCachedAST= null;
+			fCachedResults.clear();
+		}
 		IAnnotationModel model= getAnnotationModel();
 		if (model != null) {
 			removeLightBulb(model);
@@ -163,7 +208,7 @@ public class QuickAssistLightBulbUpdater {
 					Point point= fViewer.getSelectedRange();
 					CompilationUnit astRoot= SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_ACTIVE_ONLY, null);
 					if (astRoot != null) {
-						doSelectionChanged(point.x, point.y, astRoot);
+						doSelectionChanged(point.x, point.y, astRoot, null);
 					}
 				}
 			} else {
@@ -189,7 +234,18 @@ public class QuickAssistLightBulbUpdater {
 	}
 
 
-	private void doSelectionChanged(int offset, int length, CompilationUnit astRoot) {
+	/**
+	 * Updates the light bulb for the given selection. The assists are computed in the thread of the
+	 * caller, i.e. in the job of the {@link SelectionListenerWithASTManager}, which is canceled by
+	 * the next selection change. The light bulb of the previous selection is kept until the new
+	 * result is known.
+	 *
+	 * @param offset the offset of the selection
+	 * @param length the length of the selection
+	 * @param astRoot the AST of the compilation unit
+	 * @param monitor the monitor of the job, can be <code>null</code>
+	 */
+	private void doSelectionChanged(int offset, int length, CompilationUnit astRoot, IProgressMonitor monitor) {
 
 		final IAnnotationModel model= getAnnotationModel();
 		final ICompilationUnit cu= getCompilationUnit();
@@ -206,14 +262,24 @@ public class QuickAssistLightBulbUpdater {
 			return; // there is already a quick fix light bulb at the new location
 		}
 
-		calculateLightBulb(model, context);
+		Boolean hasAssists= getCachedResult(context);
+		if (hasAssists == null) {
+			try {
+				hasAssists= Boolean.valueOf(JavaCorrectionProcessor.hasAssists(context, monitor));
+			} catch (OperationCanceledException e) {
+				return; // the selection has changed, the next update replaces the light bulb
+			}
+			putCachedResult(context, hasAssists.booleanValue());
+		}
+		synchronized (this) {
+			showLightBulb(model, context, hasAssists.booleanValue());
+		}
 	}
 
 	/*
 	 * Needs to be called synchronized
 	 */
-	private void calculateLightBulb(IAnnotationModel model, IInvocationContext context) {
-		boolean needsAnnotation= JavaCorrectionProcessor.hasAssists(context);
+	private void showLightBulb(IAnnotationModel model, IInvocationContext context, boolean needsAnnotation) {
 		if (fIsAnnotationShown) {
 			model.removeAnnotation(fAnnotation);
 		}
@@ -223,6 +289,46 @@ public class QuickAssistLightBulbUpdater {
 		fIsAnnotationShown= needsAnnotation;
 	}
 
+	/**
+	 * Returns the node whose cached result can be used for the given context.
+	 *
+	 * @param context the context
+	 * @return the covering node if the assists do not depend on the exact caret position in it, or
+	 *         <code>null</code>
+	 * @since 3.21
+	 */
+	private static ASTNode getCacheKey(AssistContext context) {
+		if (context.getSelectionLength() != 0)
+			return null;
+		ASTNode node= context.getCoveringNode();
+		if (node instanceof Name || node instanceof NumberLiteral || node instanceof CharacterLiteral || node instanceof BooleanLiteral
+				|| node instanceof NullLiteral || node instanceof PrimitiveType || node instanceof Modifier)
+			return node;
+		return null;
+	}
+
+	private Boolean getCachedResult(AssistContext context) {
+		ASTNode key= getCacheKey(context);
+		if (key == null)
+			return null;
+		synchronized (fCachedResults) {
+			return fCachedAST == context.getASTRoot() ? fCachedResults.get(key) : null;
+		}
+	}
+
+	private void putCachedResult(AssistContext context, boolean hasAssists) {
+		ASTNode key= getCacheKey(context);
+		if (key == null)
+			return;
+		synchronized (fCachedResults) {
+			if (fCachedAST != context.getASTRoot()) {
+				fCachedAST= context.getASTRoot();
+				fCachedResults.clear();
+			}
+			fCachedResults.put(key, Boolean.valueOf(hasAssists));
+		}
+	}
+
 	private void removeLightBulb(IAnnotationModel model) {
 		synchronized (this) {
 			if (fIsAnnotationShown) {
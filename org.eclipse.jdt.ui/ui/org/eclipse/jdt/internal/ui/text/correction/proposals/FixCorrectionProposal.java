@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 
 import org.eclipse.jface.operation.IRunnableContext;
@@ -181,6 +182,15 @@ public class FixCorrectionProposal extends LinkedCorrectionProposal implements I
 		apply(viewer.getDocument());
 	}
 
+	/**
+	 * Fixes the problems of the given targets with one clean up refactoring, so that the
+	 * edits to all compilation units are undone together.
+	 *
+	 * @param targets the targets to fix
+	 * @param monitor the progress monitor, may be <code>null</code>
+	 * @throws CoreException if the fix fails
+	 * @throws OperationCanceledException if the fix has been canceled and nothing was changed
+	 */
 	public void resolve(MultiFixTarget[] targets, final IProgressMonitor monitor) throws CoreException {
 		if (targets.length == 0)
 			return;
@@ -210,6 +220,7 @@ public class FixCorrectionProposal extends LinkedCorrectionProposal implements I
 		try {
 			helper.perform(true, true);
 		} catch (InterruptedException e) {
+			throw new OperationCanceledException();
 		} catch (InvocationTargetException e) {
 			Throwable cause= e.getCause();
 			if (cause instanceof CoreException) {
@@ -175,6 +175,8 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 			finder.cancel();
 			executor.shutdownNow();
 			setError("Timeout during call chain computation."); //$NON-NLS-1$
+		} finally {
+			executor.shutdown();
 		}
 		return buildCompletionProposals(finder.getChains());
 	}
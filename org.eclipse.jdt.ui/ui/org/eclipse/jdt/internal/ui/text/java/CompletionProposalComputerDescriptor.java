@@ -45,6 +45,8 @@ import org.eclipse.jdt.ui.text.java.IJavaCompletionProposalComputer;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaSourceViewer;
+import org.eclipse.jdt.internal.ui.text.AssistLatencyRecorder;
+import org.eclipse.jdt.internal.ui.text.AssistLatencyRecorder.Kind;
 
 /**
  * The description of an extension to the
@@ -345,7 +347,9 @@ final class CompletionProposalComputerDescriptor {
 
 			try {
 				PerformanceStats stats= startMeter(context, computer);
+				long start= System.nanoTime();
 				List<ICompletionProposal> proposals= computer.computeCompletionProposals(context, monitor);
+				recordLatency(Kind.COMPLETION_COMPUTER, start, proposals, monitor);
 				stopMeter(stats, COMPUTE_COMPLETION_PROPOSALS);
 
 				if (proposals != null) {
@@ -393,7 +397,9 @@ final class CompletionProposalComputerDescriptor {
 				return Collections.emptyList();
 
 			PerformanceStats stats= startMeter(context, computer);
+			long start= System.nanoTime();
 			List<IContextInformation> proposals= computer.computeContextInformation(context, monitor);
+			recordLatency(Kind.CONTEXT_INFORMATION_COMPUTER, start, proposals, monitor);
 			stopMeter(stats, COMPUTE_CONTEXT_INFORMATION);
 
 			if (proposals != null) {
@@ -485,6 +491,23 @@ final class CompletionProposalComputerDescriptor {
 		fRegistry.informUser(this, status);
 	}
 
+	/**
+	 * Records the latency of a computation in the {@link AssistLatencyRecorder}. A computation
+	 * that returns after its monitor has been canceled, for example because the content assist
+	 * deadline has passed, is recorded as a timeout.
+	 *
+	 * @param kind the kind of computation
+	 * @param start the {@link System#nanoTime()} at the start of the computation
+	 * @param proposals the computed proposals, can be <code>null</code>
+	 * @param monitor the monitor passed to the computer
+	 * @since 3.21
+	 */
+	private void recordLatency(Kind kind, long start, List<?> proposals, IProgressMonitor monitor) {
+		IContributor contributor= getContributor();
+		AssistLatencyRecorder.getDefault().record(kind, fId, fName, contributor != null ? contributor.getName() : null,
+				start, proposals != null ? proposals.size() : 0, monitor.isCanceled());
+	}
+
 	private PerformanceStats startMeter(Object context, IJavaCompletionProposalComputer computer) {
 		final PerformanceStats stats;
 		if (MEASURE_PERFORMANCE) {
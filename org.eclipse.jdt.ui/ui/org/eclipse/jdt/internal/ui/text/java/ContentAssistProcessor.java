@@ -23,6 +23,13 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.SelectionAdapter;
@@ -77,6 +84,9 @@ import org.eclipse.jdt.ui.text.java.ContentAssistInvocationContext;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.JavaUIMessages;
 import org.eclipse.jdt.internal.ui.dialogs.OptionalMessageDialog;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaSourceViewer;
+import org.eclipse.jdt.internal.ui.text.AssistLatencyRecorder;
+import org.eclipse.jdt.internal.ui.text.AssistLatencyRecorder.Kind;
 
 
 /**
@@ -99,6 +109,30 @@ import org.eclipse.jdt.internal.ui.dialogs.OptionalMessageDialog;
  */
 public class ContentAssistProcessor implements IContentAssistProcessor {
 
+	/**
+	 * The maximum number of threads computing categories concurrently.
+	 * @since 3.21
+	 */
+	private static final int MAX_CATEGORY_THREADS= 4;
+
+	/**
+	 * The interval in milliseconds at which cancellation is checked while waiting for a category.
+	 * @since 3.21
+	 */
+	private static final long JOIN_POLL_INTERVAL= 50;
+
+	/**
+	 * The time in milliseconds after which categories computed concurrently are abandoned. Uses
+	 * the same system property as the timeout of the individual code assist computations.
+	 * @since 3.21
+	 */
+	private static final long CATEGORY_DEADLINE= Long.getLong("org.eclipse.jdt.ui.codeAssistTimeout", 5000).longValue(); //$NON-NLS-1$
+
+	/**
+	 * The executor computing categories concurrently, created on demand.
+	 * @since 3.21
+	 */
+	private static ExecutorService fgCategoryExecutor;
 
 	/**
 	 * The completion listener class for this processor.
@@ -260,6 +294,15 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 	private boolean fNeedsSortingAfterFiltering;
 
 
+	/**
+	 * Tells whether a category has been canceled because the deadline of the last computation
+	 * has passed.
+	 *
+	 * @since 3.21
+	 */
+	private boolean fTimedOut;
+
+
 	public ContentAssistProcessor(ContentAssistant assistant, String partition) {
 		Assert.isNotNull(partition);
 		Assert.isNotNull(assistant);
@@ -276,6 +319,7 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 	@Override
 	public final ICompletionProposal[] computeCompletionProposals(ITextViewer viewer, int offset) {
 		long start= JavaPlugin.DEBUG_RESULT_COLLECTOR ? System.currentTimeMillis() : 0;
+		long startNanos= System.nanoTime();
 
 		clearState();
 
@@ -301,6 +345,8 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		ICompletionProposal[] result= proposals.toArray(new ICompletionProposal[proposals.size()]);
 		monitor.done();
 
+		AssistLatencyRecorder.getDefault().record(Kind.CONTENT_ASSIST, fPartition, fPartition, null, startNanos, result.length, fTimedOut);
+
 		if (JavaPlugin.DEBUG_RESULT_COLLECTOR) {
 			System.err.println("Code Assist Stats (" + result.length + " proposals)"); //$NON-NLS-1$ //$NON-NLS-2$
 			System.err.println("Code Assist (setup):\t" + (setup - start) ); //$NON-NLS-1$
@@ -314,6 +360,7 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 	private void clearState() {
 		fErrorMessage=null;
 		fNumberOfComputedResults= 0;
+		fTimedOut= false;
 	}
 
 	/**
@@ -329,8 +376,10 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		boolean needsSortingAfterFiltering= false;
 		List<ICompletionProposal> proposals= new ArrayList<>();
 		List<CompletionProposalCategory> providers= getCategories();
-		for (CompletionProposalCategory cat : providers) {
-			List<ICompletionProposal> computed= cat.computeCompletionProposals(context, fPartition, new SubProgressMonitor(monitor, 1));
+		List<List<ICompletionProposal>> computedByCategory= computeCategories(viewer, providers, monitor, context);
+		for (int i= 0; i < providers.size(); i++) {
+			CompletionProposalCategory cat= providers.get(i);
+			List<ICompletionProposal> computed= computedByCategory.get(i);
 			proposals.addAll(computed);
 			needsSortingAfterFiltering= needsSortingAfterFiltering || (cat.isSortingAfterFilteringNeeded() && !computed.isEmpty());
 			if (fErrorMessage == null) {
@@ -344,6 +393,102 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		return proposals;
 	}
 
+	/**
+	 * Computes the proposals of each category. When content assist runs outside the UI thread,
+	 * the categories are computed concurrently, so that their latencies don't add up. Categories
+	 * that have not finished when the shared deadline hits are canceled and contribute no
+	 * proposals.
+	 *
+	 * @param viewer the text viewer
+	 * @param categories the categories
+	 * @param monitor the progress monitor
+	 * @param context the code assist invocation context
+	 * @return the proposals of each category, in the order of <code>categories</code>
+	 * @since 3.21
+	 */
+	private List<List<ICompletionProposal>> computeCategories(ITextViewer viewer, List<CompletionProposalCategory> categories, IProgressMonitor monitor, ContentAssistInvocationContext context) {
+		List<List<ICompletionProposal>> result= new ArrayList<>(categories.size());
+		if (!canComputeConcurrently(viewer, categories)) {
+			for (CompletionProposalCategory cat : categories)
+				result.add(cat.computeCompletionProposals(context, fPartition, new SubProgressMonitor(monitor, 1)));
+			return result;
+		}
+
+		long deadline= System.currentTimeMillis() + CATEGORY_DEADLINE;
+		List<CompletableFuture<List<ICompletionProposal>>> futures= new ArrayList<>(categories.size());
+		for (CompletionProposalCategory cat : categories) {
+			IProgressMonitor categoryMonitor= new CancelForwardingMonitor(monitor, deadline);
+			futures.add(CompletableFuture.supplyAsync(() -> cat.computeCompletionProposals(context, fPartition, new SubProgressMonitor(categoryMonitor, 1)), getCategoryExecutor()));
+		}
+		for (CompletableFuture<List<ICompletionProposal>> future : futures) {
+			result.add(join(future, monitor, deadline));
+			if (future.isCancelled() && !monitor.isCanceled())
+				fTimedOut= true;
+			monitor.worked(1);
+		}
+		return result;
+	}
+
+	private static boolean canComputeConcurrently(ITextViewer viewer, List<CompletionProposalCategory> categories) {
+		return categories.size() > 1 && Display.getCurrent() == null
+				&& viewer instanceof JavaSourceViewer && ((JavaSourceViewer) viewer).isAsyncCompletionActive();
+	}
+
+	private static List<ICompletionProposal> join(CompletableFuture<List<ICompletionProposal>> future, IProgressMonitor monitor, long deadline) {
+		while (true) {
+			long remaining= deadline - System.currentTimeMillis();
+			if (monitor.isCanceled() || remaining <= 0) {
+				future.cancel(false);
+				return Collections.emptyList();
+			}
+			try {
+				return future.get(Math.min(remaining, JOIN_POLL_INTERVAL), TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// check for cancellation
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return Collections.emptyList();
+			} catch (ExecutionException e) {
+				JavaPlugin.log(e.getCause());
+				return Collections.emptyList();
+			}
+		}
+	}
+
+	private static synchronized ExecutorService getCategoryExecutor() {
+		if (fgCategoryExecutor == null) {
+			int threads= Math.max(2, Math.min(MAX_CATEGORY_THREADS, Runtime.getRuntime().availableProcessors()));
+			ThreadPoolExecutor executor= new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread= new Thread(runnable, "Content Assist Category Computation"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			executor.allowCoreThreadTimeOut(true);
+			fgCategoryExecutor= executor;
+		}
+		return fgCategoryExecutor;
+	}
+
+	/**
+	 * A monitor for a category computed on another thread. Only forwards cancellation, since
+	 * the progress of the invoking monitor must not be reported concurrently, and is canceled
+	 * once the deadline has passed.
+	 */
+	private static final class CancelForwardingMonitor extends NullProgressMonitor {
+		private final IProgressMonitor fMonitor;
+		private final long fDeadline;
+
+		CancelForwardingMonitor(IProgressMonitor monitor, long deadline) {
+			fMonitor= monitor;
+			fDeadline= deadline;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return super.isCanceled() || fMonitor.isCanceled() || System.currentTimeMillis() >= fDeadline;
+		}
+	}
+
 	/**
 	 * Filters and sorts the proposals. The passed list may be modified
 	 * and returned, or a new list may be created and returned.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2011 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,28 +13,40 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.java;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import org.eclipse.swt.widgets.Display;
+
 import org.eclipse.core.runtime.IProgressMonitor;
 
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.contentassist.ICompletionProposal;
 import org.eclipse.jface.text.contentassist.IContextInformation;
 
-import org.eclipse.ui.texteditor.HippieProposalProcessor;
+import org.eclipse.ui.IEditorPart;
+import org.eclipse.ui.IEditorReference;
+import org.eclipse.ui.IWorkbench;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.ui.texteditor.IDocumentProvider;
+import org.eclipse.ui.texteditor.ITextEditor;
 
 import org.eclipse.jdt.ui.text.java.ContentAssistInvocationContext;
 import org.eclipse.jdt.ui.text.java.IJavaCompletionProposalComputer;
 
 
 /**
- * A computer wrapper for the hippie processor.
+ * Computes hippie (word) completions from the words of the current document and of the
+ * documents of all open text editors. The words are looked up in the {@link HippieWordIndex}.
  *
  * @since 3.2
  */
 public final class HippieProposalComputer implements IJavaCompletionProposalComputer {
-	/** The wrapped processor. */
-	private final HippieProposalProcessor fProcessor= new HippieProposalProcessor();
 
 	/**
 	 * Default ctor to make it instantiatable via the extension mechanism.
@@ -47,7 +59,66 @@ public final class HippieProposalComputer implements IJavaCompletionProposalComp
 	 */
 	@Override
 	public List<ICompletionProposal> computeCompletionProposals(ContentAssistInvocationContext context, IProgressMonitor monitor) {
-		return Arrays.asList(fProcessor.computeCompletionProposals(context.getViewer(), context.getInvocationOffset()));
+		IDocument document= context.getDocument();
+		if (document == null)
+			return Collections.emptyList();
+
+		int offset= context.getInvocationOffset();
+		String prefix;
+		try {
+			prefix= HippieWordIndex.getPrefix(document, offset);
+		} catch (BadLocationException e) {
+			return Collections.emptyList();
+		}
+		if (prefix.isEmpty())
+			return Collections.emptyList();
+
+		List<IDocument> documents= connectDocuments(document);
+		List<String> words= HippieWordIndex.getDefault().getCompletions(documents, prefix);
+		List<ICompletionProposal> proposals= new ArrayList<>(words.size());
+		int relevance= words.size();
+		for (String word : words)
+			proposals.add(new JavaCompletionProposal(word, offset - prefix.length(), prefix.length(), null, word, relevance--));
+		return proposals;
+	}
+
+	/**
+	 * Connects the given document and the documents of the open text editors to the word index.
+	 *
+	 * @param document the current document
+	 * @return the connected documents, starting with the current document
+	 */
+	private static List<IDocument> connectDocuments(IDocument document) {
+		List<IDocument> documents= new ArrayList<>();
+		documents.add(document);
+		Runnable runnable= () -> {
+			if (PlatformUI.isWorkbenchRunning())
+				addEditorDocuments(PlatformUI.getWorkbench(), documents);
+			HippieWordIndex.getDefault().connect(documents);
+		};
+		Display display= Display.getCurrent();
+		if (display == null && PlatformUI.isWorkbenchRunning())
+			PlatformUI.getWorkbench().getDisplay().syncExec(runnable);
+		else
+			runnable.run();
+		return documents;
+	}
+
+	private static void addEditorDocuments(IWorkbench workbench, List<IDocument> documents) {
+		for (IWorkbenchWindow window : workbench.getWorkbenchWindows()) {
+			for (IWorkbenchPage page : window.getPages()) {
+				for (IEditorReference reference : page.getEditorReferences()) {
+					IEditorPart editor= reference.getEditor(false);
+					ITextEditor textEditor= editor != null ? editor.getAdapter(ITextEditor.class) : null;
+					if (textEditor == null)
+						continue;
+					IDocumentProvider provider= textEditor.getDocumentProvider();
+					IDocument document= provider != null ? provider.getDocument(textEditor.getEditorInput()) : null;
+					if (document != null && !documents.contains(document))
+						documents.add(document);
+				}
+			}
+		}
 	}
 
 	/*
@@ -55,7 +126,7 @@ public final class HippieProposalComputer implements IJavaCompletionProposalComp
 	 */
 	@Override
 	public List<IContextInformation> computeContextInformation(ContentAssistInvocationContext context, IProgressMonitor monitor) {
-		return Arrays.asList(fProcessor.computeContextInformation(context.getViewer(), context.getInvocationOffset()));
+		return Collections.emptyList();
 	}
 
 	/*
@@ -63,7 +134,7 @@ public final class HippieProposalComputer implements IJavaCompletionProposalComp
 	 */
 	@Override
 	public String getErrorMessage() {
-		return fProcessor.getErrorMessage();
+		return null;
 	}
 
 	/*
@@ -0,0 +1,407 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.java;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+
+/**
+ * The words of the documents used by hippie (word) completion. Each connected document has a
+ * prefix trie of its words that is kept up to date from the document events, so that completions
+ * can be looked up without scanning the documents.
+ * <p>
+ * Documents must be connected and disconnected in the UI thread. Completions can be computed in
+ * any thread.
+ * </p>
+ *
+ * @since 3.21
+ */
+public final class HippieWordIndex {
+
+	/**
+	 * Edits that remove or insert more characters are not applied to the trie, the trie is
+	 * rebuilt on the next lookup instead.
+	 */
+	private static final int MAX_INCREMENTAL_CHANGE= 10000;
+
+	/**
+	 * A prefix trie of words with the number of occurrences of each word.
+	 */
+	static final class WordTrie {
+
+		private static final char[] NO_CHARS= new char[0];
+		private static final Node[] NO_NODES= new Node[0];
+
+		private static final class Node {
+			/** The sorted characters of the children. */
+			char[] fChars= NO_CHARS;
+			Node[] fChildren= NO_NODES;
+			int fSize;
+			/** The number of occurrences of the word ending at this node. */
+			int fCount;
+
+			private int indexOf(char c) {
+				int low= 0;
+				int high= fSize - 1;
+				while (low <= high) {
+					int mid= (low + high) >>> 1;
+					char midChar= fChars[mid];
+					if (midChar < c)
+						low= mid + 1;
+					else if (midChar > c)
+						high= mid - 1;
+					else
+						return mid;
+				}
+				return -(low + 1);
+			}
+
+			Node getChild(char c) {
+				int index= indexOf(c);
+				return index >= 0 ? fChildren[index] : null;
+			}
+
+			Node getOrAddChild(char c) {
+				int index= indexOf(c);
+				if (index >= 0)
+					return fChildren[index];
+				index= -(index + 1);
+				if (fSize == fChars.length) {
+					int capacity= Math.max(2, fSize * 2);
+					char[] chars= new char[capacity];
+					Node[] children= new Node[capacity];
+					System.arraycopy(fChars, 0, chars, 0, fSize);
+					System.arraycopy(fChildren, 0, children, 0, fSize);
+					fChars= chars;
+					fChildren= children;
+				}
+				System.arraycopy(fChars, index, fChars, index + 1, fSize - index);
+				System.arraycopy(fChildren, index, fChildren, index + 1, fSize - index);
+				Node child= new Node();
+				fChars[index]= c;
+				fChildren[index]= child;
+				fSize++;
+				return child;
+			}
+
+			void removeChild(char c) {
+				int index= indexOf(c);
+				if (index < 0)
+					return;
+				System.arraycopy(fChars, index + 1, fChars, index, fSize - index - 1);
+				System.arraycopy(fChildren, index + 1, fChildren, index, fSize - index - 1);
+				fSize--;
+				fChildren[fSize]= null;
+			}
+
+			boolean isEmpty() {
+				return fSize == 0 && fCount == 0;
+			}
+		}
+
+		private final Node fRoot= new Node();
+
+		void add(CharSequence text, int start, int end) {
+			Node node= fRoot;
+			for (int i= start; i < end; i++)
+				node= node.getOrAddChild(text.charAt(i));
+			node.fCount++;
+		}
+
+		void remove(CharSequence text, int start, int end) {
+			remove(fRoot, text, start, end);
+		}
+
+		/**
+		 * Removes one occurrence of a word below the given node.
+		 *
+		 * @return <code>true</code> if the node has become empty
+		 */
+		private boolean remove(Node node, CharSequence text, int index, int end) {
+			if (index == end) {
+				if (node.fCount > 0)
+					node.fCount--;
+			} else {
+				char c= text.charAt(index);
+				Node child= node.getChild(c);
+				if (child != null && remove(child, text, index + 1, end))
+					node.removeChild(c);
+			}
+			return node.isEmpty();
+		}
+
+		/**
+		 * Adds the words starting with the given prefix, except the prefix itself, with their
+		 * number of occurrences to the given map.
+		 *
+		 * @param prefix the prefix
+		 * @param words the map to add the words to
+		 */
+		void collect(String prefix, Map<String, Integer> words) {
+			Node node= fRoot;
+			for (int i= 0; i < prefix.length() && node != null; i++)
+				node= node.getChild(prefix.charAt(i));
+			if (node == null)
+				return;
+			StringBuilder buf= new StringBuilder(prefix);
+			for (int i= 0; i < node.fSize; i++)
+				collect(node.fChars[i], node.fChildren[i], buf, words);
+		}
+
+		private void collect(char c, Node node, StringBuilder buf, Map<String, Integer> words) {
+			buf.append(c);
+			if (node.fCount > 0)
+				words.merge(buf.toString(), Integer.valueOf(node.fCount), (count1, count2) -> Integer.valueOf(count1.intValue() + count2.intValue()));
+			for (int i= 0; i < node.fSize; i++)
+				collect(node.fChars[i], node.fChildren[i], buf, words);
+			buf.setLength(buf.length() - 1);
+		}
+	}
+
+	/**
+	 * The words of one document, updated from the document events. The trie is built from a copy
+	 * of the document text outside of the lock, so that the document listener, which runs in the
+	 * thread changing the document, is not blocked while a large document is scanned.
+	 */
+	private static final class DocumentWords implements IDocumentListener {
+
+		private WordTrie fTrie= new WordTrie();
+		private boolean fBuilt;
+		/** Incremented before each document change. */
+		private long fModificationCount;
+		/** Whether the document is being changed while the trie is not built. */
+		private boolean fPending;
+		/** The start of the words affected by the current change. */
+		private int fChangeStart= -1;
+		/** The distance of the end of the words affected by the current change from the end of the document. */
+		private int fChangeEndFromEnd;
+
+		@Override
+		public synchronized void documentAboutToBeChanged(DocumentEvent event) {
+			fModificationCount++;
+			fChangeStart= -1;
+			if (!fBuilt) {
+				fPending= true;
+				return;
+			}
+			String text= event.getText();
+			if (event.getLength() > MAX_INCREMENTAL_CHANGE || text != null && text.length() > MAX_INCREMENTAL_CHANGE) {
+				invalidate();
+				fPending= true;
+				return;
+			}
+			IDocument document= event.getDocument();
+			try {
+				int start= findWordStart(document, event.getOffset());
+				int end= findWordEnd(document, event.getOffset() + event.getLength());
+				scan(fTrie, document.get(start, end - start), false);
+				fChangeStart= start;
+				fChangeEndFromEnd= document.getLength() - end;
+			} catch (BadLocationException e) {
+				invalidate();
+				fPending= true;
+			}
+		}
+
+		@Override
+		public synchronized void documentChanged(DocumentEvent event) {
+			fPending= false;
+			if (!fBuilt || fChangeStart == -1)
+				return;
+			IDocument document= event.getDocument();
+			try {
+				int end= document.getLength() - fChangeEndFromEnd;
+				scan(fTrie, document.get(fChangeStart, end - fChangeStart), true);
+			} catch (BadLocationException e) {
+				invalidate();
+			}
+			fChangeStart= -1;
+		}
+
+		private void invalidate() {
+			fTrie= new WordTrie();
+			fBuilt= false;
+		}
+
+		private static void scan(WordTrie trie, CharSequence text, boolean add) {
+			int length= text.length();
+			int i= 0;
+			while (i < length) {
+				while (i < length && !isWordPart(text.charAt(i)))
+					i++;
+				int start= i;
+				while (i < length && isWordPart(text.charAt(i)))
+					i++;
+				if (i > start) {
+					if (add)
+						trie.add(text, start, i);
+					else
+						trie.remove(text, start, i);
+				}
+			}
+		}
+
+		/**
+		 * Collects the completions of the given prefix, building the trie first if needed.
+		 *
+		 * @param document the document
+		 * @param prefix the prefix
+		 * @param words the map to add the words and their number of occurrences to
+		 */
+		void collect(IDocument document, String prefix, Map<String, Integer> words) {
+			long modificationCount;
+			synchronized (this) {
+				if (fBuilt) {
+					fTrie.collect(prefix, words);
+					return;
+				}
+				if (fPending)
+					return;
+				modificationCount= fModificationCount;
+			}
+
+			WordTrie trie= new WordTrie();
+			scan(trie, document.get(), true);
+
+			synchronized (this) {
+				if (!fBuilt && modificationCount == fModificationCount) {
+					fTrie= trie;
+					fBuilt= true;
+				}
+				// if the document has changed meanwhile, the words are only used for this lookup
+				trie.collect(prefix, words);
+			}
+		}
+	}
+
+	private static final HippieWordIndex fgDefault= new HippieWordIndex();
+
+	public static HippieWordIndex getDefault() {
+		return fgDefault;
+	}
+
+	private final Map<IDocument, DocumentWords> fDocuments= new WeakHashMap<>();
+
+	private HippieWordIndex() {
+	}
+
+	/**
+	 * Connects the given documents and disconnects all other documents. Must be called in the UI
+	 * thread.
+	 *
+	 * @param documents the documents to index
+	 */
+	public synchronized void connect(Collection<IDocument> documents) {
+		Iterator<Entry<IDocument, DocumentWords>> iter= fDocuments.entrySet().iterator();
+		while (iter.hasNext()) {
+			Entry<IDocument, DocumentWords> entry= iter.next();
+			if (!documents.contains(entry.getKey())) {
+				entry.getKey().removeDocumentListener(entry.getValue());
+				iter.remove();
+			}
+		}
+		for (IDocument document : documents) {
+			if (!fDocuments.containsKey(document)) {
+				DocumentWords words= new DocumentWords();
+				document.addDocumentListener(words);
+				fDocuments.put(document, words);
+			}
+		}
+	}
+
+	/**
+	 * Returns the words starting with the given prefix in the given documents. The words of each
+	 * document are ordered by their number of occurrences, the words of the first document come
+	 * first. Documents that are not connected are ignored.
+	 *
+	 * @param documents the documents to search
+	 * @param prefix the prefix, must not be empty
+	 * @return the words, without the prefix itself
+	 */
+	public List<String> getCompletions(List<IDocument> documents, String prefix) {
+		Set<String> result= new LinkedHashSet<>();
+		for (IDocument document : documents) {
+			DocumentWords documentWords;
+			synchronized (this) {
+				documentWords= fDocuments.get(document);
+			}
+			if (documentWords == null)
+				continue;
+
+			Map<String, Integer> words= new HashMap<>();
+			documentWords.collect(document, prefix, words);
+			List<Entry<String, Integer>> entries= new ArrayList<>(words.entrySet());
+			entries.sort((e1, e2) -> {
+				int cmp= e2.getValue().compareTo(e1.getValue());
+				return cmp != 0 ? cmp : e1.getKey().compareTo(e2.getKey());
+			});
+			for (Entry<String, Integer> entry : entries)
+				result.add(entry.getKey());
+		}
+		return new ArrayList<>(result);
+	}
+
+	/**
+	 * Returns the word part before the given offset.
+	 *
+	 * @param document the document
+	 * @param offset the offset
+	 * @return the prefix, possibly empty
+	 * @throws BadLocationException if the offset is not valid in the document
+	 */
+	public static String getPrefix(IDocument document, int offset) throws BadLocationException {
+		int start= findWordStart(document, offset);
+		return document.get(start, offset - start);
+	}
+
+	private static int findWordStart(IDocument document, int offset) throws BadLocationException {
+		while (offset > 0 && isWordPart(document.getChar(offset - 1)))
+			offset--;
+		return offset;
+	}
+
+	private static int findWordEnd(IDocument document, int offset) throws BadLocationException {
+		int length= document.getLength();
+		while (offset < length && isWordPart(document.getChar(offset)))
+			offset++;
+		return offset;
+	}
+
+	/**
+	 * Tells whether the given character is part of a word: a letter, digit, letter number,
+	 * non-spacing mark or connector punctuation such as the underscore.
+	 *
+	 * @param c the character
+	 * @return <code>true</code> if the character is part of a word
+	 */
+	static boolean isWordPart(char c) {
+		if (Character.isLetterOrDigit(c))
+			return true;
+		int type= Character.getType(c);
+		return type == Character.NON_SPACING_MARK || type == Character.CONNECTOR_PUNCTUATION || type == Character.LETTER_NUMBER;
+	}
+}
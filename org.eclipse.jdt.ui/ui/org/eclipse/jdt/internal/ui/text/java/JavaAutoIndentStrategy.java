@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -67,6 +67,7 @@ import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
 import org.eclipse.jdt.internal.ui.text.FastJavaPartitionScanner;
 import org.eclipse.jdt.internal.ui.text.FastJavaPartitioner;
+import org.eclipse.jdt.internal.ui.text.JavaBracketIndex;
 import org.eclipse.jdt.internal.ui.text.JavaHeuristicScanner;
 import org.eclipse.jdt.internal.ui.text.JavaIndenter;
 import org.eclipse.jdt.internal.ui.text.Symbols;
@@ -689,9 +690,28 @@ public class JavaAutoIndentStrategy extends DefaultIndentLineAutoEditStrategy {
 			// handle the indentation computation inside a temporary document
 			Document temp= new Document(prefix + newText);
 			DocumentRewriteSession session= temp.startRewriteSession(DocumentRewriteSessionType.STRICTLY_SEQUENTIAL);
+			int first= document.computeNumberOfLines(prefix) + firstLine; // don't format first line
+			int lines= temp.getNumberOfLines();
+
+			// the indentation is detected from the first two non-empty lines, the remaining lines
+			// are only shifted and need neither partitioning nor the indenter
+			String tail= null;
+			for (int l= first + 1; l < lines; l++) {
+				IRegion r= temp.getLineInformation(l);
+				if (temp.get(r.getOffset(), r.getLength()).trim().length() != 0) {
+					int end= r.getOffset() + r.getLength();
+					tail= temp.get(end, temp.getLength() - end);
+					temp.replace(end, temp.getLength() - end, ""); //$NON-NLS-1$
+					lines= temp.getNumberOfLines();
+					break;
+				}
+			}
+
 			scanner= new JavaHeuristicScanner(temp);
 			indenter= new JavaIndenter(temp, scanner, fProject);
 			installJavaStuff(temp);
+			// only the indentation of the temporary document changes, so the index stays valid
+			indenter.setBracketIndex(JavaBracketIndex.create(temp));
 
 			// indent the first and second line
 			// compute the relative indentation difference from the second line
@@ -702,8 +722,6 @@ public class JavaAutoIndentStrategy extends DefaultIndentLineAutoEditStrategy {
 			int insertLength= 0;
 			int firstLineInsertLength= 0;
 			int firstLineIndent= 0;
-			int first= document.computeNumberOfLines(prefix) + firstLine; // don't format first line
-			int lines= temp.getNumberOfLines();
 			int tabLength= getVisualTabLengthPreference();
 			boolean changed= false;
 			for (int l= first; l < lines; l++) { // we don't change the number of lines while adding indents
@@ -743,6 +761,13 @@ public class JavaAutoIndentStrategy extends DefaultIndentLineAutoEditStrategy {
 							}
 							return;
 						}
+
+						removeJavaStuff(temp);
+						if (tail != null) {
+							temp.replace(temp.getLength(), 0, tail);
+							tail= null;
+							lines= temp.getNumberOfLines();
+						}
 					} else {
 						changed= insertLength != 0;
 					}
@@ -757,6 +782,8 @@ public class JavaAutoIndentStrategy extends DefaultIndentLineAutoEditStrategy {
 			}
 
 			removeJavaStuff(temp);
+			if (tail != null)
+				temp.replace(temp.getLength(), 0, tail);
 			temp.stopRewriteSession(session);
 			newText= temp.get(prefix.length(), temp.getLength() - prefix.length());
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -45,6 +45,7 @@ public class JavaSpellingEngine extends SpellingEngine {
 	protected void check(IDocument document, IRegion[] regions, ISpellChecker checker, ISpellingProblemCollector collector, IProgressMonitor monitor) {
 		SpellEventListener listener= new SpellEventListener(collector, document);
 		boolean isIgnoringJavaStrings= PreferenceConstants.getPreferenceStore().getBoolean(PreferenceConstants.SPELLING_IGNORE_JAVA_STRINGS);
+		SpellCheckResultCache cache= SpellCheckResultCache.getDefault();
 		try {
 			for (IRegion region : regions) {
 				for (ITypedRegion partition : TextUtilities.computePartitioning(document, IJavaPartitions.JAVA_PARTITIONING, region.getOffset(), region.getLength(), false)) {
@@ -56,7 +57,7 @@ public class JavaSpellingEngine extends SpellingEngine {
 					if (isIgnoringJavaStrings && type.equals(IJavaPartitions.JAVA_STRING))
 						continue;
 					if (!type.equals(IDocument.DEFAULT_CONTENT_TYPE) && !type.equals(IJavaPartitions.JAVA_CHARACTER))
-						checker.execute(listener, new SpellCheckIterator(document, partition, checker.getLocale()));
+						cache.check(document, partition, checker, listener);
 				}
 			}
 		} catch (BadLocationException | AssertionFailedException x) {
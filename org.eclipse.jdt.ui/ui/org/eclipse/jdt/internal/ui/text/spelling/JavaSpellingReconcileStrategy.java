@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.spelling;
 
+import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.content.IContentType;
 
@@ -100,6 +101,9 @@ public class JavaSpellingReconcileStrategy extends SpellingReconcileStrategy {
 	}
 
 
+	/** Tracing option that reports the time spent spell checking during reconcile */
+	private static final String PERF_SPELLING_RECONCILE= "org.eclipse.jdt.ui/perf/spelling/reconcile"; //$NON-NLS-1$
+
 	/** The id of the problem */
 	public static final int SPELLING_PROBLEM_ID= 0x80000000;
 
@@ -129,8 +133,20 @@ public class JavaSpellingReconcileStrategy extends SpellingReconcileStrategy {
 	 */
 	@Override
 	public void reconcile(IRegion region) {
-		if (fRequestor != null && isSpellingEnabled())
-			super.reconcile(region);
+		if (fRequestor != null && isSpellingEnabled()) {
+			PerformanceStats stats= PerformanceStats.getStats(PERF_SPELLING_RECONCILE, this);
+			stats.startRun(getContextName());
+			try {
+				super.reconcile(region);
+			} finally {
+				stats.endRun();
+			}
+		}
+	}
+
+	private String getContextName() {
+		IEditorInput editorInput= fEditor.getEditorInput();
+		return editorInput != null ? editorInput.getName() : null;
 	}
 
 	private boolean isSpellingEnabled() {
@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.ITypedRegion;
+import org.eclipse.jface.text.TextUtilities;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellEvent;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellEventListener;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.RankedWordProposal;
+
+/**
+ * The spelling problems of partitions, keyed by the content of the partition. Partitions that
+ * have not changed since they were last checked, e.g. the Javadoc comments around an edit, are
+ * not checked again but their problems are reported from the cache.
+ * <p>
+ * The cache is cleared when the spell checker, its dictionaries or ignored words, or the spelling
+ * preferences change. The results of spell checkers that do not track their modifications are
+ * not cached, see {@link ISpellChecker#getModificationStamp()}.
+ * </p>
+ *
+ * @since 3.21
+ */
+public final class SpellCheckResultCache {
+
+	/** The maximum number of characters of the cached partitions. */
+	private static final int MAX_CHARACTERS= 2000000;
+
+	private static final SpellCheckResultCache fgDefault= new SpellCheckResultCache();
+
+	/**
+	 * @return the cache shared by all Java spelling engines
+	 */
+	public static SpellCheckResultCache getDefault() {
+		return fgDefault;
+	}
+
+	private static final class Key {
+		private final String fType;
+		private final String fDelimiter;
+		private final String fContent;
+		private final int fHashCode;
+
+		Key(String type, String delimiter, String content) {
+			fType= type;
+			fDelimiter= delimiter;
+			fContent= content;
+			fHashCode= (type.hashCode() * 31 + delimiter.hashCode()) * 31 + content.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return fHashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other= (Key) obj;
+			return fHashCode == other.fHashCode && fType.equals(other.fType) && fDelimiter.equals(other.fDelimiter) && fContent.equals(other.fContent);
+		}
+	}
+
+	/**
+	 * A spell event relative to the start of its partition.
+	 */
+	private static final class Problem {
+		final String fWord;
+		final int fBegin;
+		final int fEnd;
+		final boolean fStart;
+		final boolean fMatch;
+
+		Problem(ISpellEvent event, int offset) {
+			fWord= event.getWord();
+			fBegin= event.getBegin() - offset;
+			fEnd= event.getEnd() - offset;
+			fStart= event.isStart();
+			fMatch= event.isMatch();
+		}
+	}
+
+	private static final class CachedSpellEvent implements ISpellEvent {
+		private final ISpellChecker fChecker;
+		private final Problem fProblem;
+		private final int fOffset;
+
+		CachedSpellEvent(ISpellChecker checker, Problem problem, int offset) {
+			fChecker= checker;
+			fProblem= problem;
+			fOffset= offset;
+		}
+
+		@Override
+		public int getBegin() {
+			return fOffset + fProblem.fBegin;
+		}
+
+		@Override
+		public int getEnd() {
+			return fOffset + fProblem.fEnd;
+		}
+
+		@Override
+		public Set<RankedWordProposal> getProposals() {
+			return fChecker.getProposals(fProblem.fWord, fProblem.fStart);
+		}
+
+		@Override
+		public String getWord() {
+			return fProblem.fWord;
+		}
+
+		@Override
+		public boolean isMatch() {
+			return fProblem.fMatch;
+		}
+
+		@Override
+		public boolean isStart() {
+			return fProblem.fStart;
+		}
+	}
+
+	/** The problems by partition, the least recently used first. */
+	private final LinkedHashMap<Key, List<Problem>> fProblems= new LinkedHashMap<>(64, 0.75f, true);
+	private int fCharacters;
+
+	private ISpellChecker fChecker;
+	private long fModificationStamp;
+	private String fSettings;
+
+	/**
+	 * Creates a new, empty cache. Clients should use {@link #getDefault()}, separate instances are
+	 * for tests only.
+	 */
+	public SpellCheckResultCache() {
+	}
+
+	/**
+	 * Spell checks the given partition, or reports its problems from the cache if a partition
+	 * with the same content has been checked before.
+	 *
+	 * @param document the document
+	 * @param partition the partition to check
+	 * @param checker the spell checker
+	 * @param listener the listener to report the problems to
+	 * @throws BadLocationException if the document has been changed concurrently
+	 */
+	public void check(IDocument document, ITypedRegion partition, ISpellChecker checker, ISpellEventListener listener) throws BadLocationException {
+		long modificationStamp= checker.getModificationStamp();
+		if (modificationStamp == ISpellChecker.UNKNOWN_MODIFICATION_STAMP) {
+			checker.execute(listener, new SpellCheckIterator(document, partition, checker.getLocale()));
+			return;
+		}
+
+		int offset= partition.getOffset();
+		Key key= new Key(partition.getType(), TextUtilities.getDefaultLineDelimiter(document), document.get(offset, partition.getLength()));
+		String settings= getSettings(PreferenceConstants.getPreferenceStore());
+
+		List<Problem> problems;
+		synchronized (this) {
+			if (fChecker != checker || fModificationStamp != modificationStamp || !settings.equals(fSettings)) {
+				fProblems.clear();
+				fCharacters= 0;
+				fChecker= checker;
+				fModificationStamp= modificationStamp;
+				fSettings= settings;
+			}
+			problems= fProblems.get(key);
+		}
+
+		if (problems == null) {
+			List<Problem> checked= new ArrayList<>();
+			checker.execute(event -> checked.add(new Problem(event, offset)), new SpellCheckIterator(document, partition, checker.getLocale()));
+			problems= checked;
+			// the checker stops after the problems threshold, the listeners limit the problems reported
+			// from the cache, so only partitions that have been checked completely are cached
+			if (checked.size() <= PreferenceConstants.getPreferenceStore().getInt(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD)) {
+				synchronized (this) {
+					if (fChecker == checker && fModificationStamp == checker.getModificationStamp() && fProblems.put(key, checked) == null)
+						fCharacters+= key.fContent.length();
+					trim();
+				}
+			}
+		}
+
+		for (Problem problem : problems)
+			listener.handle(new CachedSpellEvent(checker, problem, offset));
+	}
+
+	private void trim() {
+		Iterator<Key> iter= fProblems.keySet().iterator();
+		while (fCharacters > MAX_CHARACTERS && iter.hasNext()) {
+			fCharacters-= iter.next().fContent.length();
+			iter.remove();
+		}
+	}
+
+	/**
+	 * Returns the spelling preferences that affect the problems found in a text.
+	 *
+	 * @param store the preference store
+	 * @return the settings
+	 */
+	private static String getSettings(IPreferenceStore store) {
+		StringBuilder buf= new StringBuilder();
+		buf.append(store.getBoolean(PreferenceConstants.SPELLING_IGNORE_DIGITS));
+		buf.append(store.getBoolean(PreferenceConstants.SPELLING_IGNORE_MIXED));
+		buf.append(store.getBoolean(PreferenceConstants.SPELLING_IGNORE_SENTENCE));
+		buf.append(store.getBoolean(PreferenceConstants.SPELLING_IGNORE_UPPER));
+		buf.append(store.getBoolean(PreferenceConstants.SPELLING_IGNORE_URLS));
+		buf.append(store.getBoolean(PreferenceConstants.SPELLING_IGNORE_NON_LETTERS));
+		buf.append(store.getBoolean(PreferenceConstants.SPELLING_IGNORE_SINGLE_LETTERS));
+		return buf.toString();
+	}
+}
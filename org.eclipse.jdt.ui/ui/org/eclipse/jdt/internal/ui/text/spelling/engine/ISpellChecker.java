@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -110,4 +110,29 @@ public interface ISpellChecker {
 	 * @since 3.3
 	 */
 	Locale getLocale();
+
+	/**
+	 * The modification stamp of a spell checker that does not track its modifications, see
+	 * {@link #getModificationStamp()}.
+	 *
+	 * @since 3.21
+	 */
+	long UNKNOWN_MODIFICATION_STAMP= -1;
+
+	/**
+	 * Returns the modification stamp of this spell checker. The stamp changes whenever a
+	 * dictionary is added or removed or a word is added, ignored or checked again, i.e. whenever
+	 * the same text could be checked differently.
+	 * <p>
+	 * The default implementation returns {@link #UNKNOWN_MODIFICATION_STAMP}: the results of
+	 * such a spell checker are never cached.
+	 * </p>
+	 *
+	 * @return the modification stamp, or {@link #UNKNOWN_MODIFICATION_STAMP} if this spell
+	 *         checker does not track its modifications
+	 * @since 3.21
+	 */
+	default long getModificationStamp() {
+		return UNKNOWN_MODIFICATION_STAMP;
+	}
 }
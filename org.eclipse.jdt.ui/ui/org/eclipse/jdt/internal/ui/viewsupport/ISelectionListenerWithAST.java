@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.viewsupport;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+
 import org.eclipse.jface.text.ITextSelection;
 
 import org.eclipse.ui.IEditorPart;
@@ -37,4 +39,21 @@ public interface ISelectionListenerWithAST {
 	 */
 	void selectionChanged(IEditorPart part, ITextSelection selection, CompilationUnit astRoot);
 
+	/**
+	 * Called when a selection has changed. The method is called in a post selection event in an
+	 * background thread. Listeners doing expensive work can check the given monitor, it is
+	 * canceled by the next selection change. The default implementation calls
+	 * {@link #selectionChanged(IEditorPart, ITextSelection, CompilationUnit)}.
+	 *
+	 * @param part The editor part in which the selection change has occurred.
+	 * @param selection The new text selection
+	 * @param astRoot The AST tree corresponding to the editor's input. This AST is shared and must
+	 * not be modified.
+	 * @param monitor The monitor of the background job
+	 * @since 3.21
+	 */
+	default void selectionChanged(IEditorPart part, ITextSelection selection, CompilationUnit astRoot, IProgressMonitor monitor) {
+		selectionChanged(part, selection, astRoot);
+	}
+
 }
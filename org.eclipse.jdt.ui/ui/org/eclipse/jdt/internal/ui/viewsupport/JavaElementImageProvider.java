@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -75,6 +75,11 @@ public class JavaElementImageProvider {
 	public final static int LIGHT_TYPE_ICONS= 0x4;
 
 
+	/**
+	 * Added to the flags in the cache key of descriptors computed with decorated test code containers.
+	 */
+	private static final long DECORATE_TEST_CODE_CONTAINER= 1L << 32;
+
 	public static final Point SMALL_SIZE= new Point(16, 16);
 	public static final Point BIG_SIZE= new Point(22, 16);
 
@@ -124,7 +129,9 @@ public class JavaElementImageProvider {
 
 	private ImageDescriptor computeDescriptor(Object element, int flags){
 		if (element instanceof IJavaElement) {
-			return getJavaImageDescriptor((IJavaElement) element, flags);
+			IJavaElement javaElement= (IJavaElement) element;
+			long key= fDecorateTestCodeContainerIcons ? flags | DECORATE_TEST_CODE_CONTAINER : flags;
+			return JavaElementLabelCache.getInstance().getImageDescriptor(javaElement, key, () -> getJavaImageDescriptor(javaElement, flags));
 		} else if (element instanceof IFile) {
 			IFile file= (IFile) element;
 			if (JavaCore.isJavaLikeFileName(file.getName())) {
@@ -0,0 +1,331 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.jface.util.PropertyChangeEvent;
+import org.eclipse.jface.viewers.StyledString;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IOpenable;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.ui.JavaElementLabels;
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * The labels and image descriptors of Java elements, shared by all views. The label of a member
+ * with its qualification, parameter and return types, or the adornments of its image, are read
+ * from the Java model, but the views ask for the same labels whenever a tree is scrolled,
+ * expanded or refreshed.
+ * <p>
+ * The values are keyed by the element and the rendering flags, the elements are weakly
+ * referenced. The values of an element are dropped when the element or one of its ancestors
+ * changes, as reported by the Java element deltas. All values are dropped when a preference that
+ * affects the labels changes, e.g. the compression of package names; the other appearance
+ * preferences only change the flags the views render with.
+ * </p>
+ *
+ * @since 3.21
+ */
+public final class JavaElementLabelCache implements IElementChangedListener, IPropertyChangeListener {
+
+	/** The number of lookups after which the hit rate is reported when debugging. */
+	private static final int REPORT_INTERVAL= 10000;
+
+	/** The preferences which affect the labels. */
+	private static final Set<String> LABEL_PREFERENCES= new HashSet<>(Arrays.asList(
+			PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES,
+			PreferenceConstants.APPEARANCE_PKG_NAME_PATTERN_FOR_PKG_VIEW,
+			PreferenceConstants.APPEARANCE_ABBREVIATE_PACKAGE_NAMES,
+			PreferenceConstants.APPEARANCE_PKG_NAME_ABBREVIATION_PATTERN_FOR_PKG_VIEW));
+
+	private static JavaElementLabelCache fgInstance;
+
+	/**
+	 * Returns the cache, registering it as listener on the first call.
+	 *
+	 * @return the cache
+	 */
+	public static synchronized JavaElementLabelCache getInstance() {
+		if (fgInstance == null) {
+			fgInstance= new JavaElementLabelCache();
+			JavaCore.addElementChangedListener(fgInstance, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+			PreferenceConstants.getPreferenceStore().addPropertyChangeListener(fgInstance);
+		}
+		return fgInstance;
+	}
+
+	/**
+	 * Unregisters and clears the cache if it has been created.
+	 */
+	public static synchronized void shutdownInstance() {
+		if (fgInstance != null) {
+			JavaCore.removeElementChangedListener(fgInstance);
+			PreferenceConstants.getPreferenceStore().removePropertyChangeListener(fgInstance);
+			fgInstance.clear();
+			fgInstance= null;
+		}
+	}
+
+	/** The labels of each element by flags. */
+	private final Map<IJavaElement, Map<Long, String>> fTexts= new WeakHashMap<>();
+	private final Map<IJavaElement, Map<Long, StyledString>> fStyledTexts= new WeakHashMap<>();
+	private final Map<IJavaElement, Map<Long, ImageDescriptor>> fImages= new WeakHashMap<>();
+
+	/**
+	 * The elements with cached values by their openable, e.g. the members by their compilation
+	 * unit, so that the descendants of a changed element are found without visiting all elements.
+	 * The elements are weakly referenced.
+	 */
+	private final Map<IJavaElement, Set<IJavaElement>> fElementsByOpenable= new WeakHashMap<>();
+
+	/** Incremented whenever values are dropped, so that values computed meanwhile are not added. */
+	private long fGeneration;
+
+	private long fHits;
+	private long fMisses;
+
+	private JavaElementLabelCache() {
+	}
+
+	/**
+	 * Returns the label of the given element.
+	 *
+	 * @param element the element
+	 * @param flags the rendering flags
+	 * @param label computes the label if it is not cached
+	 * @return the label
+	 */
+	public String getText(IJavaElement element, long flags, Supplier<String> label) {
+		if (isResolved(flags))
+			return label.get();
+		return get(fTexts, element, flags, label);
+	}
+
+	/**
+	 * Returns the styled label of the given element.
+	 *
+	 * @param element the element
+	 * @param flags the rendering flags
+	 * @param label computes the label if it is not cached
+	 * @return a copy of the label, can be modified by the caller
+	 */
+	public StyledString getStyledText(IJavaElement element, long flags, Supplier<StyledString> label) {
+		if (isResolved(flags))
+			return label.get();
+		StyledString result= new StyledString();
+		result.append(get(fStyledTexts, element, flags, label));
+		return result;
+	}
+
+	/**
+	 * Returns the image descriptor of the given element.
+	 *
+	 * @param element the element
+	 * @param flags the image flags
+	 * @param descriptor computes the descriptor if it is not cached
+	 * @return the descriptor, can be <code>null</code>
+	 */
+	public ImageDescriptor getImageDescriptor(IJavaElement element, long flags, Supplier<ImageDescriptor> descriptor) {
+		return get(fImages, element, flags, descriptor);
+	}
+
+	/**
+	 * Tells whether the label uses the resolved information of the element. Resolved elements are
+	 * equal to their unresolved elements, so these labels cannot be cached.
+	 *
+	 * @param flags the rendering flags
+	 * @return <code>true</code> if the label must not be cached
+	 */
+	private static boolean isResolved(long flags) {
+		return (flags & JavaElementLabels.USE_RESOLVED) != 0;
+	}
+
+	private <T> T get(Map<IJavaElement, Map<Long, T>> cache, IJavaElement element, long flags, Supplier<T> supplier) {
+		Long key= Long.valueOf(flags);
+		long generation;
+		synchronized (this) {
+			Map<Long, T> values= cache.get(element);
+			if (values != null && values.containsKey(key)) {
+				countLookup(true);
+				return values.get(key);
+			}
+			countLookup(false);
+			generation= fGeneration;
+		}
+		T value= supplier.get();
+		synchronized (this) {
+			if (generation == fGeneration) {
+				cache.computeIfAbsent(element, e -> new HashMap<>(4)).put(key, value);
+				fElementsByOpenable.computeIfAbsent(getOpenable(element), e -> Collections.newSetFromMap(new WeakHashMap<>())).add(element);
+			}
+		}
+		return value;
+	}
+
+	private static IJavaElement getOpenable(IJavaElement element) {
+		IOpenable openable= element.getOpenable();
+		return openable instanceof IJavaElement ? (IJavaElement) openable : element;
+	}
+
+	private void countLookup(boolean hit) {
+		if (hit)
+			fHits++;
+		else
+			fMisses++;
+		if (JavaPlugin.DEBUG_LABEL_CACHE && (fHits + fMisses) % REPORT_INTERVAL == 0)
+			System.out.println("JavaElementLabelCache - hit rate: " + (fHits * 100 / (fHits + fMisses)) + "% of " + (fHits + fMisses) + " lookups, " + fTexts.size() + " + " + fStyledTexts.size() + " + " + fImages.size() + " elements"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+	}
+
+	/**
+	 * Drops all values.
+	 */
+	public synchronized void clear() {
+		fTexts.clear();
+		fStyledTexts.clear();
+		fImages.clear();
+		fElementsByOpenable.clear();
+		fGeneration++;
+	}
+
+	@Override
+	public void propertyChange(PropertyChangeEvent event) {
+		if (LABEL_PREFERENCES.contains(event.getProperty()))
+			clear();
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		synchronized (this) {
+			if (fElementsByOpenable.isEmpty())
+				return;
+		}
+		Set<IJavaElement> changed= new HashSet<>();
+		Set<IJavaElement> changedWithChildren= new HashSet<>();
+		collectChangedElements(event.getDelta(), changed, changedWithChildren);
+
+		synchronized (this) {
+			fGeneration++;
+			for (IJavaElement element : changed)
+				remove(element);
+			for (IJavaElement element : changedWithChildren)
+				removeDescendants(element);
+		}
+	}
+
+	private void remove(IJavaElement element) {
+		fTexts.remove(element);
+		fStyledTexts.remove(element);
+		fImages.remove(element);
+		Set<IJavaElement> elements= fElementsByOpenable.get(getOpenable(element));
+		if (elements != null)
+			elements.remove(element);
+	}
+
+	private void removeDescendants(IJavaElement element) {
+		IJavaElement openable= getOpenable(element);
+		if (openable.equals(element) && !isLeafOpenable(element)) {
+			// the descendants are in other openables, e.g. the compilation units of a package
+			for (Iterator<Entry<IJavaElement, Set<IJavaElement>>> iter= fElementsByOpenable.entrySet().iterator(); iter.hasNext();) {
+				Entry<IJavaElement, Set<IJavaElement>> entry= iter.next();
+				if (isAncestor(element, entry.getKey())) {
+					removeAll(entry.getValue());
+					iter.remove();
+				}
+			}
+		} else {
+			Set<IJavaElement> elements= fElementsByOpenable.get(openable);
+			if (elements == null)
+				return;
+			for (Iterator<IJavaElement> iter= elements.iterator(); iter.hasNext();) {
+				IJavaElement curr= iter.next();
+				if (isAncestor(element, curr)) {
+					fTexts.remove(curr);
+					fStyledTexts.remove(curr);
+					fImages.remove(curr);
+					iter.remove();
+				}
+			}
+		}
+	}
+
+	private void removeAll(Set<IJavaElement> elements) {
+		for (IJavaElement curr : elements) {
+			fTexts.remove(curr);
+			fStyledTexts.remove(curr);
+			fImages.remove(curr);
+		}
+	}
+
+	/**
+	 * Tells whether the children of the given openable are in the same openable.
+	 *
+	 * @param openable the openable
+	 * @return <code>true</code> for compilation units and class files
+	 */
+	private static boolean isLeafOpenable(IJavaElement openable) {
+		int type= openable.getElementType();
+		return type == IJavaElement.COMPILATION_UNIT || type == IJavaElement.CLASS_FILE;
+	}
+
+	private static boolean isAncestor(IJavaElement ancestor, IJavaElement element) {
+		for (IJavaElement curr= element; curr != null; curr= curr.getParent()) {
+			if (ancestor.equals(curr))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Collects the elements of the given delta. The descendants of elements which have changed
+	 * themselves are changed as well, those of elements whose children have changed are not:
+	 * their changes are described by the child deltas.
+	 *
+	 * @param delta the delta
+	 * @param changed the elements whose values must be dropped
+	 * @param changedWithChildren the elements whose values and those of their descendants must be
+	 *            dropped
+	 */
+	private static void collectChangedElements(IJavaElementDelta delta, Set<IJavaElement> changed, Set<IJavaElement> changedWithChildren) {
+		IJavaElement element= delta.getElement();
+		changed.add(element);
+
+		int flags= delta.getFlags() & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_FINE_GRAINED | IJavaElementDelta.F_AST_AFFECTED);
+		if ((delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) != 0)
+			flags&= ~IJavaElementDelta.F_CONTENT;
+		if (delta.getKind() != IJavaElementDelta.CHANGED || flags != 0)
+			changedWithChildren.add(element);
+
+		for (IJavaElementDelta child : delta.getAffectedChildren())
+			collectChangedElements(child, changed, changedWithChildren);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,15 +14,19 @@
 package org.eclipse.jdt.internal.ui.viewsupport;
 
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.ListenerList;
+import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Status;
 
 import org.eclipse.core.resources.IMarker;
@@ -50,15 +54,38 @@ import org.eclipse.jdt.internal.ui.javaeditor.CompilationUnitAnnotationModelEven
  * Listens to resource deltas and filters for marker changes of type IMarker.PROBLEM
  * Viewers showing error ticks should register as listener to
  * this type.
+ * <p>
+ * While there are listeners, the manager also caches the error ticks of folders and projects,
+ * see {@link #getErrorTicks(IResource, IErrorTicksComputer)}. Marker changes discard the cached
+ * error ticks of the changed resources and their parents.
+ * </p>
  */
 public class ProblemMarkerManager implements IResourceChangeListener, IAnnotationModelListener , IAnnotationModelListenerExtension {
 
+	/**
+	 * Computes the error ticks of a resource from its problem markers.
+	 *
+	 * @since 3.21
+	 */
+	public interface IErrorTicksComputer {
+		/**
+		 * @param resource the resource, a folder or a project
+		 * @return the error ticks
+		 * @throws CoreException if the markers could not be accessed
+		 */
+		int computeErrorTicks(IResource resource) throws CoreException;
+	}
+
 	/**
 	 * Visitors used to look if the element change delta contains a marker change.
 	 */
 	private static class ProjectErrorVisitor implements IResourceDeltaVisitor {
 
+		private static final IPath CLASSPATH_PATH= new Path(".classpath"); //$NON-NLS-1$
+
 		private HashSet<IResource> fChangedElements;
+		/** The projects that have been opened or closed, or whose build path has changed. */
+		private Set<IProject> fInvalidatedProjects= new HashSet<>();
 
 		public ProjectErrorVisitor(HashSet<IResource> changedElements) {
 			fChangedElements= changedElements;
@@ -69,6 +96,14 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 			IResource res= delta.getResource();
 			if (res instanceof IProject && delta.getKind() == IResourceDelta.CHANGED) {
 				IProject project= (IProject) res;
+				if ((delta.getFlags() & IResourceDelta.OPEN) != 0) {
+					fInvalidatedProjects.add(project);
+				}
+				IResourceDelta classpathDelta= delta.findMember(CLASSPATH_PATH);
+				if (classpathDelta != null) {
+					// packages can become folders and vice versa
+					fInvalidatedProjects.add(project);
+				}
 				if (!project.isAccessible()) {
 					// only track open Java projects
 					return false;
@@ -113,6 +148,14 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 
 	private UIJob fNotifierJob;
 
+	/**
+	 * The cached error ticks of folders and projects, only valid while listening to resource
+	 * changes.
+	 */
+	private final Map<IResource, Map<IErrorTicksComputer, Integer>> fErrorTicks= new HashMap<>();
+	/** Incremented whenever cached error ticks are invalidated. */
+	private long fErrorTicksGeneration;
+
 	public ProblemMarkerManager() {
 		fListeners= new ListenerList<>();
 		fResourcesWithMarkerChanges= new HashSet<>();
@@ -125,15 +168,18 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 	@Override
 	public void resourceChanged(IResourceChangeEvent event) {
 		HashSet<IResource> changedElements= new HashSet<>();
+		ProjectErrorVisitor visitor= new ProjectErrorVisitor(changedElements);
 
 		try {
 			IResourceDelta delta= event.getDelta();
 			if (delta != null)
-				delta.accept(new ProjectErrorVisitor(changedElements));
+				delta.accept(visitor);
 		} catch (CoreException e) {
 			JavaPlugin.log(e.getStatus());
 		}
 
+		invalidateErrorTicks(changedElements, visitor.fInvalidatedProjects);
+
 		if (!changedElements.isEmpty()) {
 			boolean hasChanges= false;
 			synchronized (this) {
@@ -150,6 +196,55 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		}
 	}
 
+	/**
+	 * Discards the cached error ticks of the changed resources. They are recomputed on demand, the
+	 * next time they are requested.
+	 *
+	 * @param changedElements the resources with marker changes and their parents
+	 * @param invalidatedProjects the projects whose cached error ticks must be discarded
+	 */
+	private synchronized void invalidateErrorTicks(Set<IResource> changedElements, Set<IProject> invalidatedProjects) {
+		if (fErrorTicks.isEmpty())
+			return;
+		fErrorTicksGeneration++;
+		fErrorTicks.keySet().removeAll(changedElements);
+		if (!invalidatedProjects.isEmpty()) {
+			fErrorTicks.keySet().removeIf(resource -> invalidatedProjects.contains(resource.getProject()));
+		}
+	}
+
+	/**
+	 * Returns the error ticks of the given resource. The error ticks of folders and projects are
+	 * cached while the manager has listeners.
+	 *
+	 * @param resource the resource
+	 * @param computer computes the error ticks, must be the same instance for all calls that
+	 *            compute the same kind of error ticks
+	 * @return the error ticks
+	 * @throws CoreException if the markers could not be accessed
+	 * @since 3.21
+	 */
+	public int getErrorTicks(IResource resource, IErrorTicksComputer computer) throws CoreException {
+		int type= resource.getType();
+		if (type != IResource.FOLDER && type != IResource.PROJECT || !resource.isAccessible() || fListeners.isEmpty())
+			return computer.computeErrorTicks(resource);
+
+		long generation;
+		synchronized (this) {
+			Map<IErrorTicksComputer, Integer> errorTicks= fErrorTicks.get(resource);
+			Integer cached= errorTicks != null ? errorTicks.get(computer) : null;
+			if (cached != null)
+				return cached.intValue();
+			generation= fErrorTicksGeneration;
+		}
+		int errorTicks= computer.computeErrorTicks(resource);
+		synchronized (this) {
+			if (generation == fErrorTicksGeneration && !fListeners.isEmpty())
+				fErrorTicks.computeIfAbsent(resource, r -> new HashMap<>(4)).put(computer, Integer.valueOf(errorTicks));
+		}
+		return errorTicks;
+	}
+
 	@Override
 	public void modelChanged(IAnnotationModel model) {
 		// no action
@@ -194,6 +289,10 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		if (fListeners.isEmpty()) {
 			JavaPlugin.getWorkspace().removeResourceChangeListener(this);
 			JavaPlugin.getDefault().getCompilationUnitDocumentProvider().removeGlobalAnnotationModelListener(this);
+			synchronized (this) {
+				fErrorTicksGeneration++;
+				fErrorTicks.clear();
+			}
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -173,7 +173,7 @@ public class SelectionListenerWithASTManager {
 					}
 					while (listeners.hasNext()) {
 						ISelectionListenerWithAST listener= listeners.next();
-						listener.selectionChanged(fPart, selection, astRoot);
+						listener.selectionChanged(fPart, selection, astRoot, monitor);
 						if (monitor.isCanceled()) {
 							return Status.CANCEL_STATUS;
 						}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.viewsupport;
 
+import java.util.Arrays;
+
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.jface.viewers.ViewerComparator;
 
@@ -95,6 +97,68 @@ public class SourcePositionComparator extends ViewerComparator {
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The children of an element, e.g. the members of a type, are sorted by the offsets of their
+	 * source ranges, which are read once per element. Children that are already in source order
+	 * are not sorted again.
+	 * </p>
+	 */
+	@Override
+	public void sort(Viewer viewer, Object[] elements) {
+		int[] offsets= getSiblingOffsets(elements);
+		if (offsets == null) {
+			super.sort(viewer, elements);
+			return;
+		}
+
+		boolean sorted= true;
+		for (int i= 1; i < offsets.length && sorted; i++)
+			sorted= offsets[i - 1] <= offsets[i];
+		if (sorted)
+			return;
+
+		Integer[] order= new Integer[elements.length];
+		for (int i= 0; i < order.length; i++)
+			order[i]= Integer.valueOf(i);
+		Arrays.sort(order, (i1, i2) -> Integer.compare(offsets[i1.intValue()], offsets[i2.intValue()]));
+		Object[] unsorted= elements.clone();
+		for (int i= 0; i < order.length; i++)
+			elements[i]= unsorted[order[i].intValue()];
+	}
+
+	/**
+	 * Returns the source offsets of the given elements if they all have the same parent and a
+	 * source range.
+	 *
+	 * @param elements the elements
+	 * @return the offsets, or <code>null</code> if the elements must be compared one by one
+	 */
+	private static int[] getSiblingOffsets(Object[] elements) {
+		if (elements.length == 0 || !(elements[0] instanceof IJavaElement))
+			return null;
+		IJavaElement parent= ((IJavaElement) elements[0]).getParent();
+		if (parent == null)
+			return null;
+
+		int[] offsets= new int[elements.length];
+		try {
+			for (int i= 0; i < elements.length; i++) {
+				Object element= elements[i];
+				if (!(element instanceof ISourceReference) || !parent.equals(((IJavaElement) element).getParent()))
+					return null;
+				ISourceRange range= ((ISourceReference) element).getSourceRange();
+				if (range == null)
+					return null;
+				offsets[i]= range.getOffset();
+			}
+		} catch (JavaModelException e) {
+			return null;
+		}
+		return offsets;
+	}
+
 	private IType getOutermostDeclaringType(Object element) {
 		if (!(element instanceof IMember))
 			return null;
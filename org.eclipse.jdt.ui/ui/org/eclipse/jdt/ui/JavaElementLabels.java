@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -51,6 +51,7 @@ import org.eclipse.jdt.internal.corext.util.Strings;
 import org.eclipse.jdt.launching.JavaRuntime;
 
 import org.eclipse.jdt.internal.ui.packageview.ClassPathContainer;
+import org.eclipse.jdt.internal.ui.viewsupport.JavaElementLabelCache;
 import org.eclipse.jdt.internal.ui.viewsupport.JavaElementLabelComposer;
 
 
@@ -491,9 +492,11 @@ public class JavaElementLabels {
 	 * @return the label of the Java element
 	 */
 	public static String getElementLabel(IJavaElement element, long flags) {
-		StringBuffer result= new StringBuffer();
-		getElementLabel(element, flags, result);
-		return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		return JavaElementLabelCache.getInstance().getText(element, flags, () -> {
+			StringBuffer result= new StringBuffer();
+			getElementLabel(element, flags, result);
+			return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		});
 	}
 
 	/**
@@ -506,9 +509,11 @@ public class JavaElementLabels {
 	 * @since 3.4
 	 */
 	public static StyledString getStyledElementLabel(IJavaElement element, long flags) {
-		StyledString result= new StyledString();
-		getElementLabel(element, flags, result);
-		return Strings.markJavaElementLabelLTR(result);
+		return JavaElementLabelCache.getInstance().getStyledText(element, flags, () -> {
+			StyledString result= new StyledString();
+			getElementLabel(element, flags, result);
+			return Strings.markJavaElementLabelLTR(result);
+		});
 	}
 
 	/**
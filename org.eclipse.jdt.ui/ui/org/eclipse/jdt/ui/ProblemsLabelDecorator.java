@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -55,6 +55,7 @@ import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.ISourceReference;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 
 import org.eclipse.jdt.launching.JavaRuntime;
@@ -64,6 +65,7 @@ import org.eclipse.jdt.internal.ui.JavaPluginImages;
 import org.eclipse.jdt.internal.ui.viewsupport.IProblemChangedListener;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageDescriptorRegistry;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageImageDescriptor;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemMarkerManager.IErrorTicksComputer;
 
 /**
  * LabelDecorator that decorates an element's image with error and warning overlays that
@@ -122,6 +124,15 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 	private static final int ERRORTICK_IGNORE_OPTIONAL_PROBLEMS= JavaElementImageDescriptor.IGNORE_OPTIONAL_PROBLEMS;
 	private static final int ERRORTICK_INFO= JavaElementImageDescriptor.INFO;
 
+	/** Computes the error ticks of all markers in a container. */
+	private static final IErrorTicksComputer SUBTREE_ERROR_TICKS= res -> getErrorTicksFromMarkers(res, IResource.DEPTH_INFINITE);
+
+	/** Computes the error ticks of a package, see {@link #getPackageErrorTicksFromMarkers(IPackageFragment)}. */
+	private static final IErrorTicksComputer PACKAGE_ERROR_TICKS= res -> {
+		IPackageFragment pack= getPackageFragment(res);
+		return pack != null ? getPackageErrorTicksFromMarkers(pack) : 0;
+	};
+
 	private ImageDescriptorRegistry fRegistry;
 	private boolean fUseNewRegistry= false;
 	private IProblemChangedListener fProblemChangedListener;
@@ -192,7 +203,7 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 					case IJavaElement.JAVA_MODEL:
 					case IJavaElement.JAVA_PROJECT:
 					case IJavaElement.PACKAGE_FRAGMENT_ROOT:
-						int flags= getErrorTicksFromMarkers(element.getResource(), IResource.DEPTH_INFINITE, null);
+						int flags= getCachedErrorTicks(element.getResource(), SUBTREE_ERROR_TICKS);
 						switch (type) {
 							case IJavaElement.PACKAGE_FRAGMENT_ROOT:
 								IPackageFragmentRoot root= (IPackageFragmentRoot) element;
@@ -209,6 +220,9 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 						}
 						return flags;
 					case IJavaElement.PACKAGE_FRAGMENT:
+						IResource packageResource= element.getResource();
+						if (packageResource != null && element.equals(getPackageFragment(packageResource)))
+							return getCachedErrorTicks(packageResource, PACKAGE_ERROR_TICKS);
 						return getPackageErrorTicksFromMarkers((IPackageFragment) element);
 					case IJavaElement.COMPILATION_UNIT:
 					case IJavaElement.CLASS_FILE:
@@ -240,7 +254,7 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 					default:
 				}
 			} else if (obj instanceof IResource) {
-				return getErrorTicksFromMarkers((IResource) obj, IResource.DEPTH_INFINITE, null);
+				return getCachedErrorTicks((IResource) obj, SUBTREE_ERROR_TICKS);
 			}
 		} catch (CoreException e) {
 			if (e instanceof JavaModelException) {
@@ -279,37 +293,60 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 		return false;
 	}
 
+	private static IPackageFragment getPackageFragment(IResource res) {
+		IJavaElement element= JavaCore.create(res);
+		if (element instanceof IPackageFragmentRoot)
+			return ((IPackageFragmentRoot) element).getPackageFragment(""); //$NON-NLS-1$
+		return element instanceof IPackageFragment ? (IPackageFragment) element : null;
+	}
+
+	private static int getCachedErrorTicks(IResource res, IErrorTicksComputer computer) throws CoreException {
+		if (res == null)
+			return 0;
+		return JavaPlugin.getDefault().getProblemMarkerManager().getErrorTicks(res, computer);
+	}
+
 	private int getErrorTicksFromMarkers(IResource res, int depth, ISourceReference sourceElement) throws CoreException {
+		if (sourceElement == null) {
+			return getErrorTicksFromMarkers(res, depth);
+		}
 		if (res == null || !res.isAccessible()) {
 			return 0;
 		}
 		int severity= -1;
-		if (sourceElement == null) {
-			if (res instanceof IProject) {
-				severity= res.findMaxProblemSeverity(IJavaModelMarker.BUILDPATH_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
-				if (severity == IMarker.SEVERITY_ERROR) {
-					return ERRORTICK_BUILDPATH_ERROR;
-				}
-				severity= res.findMaxProblemSeverity(JavaRuntime.JRE_CONTAINER_MARKER, true, IResource.DEPTH_ZERO);
-				if (severity == IMarker.SEVERITY_ERROR) {
-					return ERRORTICK_BUILDPATH_ERROR;
-				}
-			}
-			severity= res.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
-		} else {
-			IMarker[] markers= res.findMarkers(IMarker.PROBLEM, true, depth);
-			if (markers != null && markers.length > 0) {
-				for (int i= 0; i < markers.length && (severity != IMarker.SEVERITY_ERROR); i++) {
-					IMarker curr= markers[i];
-					if (isMarkerInRange(curr, sourceElement)) {
-						int val= curr.getAttribute(IMarker.SEVERITY, -1);
-						if (val == IMarker.SEVERITY_INFO || val == IMarker.SEVERITY_WARNING || val == IMarker.SEVERITY_ERROR) {
-							severity= Math.max(severity, val);
-						}
+		IMarker[] markers= res.findMarkers(IMarker.PROBLEM, true, depth);
+		if (markers != null && markers.length > 0) {
+			for (int i= 0; i < markers.length && (severity != IMarker.SEVERITY_ERROR); i++) {
+				IMarker curr= markers[i];
+				if (isMarkerInRange(curr, sourceElement)) {
+					int val= curr.getAttribute(IMarker.SEVERITY, -1);
+					if (val == IMarker.SEVERITY_INFO || val == IMarker.SEVERITY_WARNING || val == IMarker.SEVERITY_ERROR) {
+						severity= Math.max(severity, val);
 					}
 				}
 			}
 		}
+		return toErrorTicks(severity);
+	}
+
+	private static int getErrorTicksFromMarkers(IResource res, int depth) throws CoreException {
+		if (res == null || !res.isAccessible()) {
+			return 0;
+		}
+		if (res instanceof IProject) {
+			int severity= res.findMaxProblemSeverity(IJavaModelMarker.BUILDPATH_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
+			if (severity == IMarker.SEVERITY_ERROR) {
+				return ERRORTICK_BUILDPATH_ERROR;
+			}
+			severity= res.findMaxProblemSeverity(JavaRuntime.JRE_CONTAINER_MARKER, true, IResource.DEPTH_ZERO);
+			if (severity == IMarker.SEVERITY_ERROR) {
+				return ERRORTICK_BUILDPATH_ERROR;
+			}
+		}
+		return toErrorTicks(res.findMaxProblemSeverity(IMarker.PROBLEM, true, depth));
+	}
+
+	private static int toErrorTicks(int severity) {
 		switch (severity) {
 		case IMarker.SEVERITY_ERROR:
 			return ERRORTICK_ERROR;
@@ -322,7 +359,7 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 		}
 	}
 
-	private int getPackageErrorTicksFromMarkers(IPackageFragment pack) throws CoreException {
+	private static int getPackageErrorTicksFromMarkers(IPackageFragment pack) throws CoreException {
 		// Packages are special: They must not consider markers on subpackages.
 
 		IResource res= pack.getResource();
@@ -362,7 +399,7 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 		return 0;
 	}
 
-	private int findMaxProblemSeverity (IResource res, String type, boolean includeSubtypes, int depth) throws CoreException {
+	private static int findMaxProblemSeverity (IResource res, String type, boolean includeSubtypes, int depth) throws CoreException {
 		try {
 			return res.findMaxProblemSeverity(type, includeSubtypes, depth);
 		} catch (CoreException e) {
@@ -31,7 +31,9 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.preference.IPreferenceStore;
 
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.Region;
@@ -287,6 +289,78 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		}
 	}
 
+	/**
+	 * The region of the document that has been modified since the last update, in the
+	 * coordinates of the current document.
+	 *
+	 * @since 3.21
+	 */
+	private static final class DirtyRegion implements IDocumentListener {
+		private final IDocument fDocument;
+		private int fStart= -1;
+		private int fEnd= -1;
+		/** The region consumed by the last update, kept for one more update. */
+		private int fLastStart= -1;
+		private int fLastEnd= -1;
+
+		DirtyRegion(IDocument document) {
+			fDocument= document;
+			document.addDocumentListener(this);
+		}
+
+		void dispose() {
+			fDocument.removeDocumentListener(this);
+		}
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+		}
+
+		@Override
+		public synchronized void documentChanged(DocumentEvent event) {
+			int offset= event.getOffset();
+			int length= event.getLength();
+			int textLength= event.getText() == null ? 0 : event.getText().length();
+			if (fStart == -1) {
+				fStart= offset;
+				fEnd= offset + textLength;
+			} else {
+				fEnd= fEnd >= offset + length ? fEnd + textLength - length : offset + textLength;
+				fEnd= Math.max(fEnd, offset + textLength);
+				fStart= Math.min(fStart, offset);
+			}
+			if (fLastStart != -1) {
+				if (fLastEnd >= offset + length)
+					fLastEnd+= textLength - length;
+				else if (fLastEnd > offset)
+					fLastEnd= offset + textLength;
+				if (fLastStart >= offset + length)
+					fLastStart+= textLength - length;
+				else if (fLastStart > offset)
+					fLastStart= offset;
+			}
+		}
+
+		/**
+		 * Returns the region modified since the last call, together with the region returned by
+		 * the last call. Edits made while the model was reconciled may not be reflected by the
+		 * model yet, they are therefore covered by the next update as well.
+		 *
+		 * @return the dirty region, or <code>null</code> if the document has not been modified
+		 */
+		synchronized IRegion consume() {
+			if (fStart == -1)
+				return null;
+			int start= fLastStart == -1 ? fStart : Math.min(fStart, fLastStart);
+			int end= fLastStart == -1 ? fEnd : Math.max(fEnd, fLastEnd);
+			fLastStart= fStart;
+			fLastEnd= fEnd;
+			fStart= -1;
+			fEnd= -1;
+			return new Region(start, end - start);
+		}
+	}
+
 	/**
 	 * Filter for annotations.
 	 */
@@ -365,7 +439,10 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 				fUpdatingCount++;
 				try {
-					update(createContext(false));
+					IRegion dirtyRegion= fDirtyRegion != null ? fDirtyRegion.consume() : null;
+					if (e.getType() != ElementChangedEvent.POST_RECONCILE || dirtyRegion == null || hasStructuralChange(delta)
+							|| !updateIncrementally(createContext(false), dirtyRegion))
+						update(createContext(false));
 				} finally {
 					fUpdatingCount--;
 				}
@@ -425,6 +502,26 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 			return false;
 		}
 
+		/**
+		 * Tells whether elements have been added or removed, which may change the handles of
+		 * elements outside of the modified region.
+		 *
+		 * @param delta the delta of the input element
+		 * @return <code>true</code> if the structure of the input element has changed
+		 * @since 3.21
+		 */
+		private boolean hasStructuralChange(IJavaElementDelta delta) {
+			return (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) == 0 || hasAddedOrRemovedChildren(delta);
+		}
+
+		private boolean hasAddedOrRemovedChildren(IJavaElementDelta delta) {
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (child.getKind() != IJavaElementDelta.CHANGED || hasAddedOrRemovedChildren(child))
+					return true;
+			}
+			return false;
+		}
+
 		private IJavaElementDelta findElement(IJavaElement target, IJavaElementDelta delta) {
 
 			if (delta == null || target == null)
@@ -727,6 +824,12 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 	private volatile int fUpdatingCount= 0;
 
+	/**
+	 * The region modified since the last update, or <code>null</code> if not tracked.
+	 * @since 3.21
+	 */
+	private DirtyRegion fDirtyRegion;
+
 	/**
 	 * Creates a new folding provider. It must be
 	 * {@link #install(ITextEditor, ProjectionViewer) installed} on an editor/viewer pair before it
@@ -831,6 +934,14 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 			JavaCore.removeElementChangedListener(fElementListener);
 			fElementListener= null;
 		}
+		disposeDirtyRegion();
+	}
+
+	private void disposeDirtyRegion() {
+		if (fDirtyRegion != null) {
+			fDirtyRegion.dispose();
+			fDirtyRegion= null;
+		}
 	}
 
 	/*
@@ -852,7 +963,11 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		if (fInput == null)
 			return null;
 
-		return createContext(true);
+		FoldingStructureComputationContext ctx= createContext(true);
+		disposeDirtyRegion();
+		if (ctx != null)
+			fDirtyRegion= new DirtyRegion(ctx.getDocument());
+		return ctx;
 	}
 
 	private FoldingStructureComputationContext createContext(boolean allowCollapse) {
@@ -891,13 +1006,89 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		if (ctx == null)
 			return;
 
+		computeFoldingStructure(ctx);
+		update(ctx, computeCurrentStructure(ctx, null));
+	}
+
+	/**
+	 * Updates the folding structure of the members that intersect the modified region only. The
+	 * positions of the other members have been kept up to date by the document and are reused.
+	 *
+	 * @param ctx the context
+	 * @param dirtyRegion the region modified since the last update
+	 * @return <code>false</code> if the folding structure has to be computed from scratch
+	 * @since 3.21
+	 */
+	private boolean updateIncrementally(FoldingStructureComputationContext ctx, IRegion dirtyRegion) {
+		if (ctx == null)
+			return true;
+		if (!(fInput instanceof ISourceReference) || !(fInput instanceof IParent))
+			return false;
+
+		try {
+			IJavaElement[] children= ((IParent) fInput).getChildren();
+			IType firstType= null;
+			for (IJavaElement child : children) {
+				if (child instanceof IType) {
+					firstType= (IType) child;
+					break;
+				}
+			}
+			if (firstType == null)
+				return false;
+			ISourceRange firstTypeRange= firstType.getSourceRange();
+			if (!SourceRange.isAvailable(firstTypeRange) || dirtyRegion.getOffset() < firstTypeRange.getOffset())
+				return false; // header comment, package or imports modified
+			if (!intersects(firstTypeRange, dirtyRegion))
+				ctx.setFirstType(firstType); // not recomputed, but must not be taken for another type
+
+			String source= ((ISourceReference) fInput).getSource();
+			if (source == null)
+				return false;
+			ctx.getScanner().setSource(source.toCharArray());
+
+			Set<IJavaElement> affected= new HashSet<>();
+			computeFoldingStructure(children, dirtyRegion, affected, ctx);
+			update(ctx, computeCurrentStructure(ctx, affected));
+			return true;
+		} catch (JavaModelException x) {
+			return false;
+		}
+	}
+
+	private void computeFoldingStructure(IJavaElement[] elements, IRegion dirtyRegion, Set<IJavaElement> affected, FoldingStructureComputationContext ctx) throws JavaModelException {
+		for (IJavaElement element : elements) {
+			if (element instanceof ISourceReference && intersects(((ISourceReference) element).getSourceRange(), dirtyRegion)) {
+				affected.add(element);
+				computeFoldingStructure(element, ctx);
+
+				if (element instanceof IParent) {
+					IParent parent= (IParent) element;
+					computeFoldingStructure(parent.getChildren(), dirtyRegion, affected, ctx);
+				}
+			}
+		}
+	}
+
+	private static boolean intersects(ISourceRange range, IRegion region) {
+		return SourceRange.isAvailable(range) && range.getOffset() <= region.getOffset() + region.getLength()
+				&& region.getOffset() <= range.getOffset() + range.getLength();
+	}
+
+	/**
+	 * Applies the computed folding structure to the projection model.
+	 *
+	 * @param ctx the context with the computed folding structure
+	 * @param oldStructure the current annotations of the elements whose folding structure has been
+	 *            computed
+	 * @since 3.21
+	 */
+	private void update(FoldingStructureComputationContext ctx, Map<IJavaElement, List<Tuple>> oldStructure) {
 		Map<JavaProjectionAnnotation, Position> additions= new HashMap<>();
 		List<JavaProjectionAnnotation> deletions= new ArrayList<>();
 		List<JavaProjectionAnnotation> updates= new ArrayList<>();
 
-		computeFoldingStructure(ctx);
 		Map<JavaProjectionAnnotation, Position> newStructure= ctx.fMap;
-		Map<IJavaElement, List<Tuple>> oldStructure= computeCurrentStructure(ctx);
 
 		Iterator<JavaProjectionAnnotation> e= newStructure.keySet().iterator();
 		while (e.hasNext()) {
@@ -1391,13 +1582,20 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		return null;
 	}
 
-	private Map<IJavaElement, List<Tuple>> computeCurrentStructure(FoldingStructureComputationContext ctx) {
+	/**
+	 * Returns the current annotations of the given elements.
+	 *
+	 * @param ctx the context
+	 * @param elements the elements, or <code>null</code> for all elements
+	 * @return the annotation/position tuples of each element, sorted by offset
+	 */
+	private Map<IJavaElement, List<Tuple>> computeCurrentStructure(FoldingStructureComputationContext ctx, Set<IJavaElement> elements) {
 		Map<IJavaElement, List<Tuple>> map= new HashMap<>();
 		ProjectionAnnotationModel model= ctx.getModel();
 		Iterator<Annotation> e= model.getAnnotationIterator();
 		while (e.hasNext()) {
 			Object annotation= e.next();
-			if (annotation instanceof JavaProjectionAnnotation) {
+			if (annotation instanceof JavaProjectionAnnotation && (elements == null || elements.contains(((JavaProjectionAnnotation) annotation).getElement()))) {
 				JavaProjectionAnnotation java= (JavaProjectionAnnotation) annotation;
 				Position position= model.getPosition(java);
 				Assert.isNotNull(position);
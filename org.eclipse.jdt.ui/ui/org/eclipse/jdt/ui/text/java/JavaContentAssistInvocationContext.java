@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,11 @@ import org.eclipse.jdt.internal.ui.text.java.ContentAssistHistory.RHSHistory;
 /**
  * Describes the context of a content assist invocation in a Java editor.
  * <p>
+ * The lazily computed values are guarded by separate locks, since the proposal categories of an
+ * invocation may be computed concurrently. Running code completion for the core context does
+ * not block access to the compilation unit or the label provider.
+ * </p>
+ * <p>
  * Clients may use but not subclass this class.
  * </p>
  *
@@ -49,14 +54,22 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	private final IEditorPart fEditor;
 
 	private IJavaProject fJavaProject;
+	/** Guards {@link #fCU} and {@link #fCUComputed}. */
+	private final Object fCULock= new Object();
 	private ICompilationUnit fCU= null;
 	private boolean fCUComputed= false;
 
+	/** Guards {@link #fLabelProvider}. */
+	private final Object fLabelProviderLock= new Object();
 	private CompletionProposalLabelProvider fLabelProvider;
-	private CompletionProposalCollector fCollector;
+	private volatile CompletionProposalCollector fCollector;
+	/** Guards {@link #fRHSHistory} and {@link #fType}. */
+	private final Object fExpectedTypeLock= new Object();
 	private RHSHistory fRHSHistory;
 	private IType fType;
 
+	/** Guards {@link #fKeywordProposals} and {@link #fCoreContext}, held while running code completion. */
+	private final Object fCompletionLock= new Object();
 	private IJavaCompletionProposal[] fKeywordProposals= null;
 	private CompletionContext fCoreContext= null;
 
@@ -104,18 +117,21 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 * @return the compilation unit that content assist is invoked in, possibly <code>null</code>
 	 */
 	public ICompilationUnit getCompilationUnit() {
-		if (!fCUComputed) {
-			fCUComputed= true;
-			if (fCollector != null) {
-				fCU= fCollector.getCompilationUnit();
-			} else {
-				IJavaElement je= EditorUtility.getEditorInputJavaElement(fEditor, false);
-				if (je instanceof ICompilationUnit) {
-					fCU= (ICompilationUnit)je;
+		synchronized (fCULock) {
+			if (!fCUComputed) {
+				fCUComputed= true;
+				CompletionProposalCollector collector= fCollector;
+				if (collector != null) {
+					fCU= collector.getCompilationUnit();
+				} else {
+					IJavaElement je= EditorUtility.getEditorInputJavaElement(fEditor, false);
+					if (je instanceof ICompilationUnit) {
+						fCU= (ICompilationUnit)je;
+					}
 				}
 			}
+			return fCU;
 		}
-		return fCU;
 	}
 
 	/**
@@ -140,17 +156,20 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 * @return the available keyword proposals
 	 */
 	public IJavaCompletionProposal[] getKeywordProposals() {
-		if (fKeywordProposals == null) {
-			if (fCollector != null && !fCollector.isIgnored(CompletionProposal.KEYWORD) && fCollector.getContext() != null) {
-				// use the existing collector if it exists, collects keywords, and has already been invoked
-				fKeywordProposals= fCollector.getKeywordCompletionProposals();
-			} else {
-				// otherwise, retrieve keywords ourselves
-				computeKeywordsAndContext();
+		synchronized (fCompletionLock) {
+			if (fKeywordProposals == null) {
+				CompletionProposalCollector collector= fCollector;
+				if (collector != null && !collector.isIgnored(CompletionProposal.KEYWORD) && collector.getContext() != null) {
+					// use the existing collector if it exists, collects keywords, and has already been invoked
+					fKeywordProposals= collector.getKeywordCompletionProposals();
+				} else {
+					// otherwise, retrieve keywords ourselves
+					computeKeywordsAndContext();
+				}
 			}
-		}
 
-		return fKeywordProposals;
+			return fKeywordProposals;
+		}
 	}
 
 	/**
@@ -165,21 +184,24 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 * @return the core completion context if available, <code>null</code> otherwise
 	 */
 	public CompletionContext getCoreContext() {
-		if (fCollector != null) {
-			CompletionContext context= fCollector.getContext();
-			if (context != null) {
-				if (fCoreContext == null) {
-					fCoreContext= context;
+		synchronized (fCompletionLock) {
+			CompletionProposalCollector collector= fCollector;
+			if (collector != null) {
+				CompletionContext context= collector.getContext();
+				if (context != null) {
+					if (fCoreContext == null) {
+						fCoreContext= context;
+					}
+					return context;
 				}
-				return context;
 			}
-		}
 
-		if (fCoreContext == null) {
-			computeKeywordsAndContext(); // Retrieve the context ourselves
-		}
+			if (fCoreContext == null) {
+				computeKeywordsAndContext(); // Retrieve the context ourselves
+			}
 
-		return fCoreContext;
+			return fCoreContext;
+		}
 	}
 
 	/**
@@ -206,20 +228,22 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 * @return the content assist type history for the expected type
 	 */
 	private RHSHistory getRHSHistory() {
-		if (fRHSHistory == null) {
-			CompletionContext context= getCoreContext();
-			if (context != null) {
-				char[][] expectedTypes= context.getExpectedTypesSignatures();
-				if (expectedTypes != null && expectedTypes.length > 0) {
-					String expected= SignatureUtil.stripSignatureToFQN(String.valueOf(expectedTypes[0]));
-					fRHSHistory= JavaPlugin.getDefault().getContentAssistHistory().getHistory(expected);
-				}
-			}
+		synchronized (fExpectedTypeLock) {
 			if (fRHSHistory == null) {
-				fRHSHistory= JavaPlugin.getDefault().getContentAssistHistory().getHistory(null);
+				CompletionContext context= getCoreContext();
+				if (context != null) {
+					char[][] expectedTypes= context.getExpectedTypesSignatures();
+					if (expectedTypes != null && expectedTypes.length > 0) {
+						String expected= SignatureUtil.stripSignatureToFQN(String.valueOf(expectedTypes[0]));
+						fRHSHistory= JavaPlugin.getDefault().getContentAssistHistory().getHistory(expected);
+					}
+				}
+				if (fRHSHistory == null) {
+					fRHSHistory= JavaPlugin.getDefault().getContentAssistHistory().getHistory(null);
+				}
 			}
+			return fRHSHistory;
 		}
-		return fRHSHistory;
 	}
 
 	/**
@@ -233,23 +257,25 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 * @return the expected type if any, <code>null</code> otherwise
 	 */
 	public IType getExpectedType() {
-		if (fType == null && getCompilationUnit() != null) {
-			CompletionContext context= getCoreContext();
-			if (context != null) {
-				char[][] expectedTypes= context.getExpectedTypesSignatures();
-				if (expectedTypes != null && expectedTypes.length > 0) {
-					IJavaProject project= getCompilationUnit().getJavaProject();
-					if (project != null) {
-						try {
-							fType= project.findType(SignatureUtil.stripSignatureToFQN(String.valueOf(expectedTypes[0])));
-						} catch (JavaModelException x) {
-							JavaPlugin.log(x);
+		synchronized (fExpectedTypeLock) {
+			if (fType == null && getCompilationUnit() != null) {
+				CompletionContext context= getCoreContext();
+				if (context != null) {
+					char[][] expectedTypes= context.getExpectedTypesSignatures();
+					if (expectedTypes != null && expectedTypes.length > 0) {
+						IJavaProject project= getCompilationUnit().getJavaProject();
+						if (project != null) {
+							try {
+								fType= project.findType(SignatureUtil.stripSignatureToFQN(String.valueOf(expectedTypes[0])));
+							} catch (JavaModelException x) {
+								JavaPlugin.log(x);
+							}
 						}
 					}
 				}
 			}
+			return fType;
 		}
-		return fType;
 	}
 
 	/**
@@ -258,15 +284,18 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 * @return a label provider that can be used to compute proposal labels
 	 */
 	public CompletionProposalLabelProvider getLabelProvider() {
-		if (fLabelProvider == null) {
-			if (fCollector != null) {
-				fLabelProvider= fCollector.getLabelProvider();
-			} else {
-				fLabelProvider= new CompletionProposalLabelProvider();
+		synchronized (fLabelProviderLock) {
+			if (fLabelProvider == null) {
+				CompletionProposalCollector collector= fCollector;
+				if (collector != null) {
+					fLabelProvider= collector.getLabelProvider();
+				} else {
+					fLabelProvider= new CompletionProposalLabelProvider();
+				}
 			}
-		}
 
-		return fLabelProvider;
+			return fLabelProvider;
+		}
 	}
 
 	/**
@@ -287,7 +316,7 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	/**
 	 * Fallback to retrieve a core context and keyword proposals when no collector is available.
 	 * Runs code completion on the cu and collects keyword proposals. {@link #fKeywordProposals} is
-	 * non-<code>null</code> after this call.
+	 * non-<code>null</code> after this call. Must be called while holding {@link #fCompletionLock}.
 	 *
 	 * @since 3.3
 	 */
@@ -311,8 +340,10 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 			if (fKeywordProposals == null) {
 				fKeywordProposals= collector.getKeywordCompletionProposals();
 			}
-			if (fLabelProvider == null) {
-				fLabelProvider= collector.getLabelProvider();
+			synchronized (fLabelProviderLock) {
+				if (fLabelProvider == null) {
+					fLabelProvider= collector.getLabelProvider();
+				}
 			}
 		} catch (JavaModelException x) {
 			if (!x.isDoesNotExist() || cu.getJavaProject() == null || cu.getJavaProject().isOnClasspath(cu)) {
@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.core.refactoring.tests.history;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.text.edits.InsertEdit;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.PerformRefactoringHistoryOperation;
+import org.eclipse.ltk.core.refactoring.Refactoring;
+import org.eclipse.ltk.core.refactoring.RefactoringContext;
+import org.eclipse.ltk.core.refactoring.RefactoringDescriptor;
+import org.eclipse.ltk.core.refactoring.RefactoringDescriptorProxy;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.TextFileChange;
+import org.eclipse.ltk.core.refactoring.tests.util.SimpleTestProject;
+import org.eclipse.ltk.internal.core.refactoring.history.RefactoringDescriptorProxyAdapter;
+import org.eclipse.ltk.internal.core.refactoring.history.RefactoringHistoryImplementation;
+
+public class PerformRefactoringHistoryOperationTests {
+
+	/**
+	 * Appends a text to a file, at the end of the file at the time the change is created.
+	 */
+	private class AppendRefactoring extends Refactoring {
+		private final IFile fFile;
+		private final String fText;
+
+		public AppendRefactoring(IFile file, String text) {
+			fFile= file;
+			fText= text;
+		}
+
+		@Override
+		public String getName() {
+			return "Append " + fText;
+		}
+
+		@Override
+		public RefactoringStatus checkInitialConditions(IProgressMonitor pm) throws CoreException, OperationCanceledException {
+			return new RefactoringStatus();
+		}
+
+		@Override
+		public RefactoringStatus checkFinalConditions(IProgressMonitor pm) throws CoreException, OperationCanceledException {
+			return new RefactoringStatus();
+		}
+
+		@Override
+		public Change createChange(IProgressMonitor pm) throws CoreException, OperationCanceledException {
+			fCreatedChanges++;
+			int length;
+			try {
+				length= fProject.getContent(fFile).length();
+			} catch (IOException e) {
+				throw new OperationCanceledException(e.getMessage());
+			}
+			TextFileChange change= new TextFileChange(getName(), fFile);
+			change.setEdit(new InsertEdit(length, fText));
+			return change;
+		}
+	}
+
+	private SimpleTestProject fProject;
+
+	private int fCreatedChanges;
+
+	/** The calls of the hooks, with the content of the file at the time of the call */
+	private List<String> fHookCalls;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= new SimpleTestProject();
+		fCreatedChanges= 0;
+		fHookCalls= new ArrayList<>();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fProject.delete();
+	}
+
+	private RefactoringStatus perform(Refactoring[] refactorings, int batchSize) throws CoreException {
+		Map<RefactoringDescriptor, Refactoring> map= new HashMap<>();
+		RefactoringDescriptorProxy[] proxies= new RefactoringDescriptorProxy[refactorings.length];
+		for (int i= 0; i < refactorings.length; i++) {
+			MockRefactoringDescriptor descriptor= new MockRefactoringDescriptor(SimpleTestProject.TEST_PROJECT_NAME, refactorings[i].getName(), null, RefactoringDescriptor.NONE);
+			// the history is ordered from the most recent refactoring to the oldest
+			descriptor.setTimeStamp(refactorings.length - i);
+			map.put(descriptor, refactorings[i]);
+			proxies[i]= new RefactoringDescriptorProxyAdapter(descriptor);
+		}
+		PerformRefactoringHistoryOperation operation= new PerformRefactoringHistoryOperation(new RefactoringHistoryImplementation(proxies)) {
+			@Override
+			protected RefactoringContext createRefactoringContext(RefactoringDescriptor descriptor, RefactoringStatus status, IProgressMonitor monitor) throws CoreException {
+				return new RefactoringContext(map.get(descriptor));
+			}
+
+			@Override
+			protected RefactoringStatus aboutToPerformRefactoring(Refactoring refactoring, RefactoringDescriptor descriptor, IProgressMonitor monitor) {
+				fHookCalls.add("about " + getHookDetails(refactoring));
+				return super.aboutToPerformRefactoring(refactoring, descriptor, monitor);
+			}
+
+			@Override
+			protected void refactoringPerformed(Refactoring refactoring, IProgressMonitor monitor) {
+				fHookCalls.add("performed " + getHookDetails(refactoring));
+				super.refactoringPerformed(refactoring, monitor);
+			}
+		};
+		operation.setBatchSize(batchSize);
+		ResourcesPlugin.getWorkspace().run(operation, new NullProgressMonitor());
+		return operation.getExecutionStatus();
+	}
+
+	private String getHookDetails(Refactoring refactoring) {
+		AppendRefactoring append= (AppendRefactoring) refactoring;
+		try {
+			return append.fText + ": " + fProject.getContent(append.fFile);
+		} catch (IOException e) {
+			return append.fText + ": " + e;
+		}
+	}
+
+	private void assertHookCalls(String... expected) {
+		StringBuilder expectedCalls= new StringBuilder();
+		for (String call : expected)
+			expectedCalls.append(call).append('\n');
+		StringBuilder actualCalls= new StringBuilder();
+		for (String call : fHookCalls)
+			actualCalls.append(call).append('\n');
+		assertEquals(expectedCalls.toString(), actualCalls.toString());
+	}
+
+	private Refactoring[] createRefactorings(IFile a, IFile b) {
+		return new Refactoring[] {
+				new AppendRefactoring(a, "1"),
+				new AppendRefactoring(b, "2"),
+				new AppendRefactoring(a, "3"),
+				new AppendRefactoring(b, "4"),
+				new AppendRefactoring(b, "5")
+		};
+	}
+
+	@Test
+	public void testSequential() throws Exception {
+		IFile a= fProject.createFile(fProject.getProject(), "a.txt", "a");
+		IFile b= fProject.createFile(fProject.getProject(), "b.txt", "b");
+
+		RefactoringStatus status= perform(createRefactorings(a, b), 1);
+
+		assertTrue(status.toString(), status.isOK());
+		assertEquals("a13", fProject.getContent(a));
+		assertEquals("b245", fProject.getContent(b));
+		assertEquals(5, fCreatedChanges);
+	}
+
+	@Test
+	public void testBatched() throws Exception {
+		IFile a= fProject.createFile(fProject.getProject(), "a.txt", "a");
+		IFile b= fProject.createFile(fProject.getProject(), "b.txt", "b");
+
+		RefactoringStatus status= perform(createRefactorings(a, b), 10);
+
+		assertTrue(status.toString(), status.isOK());
+		assertEquals("a13", fProject.getContent(a));
+		assertEquals("b245", fProject.getContent(b));
+		// 1 and 2 are batched, 3 conflicts with 1 and is created again, 4 is batched with 3, 5 conflicts with 4
+		assertEquals(7, fCreatedChanges);
+	}
+
+	@Test
+	public void testBatchSize() throws Exception {
+		IFile a= fProject.createFile(fProject.getProject(), "a.txt", "a");
+		IFile b= fProject.createFile(fProject.getProject(), "b.txt", "b");
+		IFile c= fProject.createFile(fProject.getProject(), "c.txt", "c");
+
+		RefactoringStatus status= perform(new Refactoring[] {
+				new AppendRefactoring(a, "1"),
+				new AppendRefactoring(b, "2"),
+				new AppendRefactoring(c, "3")
+		}, 2);
+
+		assertTrue(status.toString(), status.isOK());
+		assertEquals("a1", fProject.getContent(a));
+		assertEquals("b2", fProject.getContent(b));
+		assertEquals("c3", fProject.getContent(c));
+		assertEquals(3, fCreatedChanges);
+	}
+
+	@Test
+	public void testHooksSequential() throws Exception {
+		IFile a= fProject.createFile(fProject.getProject(), "a.txt", "a");
+		IFile b= fProject.createFile(fProject.getProject(), "b.txt", "b");
+
+		perform(createRefactorings(a, b), 1);
+
+		assertHookCalls(
+				"about 1: a",
+				"performed 1: a1",
+				"about 2: b",
+				"performed 2: b2",
+				"about 3: a1",
+				"performed 3: a13",
+				"about 4: b2",
+				"performed 4: b24",
+				"about 5: b24",
+				"performed 5: b245");
+	}
+
+	@Test
+	public void testHooksBatched() throws Exception {
+		IFile a= fProject.createFile(fProject.getProject(), "a.txt", "a");
+		IFile b= fProject.createFile(fProject.getProject(), "b.txt", "b");
+
+		perform(createRefactorings(a, b), 10);
+
+		// every announced refactoring is reported as performed exactly once, right after its change
+		assertHookCalls(
+				"about 1: a",
+				"about 2: b",
+				"about 3: a",
+				"performed 3: a",
+				"performed 1: a1",
+				"performed 2: b2",
+				"about 3: a1",
+				"about 4: b2",
+				"about 5: b2",
+				"performed 5: b2",
+				"performed 3: a13",
+				"performed 4: b24",
+				"about 5: b24",
+				"performed 5: b245");
+	}
+}
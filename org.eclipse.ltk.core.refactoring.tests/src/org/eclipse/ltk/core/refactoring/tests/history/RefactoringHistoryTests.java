@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2020 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,7 +19,8 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 	RefactoringHistorySerializationTests.class,
-	RefactoringHistoryServiceTests.class
+	RefactoringHistoryServiceTests.class,
+	PerformRefactoringHistoryOperationTests.class
 })
 public class RefactoringHistoryTests {
 }
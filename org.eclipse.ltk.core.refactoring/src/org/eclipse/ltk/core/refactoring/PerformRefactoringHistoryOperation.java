@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2011 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,20 @@
  *******************************************************************************/
 package org.eclipse.ltk.core.refactoring;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.SubProgressMonitor;
 
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.ResourcesPlugin;
 
@@ -51,6 +60,86 @@ import org.eclipse.ltk.internal.core.refactoring.history.RefactoringHistoryServi
  */
 public class PerformRefactoringHistoryOperation implements IWorkspaceRunnable {
 
+	/**
+	 * A refactoring whose change has been created but not yet performed.
+	 */
+	private static final class PreparedRefactoring {
+
+		private final RefactoringStatus fStatus= new RefactoringStatus();
+
+		private RefactoringContext fContext;
+
+		private Change fChange;
+
+		/** The full paths of the resources modified by the change */
+		private final Set<IPath> fPaths= new HashSet<>();
+
+		/** Does the change create, delete, move or rename resources? */
+		private boolean fStructural;
+
+		/** Does the change modify anything which is not a resource? */
+		private boolean fUnknown;
+
+		/** Has the refactoring been announced to be performed? */
+		private boolean fAnnounced;
+
+		/** Has the refactoring been released? */
+		private boolean fReleased;
+
+		private void collectModifiedResources(final Change change) {
+			if (change instanceof CompositeChange) {
+				for (Change child : ((CompositeChange) change).getChildren())
+					collectModifiedResources(child);
+				return;
+			}
+			IResource resource= null;
+			if (change instanceof TextFileChange) {
+				resource= ((TextFileChange) change).getFile();
+			} else {
+				fStructural= true;
+				final Object element= change.getModifiedElement();
+				if (element instanceof IResource)
+					resource= (IResource) element;
+				else if (element instanceof IAdaptable)
+					resource= ((IAdaptable) element).getAdapter(IResource.class);
+			}
+			if (resource != null) {
+				fPaths.add(resource.getFullPath());
+				if (fStructural && resource.getParent() != null)
+					fPaths.add(resource.getParent().getFullPath());
+			} else
+				fUnknown= true;
+		}
+
+		private boolean conflictsWith(final PreparedRefactoring other) {
+			if (fUnknown || other.fUnknown || fStructural && other.fStructural)
+				return true;
+			for (IPath path : fPaths) {
+				for (IPath otherPath : other.fPaths) {
+					if (path.isPrefixOf(otherPath) || otherPath.isPrefixOf(path))
+						return true;
+				}
+			}
+			return false;
+		}
+
+		private boolean isPerformable() {
+			return fChange != null && !fStatus.hasFatalError();
+		}
+
+		private void dispose() {
+			if (fChange != null)
+				fChange.dispose();
+			fChange= null;
+			if (fContext != null)
+				fContext.dispose();
+			fContext= null;
+		}
+	}
+
+	/** The maximum number of refactorings to perform together */
+	private int fBatchSize= 1;
+
 	/** The status of the execution */
 	private RefactoringStatus fExecutionStatus= new RefactoringStatus();
 
@@ -192,6 +281,48 @@ public class PerformRefactoringHistoryOperation implements IWorkspaceRunnable {
 		return fExecutionStatus;
 	}
 
+	/**
+	 * Sets the maximum number of refactorings which are performed together.
+	 * <p>
+	 * By default, each refactoring is performed before the conditions of the
+	 * next one are checked. With a batch size greater than one, the changes of
+	 * consecutive refactorings which do not modify the same resources are
+	 * created against the same state of the workspace and are then performed
+	 * in one workspace operation. A refactoring whose change overlaps with the
+	 * batch, or whose creation or condition checking fails, is checked again
+	 * after the batch has been performed.
+	 * </p>
+	 * <p>
+	 * Batching only saves builds and resource change notifications if the
+	 * operation does not already run inside a workspace operation which defers
+	 * them. Conflicts are detected by the modified resources only: the
+	 * conditions of a refactoring in a batch are checked without the changes of
+	 * the earlier refactorings of the batch, even if they affect its semantics
+	 * from other files, e.g. a rename which creates an override in a subclass.
+	 * Clients should only enable batching for refactorings known not to depend
+	 * on each other that way.
+	 * </p>
+	 * <p>
+	 * {@link #refactoringPerformed(Refactoring, IProgressMonitor)} is called
+	 * for each refactoring of a batch right after its change has been
+	 * performed, before the change of the next refactoring is performed. A
+	 * refactoring which is checked again is announced again with
+	 * {@link #aboutToPerformRefactoring(Refactoring, RefactoringDescriptor, IProgressMonitor)};
+	 * <code>refactoringPerformed</code> is called for the discarded attempt
+	 * before.
+	 * </p>
+	 *
+	 * @param size
+	 *            the maximum number of refactorings to perform together,
+	 *            <code>1</code> to perform each refactoring on its own
+	 *
+	 * @since 3.12
+	 */
+	public final void setBatchSize(final int size) {
+		Assert.isLegal(size > 0);
+		fBatchSize= size;
+	}
+
 	/**
 	 * Hook method which is called when the specified refactoring has been
 	 * performed.
@@ -216,6 +347,10 @@ public class PerformRefactoringHistoryOperation implements IWorkspaceRunnable {
 		final IRefactoringHistoryService service= RefactoringHistoryService.getInstance();
 		try {
 			service.connect();
+			if (fBatchSize > 1) {
+				performBatched(proxies, monitor);
+				return;
+			}
 			for (RefactoringDescriptorProxy proxie : proxies) {
 				final RefactoringDescriptor descriptor= proxie.requestDescriptor(new SubProgressMonitor(monitor, 10, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL));
 				if (descriptor != null) {
@@ -254,4 +389,127 @@ public class PerformRefactoringHistoryOperation implements IWorkspaceRunnable {
 			monitor.done();
 		}
 	}
+
+	private void performBatched(final RefactoringDescriptorProxy[] proxies, final IProgressMonitor monitor) throws CoreException {
+		final List<PreparedRefactoring> batch= new ArrayList<>(fBatchSize);
+		try {
+			for (RefactoringDescriptorProxy proxy : proxies) {
+				final RefactoringDescriptor descriptor= proxy.requestDescriptor(new SubProgressMonitor(monitor, 10, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL));
+				if (descriptor == null)
+					continue;
+				PreparedRefactoring prepared= prepareRefactoring(descriptor, monitor);
+				if (!batch.isEmpty()) {
+					boolean stale= !prepared.isPerformable();
+					for (int index= 0; !stale && index < batch.size(); index++)
+						stale= batch.get(index).conflictsWith(prepared);
+					if (stale) {
+						// the refactoring may depend on the changes of the batch
+						release(prepared, false, new SubProgressMonitor(monitor, 10, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL));
+						performBatch(batch, monitor);
+						prepared= prepareRefactoring(descriptor, monitor);
+					} else if (batch.size() == fBatchSize)
+						performBatch(batch, monitor);
+				}
+				batch.add(prepared);
+				if (!prepared.isPerformable())
+					performBatch(batch, monitor);
+			}
+			performBatch(batch, monitor);
+		} finally {
+			for (PreparedRefactoring prepared : batch)
+				release(prepared, true, new NullProgressMonitor());
+			batch.clear();
+		}
+	}
+
+	private PreparedRefactoring prepareRefactoring(final RefactoringDescriptor descriptor, final IProgressMonitor monitor) throws CoreException {
+		final PreparedRefactoring prepared= new PreparedRefactoring();
+		try {
+			prepared.fContext= createRefactoringContext(descriptor, prepared.fStatus, new SubProgressMonitor(monitor, 30, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL));
+		} catch (CoreException exception) {
+			prepared.fStatus.merge(RefactoringStatus.create(exception.getStatus()));
+		}
+		if (prepared.fContext != null && !prepared.fStatus.hasFatalError()) {
+			final Refactoring refactoring= prepared.fContext.getRefactoring();
+			prepared.fAnnounced= true;
+			prepared.fStatus.merge(aboutToPerformRefactoring(refactoring, descriptor, new SubProgressMonitor(monitor, 30, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL)));
+			if (!prepared.fStatus.hasFatalError()) {
+				final CreateChangeOperation operation= new CreateChangeOperation(new CheckConditionsOperation(refactoring, CheckConditionsOperation.ALL_CONDITIONS), RefactoringStatus.FATAL);
+				try {
+					operation.run(new SubProgressMonitor(monitor, 60, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL));
+				} catch (CoreException | RuntimeException exception) {
+					release(prepared, false, new NullProgressMonitor());
+					throw exception;
+				}
+				prepared.fStatus.merge(operation.getConditionCheckingStatus());
+				prepared.fChange= operation.getChange();
+				if (prepared.fChange != null)
+					prepared.collectModifiedResources(prepared.fChange);
+			}
+		}
+		return prepared;
+	}
+
+	private void performBatch(final List<PreparedRefactoring> batch, final IProgressMonitor monitor) throws CoreException {
+		if (batch.isEmpty())
+			return;
+		try {
+			ResourcesPlugin.getWorkspace().run(pm -> {
+				pm.beginTask("", 2 * batch.size()); //$NON-NLS-1$
+				try {
+					for (PreparedRefactoring prepared : batch) {
+						try {
+							if (prepared.isPerformable()) {
+								final PerformChangeOperation operation= new PerformChangeOperation(prepared.fChange);
+								operation.setUndoManager(RefactoringCore.getUndoManager(), prepared.fContext.getRefactoring().getName());
+								operation.run(new SubProgressMonitor(pm, 1));
+								if (operation.changeExecuted())
+									prepared.fChange= null;
+								prepared.fStatus.merge(operation.getValidationStatus());
+							} else
+								pm.worked(1);
+						} finally {
+							// before the next change is performed, as in the sequential mode
+							release(prepared, true, new SubProgressMonitor(pm, 1));
+						}
+					}
+				} finally {
+					pm.done();
+				}
+			}, new SubProgressMonitor(monitor, 40 * batch.size(), SubProgressMonitor.SUPPRESS_SUBTASK_LABEL));
+		} finally {
+			for (PreparedRefactoring prepared : batch)
+				release(prepared, true, new NullProgressMonitor());
+			batch.clear();
+		}
+	}
+
+	/**
+	 * Releases a prepared refactoring. {@link #refactoringPerformed(Refactoring, IProgressMonitor)}
+	 * is called for every refactoring which has been announced, even if it is discarded.
+	 *
+	 * @param prepared
+	 *            the prepared refactoring
+	 * @param report
+	 *            <code>true</code> to report the status of the refactoring,
+	 *            <code>false</code> if the refactoring is discarded and prepared again
+	 * @param monitor
+	 *            the progress monitor to use
+	 */
+	private void release(final PreparedRefactoring prepared, final boolean report, final IProgressMonitor monitor) {
+		if (prepared.fReleased) {
+			monitor.done();
+			return;
+		}
+		prepared.fReleased= true;
+		try {
+			if (prepared.fAnnounced)
+				refactoringPerformed(prepared.fContext.getRefactoring(), monitor);
+		} finally {
+			if (report)
+				fExecutionStatus.merge(prepared.fStatus);
+			prepared.dispose();
+			monitor.done();
+		}
+	}
 }